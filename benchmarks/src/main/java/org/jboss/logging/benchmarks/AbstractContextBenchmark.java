@@ -0,0 +1,97 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+import org.jboss.logging.MDC;
+import org.jboss.logging.NDC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of the {@link MDC} and {@link NDC} operations of each provider, and of logging an enabled message
+ * while the MDC holds a few entries.
+ * <p>
+ * {@link ContextBenchmark} runs the benchmarks for the log managers selected by its {@code provider} parameter and
+ * {@link JBossContextBenchmark} for the JBoss Log Manager, which has to be installed when the JVM starts.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractContextBenchmark {
+
+    private Logger logger;
+
+    @Setup
+    public void setup() {
+        Backend.configure(provider());
+        logger = Logger.getLogger(AbstractContextBenchmark.class);
+    }
+
+    /**
+     * Returns the {@code org.jboss.logging.provider} value of the log manager to measure.
+     *
+     * @return the provider name
+     */
+    abstract String provider();
+
+    @Benchmark
+    public void mdcPutRemove() {
+        MDC.put("key", "value");
+        MDC.remove("key");
+    }
+
+    @Benchmark
+    public Object mdcGet() {
+        MDC.put("key", "value");
+        return MDC.get("key");
+    }
+
+    @Benchmark
+    public void ndcPushPop() {
+        NDC.push("value");
+        NDC.pop();
+    }
+
+    @Benchmark
+    public void enabledWithMdc() {
+        MDC.put("request", "1234");
+        MDC.put("user", "admin");
+        MDC.put("tenant", "acme");
+        try {
+            logger.infof("Message %s", "one");
+        } finally {
+            MDC.clear();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of logging through each provider, both when the level is disabled and when the message is
+ * formatted and handed to an appender or handler which discards it.
+ * <p>
+ * The root level is {@code INFO}, so {@code debug} calls take the disabled path and {@code info} calls the enabled
+ * path. The enabled primitive benchmarks log to the {@linkplain Backend#TRACE_CATEGORY trace category}, as only the
+ * {@code debugf} and {@code tracef} methods have primitive overloads. Run with {@code -prof gc} to see the allocation
+ * rate of each path and with {@code -t} to compare contention.
+ * </p>
+ * <p>
+ * {@link LoggerBenchmark} runs the benchmarks for the log managers selected by its {@code provider} parameter and
+ * {@link JBossLoggerBenchmark} for the JBoss Log Manager, which has to be installed when the JVM starts.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractLoggerBenchmark {
+
+    private Logger logger;
+    private Logger traceLogger;
+    private final Object p1 = "one";
+    private final Object p2 = "two";
+    private final Object p3 = "three";
+    private final Object p4 = "four";
+    private final Object p5 = "five";
+    private final Object p6 = "six";
+    private final Object p7 = "seven";
+    private final Object p8 = "eight";
+    private final int i1 = 42;
+    private final long l1 = 42L;
+    private final Throwable thrown = new RuntimeException("benchmark");
+
+    @Setup
+    public void setup() {
+        Backend.configure(provider());
+        logger = Logger.getLogger(AbstractLoggerBenchmark.class);
+        traceLogger = Logger.getLogger(Backend.TRACE_CATEGORY);
+    }
+
+    /**
+     * Returns the {@code org.jboss.logging.provider} value of the log manager to measure.
+     *
+     * @return the provider name
+     */
+    abstract String provider();
+
+    // Disabled level
+
+    @Benchmark
+    public void disabledMessage() {
+        logger.debug("Message");
+    }
+
+    @Benchmark
+    public void disabledF1() {
+        logger.debugf("Message %s", p1);
+    }
+
+    @Benchmark
+    public void disabledV1() {
+        logger.debugv("Message {0}", p1);
+    }
+
+    @Benchmark
+    public void disabledF3() {
+        logger.debugf("Message %s %s %s", p1, p2, p3);
+    }
+
+    @Benchmark
+    public void disabledF8() {
+        logger.debugf("Message %s %s %s %s %s %s %s %s", p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Benchmark
+    public void disabledPrimitiveInt() {
+        logger.tracef("Message %d", i1);
+    }
+
+    @Benchmark
+    public void disabledPrimitiveLong() {
+        logger.tracef("Message %d", l1);
+    }
+
+    @Benchmark
+    public void disabledThrowable() {
+        logger.debugf(thrown, "Message %s", p1);
+    }
+
+    @Benchmark
+    public void disabledSupplier() {
+        logger.debugLazy(() -> "Message " + p1);
+    }
+
+    @Benchmark
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+    // Enabled level
+
+    @Benchmark
+    public void enabledMessage() {
+        logger.info("Message");
+    }
+
+    @Benchmark
+    public void enabledF1() {
+        logger.infof("Message %s", p1);
+    }
+
+    @Benchmark
+    public void enabledV1() {
+        logger.infov("Message {0}", p1);
+    }
+
+    @Benchmark
+    public void enabledF2() {
+        logger.infof("Message %s %s", p1, p2);
+    }
+
+    @Benchmark
+    public void enabledV2() {
+        logger.infov("Message {0} {1}", p1, p2);
+    }
+
+    @Benchmark
+    public void enabledF3() {
+        logger.infof("Message %s %s %s", p1, p2, p3);
+    }
+
+    @Benchmark
+    public void enabledV3() {
+        logger.infov("Message {0} {1} {2}", p1, p2, p3);
+    }
+
+    @Benchmark
+    public void enabledF4() {
+        logger.infof("Message %s %s %s %s", p1, p2, p3, p4);
+    }
+
+    @Benchmark
+    public void enabledF6() {
+        logger.infof("Message %s %s %s %s %s %s", p1, p2, p3, p4, p5, p6);
+    }
+
+    @Benchmark
+    public void enabledF8() {
+        logger.infof("Message %s %s %s %s %s %s %s %s", p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Benchmark
+    public void enabledV8() {
+        logger.infov("Message {0} {1} {2} {3} {4} {5} {6} {7}", p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Benchmark
+    public void enabledPrimitiveInt() {
+        traceLogger.tracef("Message %d", i1);
+    }
+
+    @Benchmark
+    public void enabledPrimitiveLong() {
+        traceLogger.debugf("Message %d", l1);
+    }
+
+    @Benchmark
+    public void enabledThrowable() {
+        logger.infof(thrown, "Message %s", p1);
+    }
+
+    @Benchmark
+    public void enabledSupplier() {
+        logger.infoLazy(() -> "Message " + p1);
+    }
+}
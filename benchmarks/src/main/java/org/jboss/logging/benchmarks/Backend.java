@@ -0,0 +1,153 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging.benchmarks;
+
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilder;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilderFactory;
+import org.apache.logging.log4j.core.config.builder.impl.BuiltConfiguration;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+
+/**
+ * Configures a log manager with {@code INFO} as the root level, {@code TRACE} as the level of the
+ * {@linkplain #TRACE_CATEGORY trace category}, and a handler or appender which discards the messages.
+ * <p>
+ * Each benchmark fork is a new JVM, so the configuration must happen before the first logger is requested, which is
+ * when JBoss Logging selects its provider. The JBoss Log Manager must already be the JUL log manager, it is selected
+ * with the {@code java.util.logging.manager} system property on the command line of the fork.
+ * </p>
+ */
+final class Backend {
+
+    /**
+     * The category whose level is {@code TRACE}.
+     */
+    static final String TRACE_CATEGORY = "org.jboss.logging.benchmarks.trace";
+
+    static final String JBOSS_LOG_MANAGER_ARG = "-Djava.util.logging.manager=org.jboss.logmanager.LogManager";
+
+    // JUL only holds loggers weakly, the level would be lost with the logger
+    private static java.util.logging.Logger julTraceLogger;
+
+    private Backend() {
+    }
+
+    /**
+     * Selects and configures the log manager.
+     *
+     * @param provider the {@code org.jboss.logging.provider} value
+     */
+    static void configure(final String provider) {
+        System.setProperty("org.jboss.logging.provider", provider);
+        switch (provider) {
+            case "jboss":
+                if (!"org.jboss.logmanager.LogManager".equals(java.util.logging.LogManager.getLogManager().getClass()
+                        .getName())) {
+                    throw new IllegalStateException("The JBoss Log Manager is not installed, fork with "
+                            + JBOSS_LOG_MANAGER_ARG);
+                }
+                configureJul();
+                break;
+            case "jdk":
+                configureJul();
+                break;
+            case "log4j2":
+                configureLog4j2();
+                break;
+            case "slf4j":
+                configureLogback();
+                break;
+            case "log4j":
+                configureLog4j();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown provider " + provider);
+        }
+    }
+
+    private static void configureJul() {
+        final java.util.logging.Logger root = java.util.logging.Logger.getLogger("");
+        for (Handler handler : root.getHandlers()) {
+            root.removeHandler(handler);
+        }
+        root.addHandler(new DiscardingHandler());
+        root.setLevel(java.util.logging.Level.INFO);
+        julTraceLogger = java.util.logging.Logger.getLogger(TRACE_CATEGORY);
+        julTraceLogger.setLevel(java.util.logging.Level.FINEST);
+    }
+
+    private static void configureLog4j2() {
+        final ConfigurationBuilder<BuiltConfiguration> builder = ConfigurationBuilderFactory.newConfigurationBuilder();
+        builder.add(builder.newAppender("null", "Null"));
+        builder.add(builder.newRootLogger(org.apache.logging.log4j.Level.INFO).add(builder.newAppenderRef("null")));
+        builder.add(builder.newLogger(TRACE_CATEGORY, org.apache.logging.log4j.Level.TRACE));
+        Configurator.initialize(builder.build());
+    }
+
+    private static void configureLogback() {
+        final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        final NOPAppender<ILoggingEvent> appender = new NOPAppender<>();
+        appender.setContext(context);
+        appender.start();
+        final ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.addAppender(appender);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        context.getLogger(TRACE_CATEGORY).setLevel(ch.qos.logback.classic.Level.TRACE);
+    }
+
+    private static void configureLog4j() {
+        org.apache.log4j.LogManager.resetConfiguration();
+        final org.apache.log4j.Logger root = org.apache.log4j.Logger.getRootLogger();
+        root.addAppender(new org.apache.log4j.varia.NullAppender());
+        root.setLevel(org.apache.log4j.Level.INFO);
+        org.apache.log4j.Logger.getLogger(TRACE_CATEGORY).setLevel(org.apache.log4j.Level.TRACE);
+    }
+
+    /**
+     * Formats the message, which JUL and the JBoss Log Manager defer to the handler, then discards it.
+     */
+    private static final class DiscardingHandler extends Handler {
+        private final Formatter formatter = new SimpleFormatter();
+
+        @Override
+        public void publish(final LogRecord record) {
+            if (isLoggable(record)) {
+                formatter.formatMessage(record);
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.logging.benchmarks;
+
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Runs the {@linkplain AbstractContextBenchmark context benchmarks} for the JBoss Log Manager, which is installed as the
+ * JUL log manager when the fork starts.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = Backend.JBOSS_LOG_MANAGER_ARG)
+public class JBossContextBenchmark extends AbstractContextBenchmark {
+
+    @Override
+    String provider() {
+        return "jboss";
+    }
+}
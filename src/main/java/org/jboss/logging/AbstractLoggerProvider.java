@@ -18,67 +18,208 @@
 
 package org.jboss.logging;
 
-import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
 
+/**
+ * A provider which keeps the NDC of each thread as an immutable chain of entries, each linked to the entry below it.
+ * Pushing and popping only link and unlink an entry. The merged messages {@link #getNdc()} returns are rendered when
+ * first read and cached on the entry.
+ * <p>
+ * When the runtime supports scoped values, {@link ScopedContext} binds the NDC to a scoped value instead of the thread
+ * local. The thread local then stays unset, and threads forked in the scope, for example by a
+ * {@code StructuredTaskScope}, see the NDC without copying it. Changing the NDC inside the scope sets the thread local
+ * again, which takes precedence over the scoped value.
+ * </p>
+ */
 abstract class AbstractLoggerProvider {
 
-    private final ThreadLocal<ArrayDeque<Entry>> ndcStack = new ThreadLocal<ArrayDeque<Entry>>();
+    private final ThreadLocal<Entry> ndcStack = new ThreadLocal<Entry>();
+    private final Object scopedNdc = ScopedValues.newInstance();
 
     public void clearNdc() {
-        ArrayDeque<Entry> stack = ndcStack.get();
-        if (stack != null)
-            stack.clear();
+        ndcStack.set(Entry.EMPTY);
     }
 
     public String getNdc() {
-        ArrayDeque<Entry> stack = ndcStack.get();
-        return stack == null || stack.isEmpty() ? null : stack.peek().merged;
+        return ndc().merged();
     }
 
     public int getNdcDepth() {
-        ArrayDeque<Entry> stack = ndcStack.get();
-        return stack == null ? 0 : stack.size();
+        return ndc().depth;
     }
 
     public String peekNdc() {
-        ArrayDeque<Entry> stack = ndcStack.get();
-        return stack == null || stack.isEmpty() ? "" : stack.peek().current;
+        return ndc().current;
     }
 
     public String popNdc() {
-        ArrayDeque<Entry> stack = ndcStack.get();
-        return stack == null || stack.isEmpty() ? "" : stack.pop().current;
+        final Entry entry = ndc();
+        if (entry.depth == 0) {
+            return "";
+        }
+        ndcStack.set(entry.parent);
+        return entry.current;
     }
 
     public void pushNdc(String message) {
-        ArrayDeque<Entry> stack = ndcStack.get();
-        if (stack == null) {
-            stack = new ArrayDeque<Entry>();
-            ndcStack.set(stack);
-        }
-        stack.push(stack.isEmpty() ? new Entry(message) : new Entry(stack.peek(), message));
+        ndcStack.set(new Entry(ndc(), message));
     }
 
     public void setNdcMaxDepth(int maxDepth) {
-        final ArrayDeque<Entry> stack = ndcStack.get();
-        if (stack != null)
-            while (stack.size() > maxDepth)
-                stack.pop();
+        final Entry entry = ndc();
+        Entry top = entry;
+        while (top.depth > maxDepth && top.depth > 0) {
+            top = top.parent;
+        }
+        if (top != entry) {
+            ndcStack.set(top);
+        }
+    }
+
+    /**
+     * Returns the NDC of the current thread for a {@linkplain LoggerProvider#captureContext() captured context}. The
+     * entries are immutable, so nothing is copied.
+     *
+     * @return the NDC, or {@code null} if it is empty
+     */
+    Object captureNdc() {
+        final Entry entry = ndc();
+        return entry.depth == 0 ? null : entry;
+    }
+
+    /**
+     * Replaces the NDC of the current thread with a captured one.
+     *
+     * @param ndc the NDC returned by {@link #captureNdc()}
+     */
+    void restoreNdc(final Object ndc) {
+        ndcStack.set(ndc == null ? Entry.EMPTY : (Entry) ndc);
+    }
+
+    /**
+     * Calls the operation with the NDC of the context bound to a scoped value. Only invoked when
+     * {@linkplain ScopedValues#AVAILABLE scoped values are available}.
+     *
+     * @param context the context to bind
+     * @param op      the operation
+     * @param <T>     the type of the result
+     *
+     * @return the result of the operation
+     *
+     * @throws Exception the exception the operation threw
+     */
+    <T> T callScoped(final ScopedContext context, final Callable<T> op) throws Exception {
+        Entry entry = ndc();
+        for (String message : context.ndc()) {
+            entry = new Entry(entry, message);
+        }
+        final Entry saved = ndcStack.get();
+        ndcStack.remove();
+        try {
+            return ScopedValues.call(scopedNdc, entry, () -> callScopedMdc(context, op));
+        } finally {
+            restore(ndcStack, saved);
+        }
+    }
+
+    /**
+     * Calls the operation with the MDC of the context. The MDC is kept by the log manager, so the entries are put on
+     * it and restored afterwards.
+     *
+     * @param context the context to bind
+     * @param op      the operation
+     * @param <T>     the type of the result
+     *
+     * @return the result of the operation
+     *
+     * @throws Exception the exception the operation threw
+     */
+    <T> T callScopedMdc(final ScopedContext context, final Callable<T> op) throws Exception {
+        return context.callRestoringMdc((LoggerProvider) this, op);
+    }
+
+    static <T> void restore(final ThreadLocal<T> threadLocal, final T saved) {
+        if (saved == null) {
+            threadLocal.remove();
+        } else {
+            threadLocal.set(saved);
+        }
+    }
+
+    private Entry ndc() {
+        final Entry entry = ndcStack.get();
+        if (entry != null) {
+            return entry;
+        }
+        return scopedNdc == null ? Entry.EMPTY : (Entry) ScopedValues.get(scopedNdc, Entry.EMPTY);
     }
 
     private static class Entry {
+        static final Entry EMPTY = new Entry();
 
+        private final Entry parent;
+        private final String current;
+        private final int depth;
+        // Rendered on the first read. Entries may be shared between threads, the race only renders the same string
+        // twice.
         private String merged;
-        private String current;
 
-        Entry(String current) {
-            merged = current;
-            this.current = current;
+        private Entry() {
+            parent = null;
+            current = "";
+            depth = 0;
         }
 
         Entry(Entry parent, String current) {
-            merged = parent.merged + ' ' + current;
+            this.parent = parent;
             this.current = current;
+            depth = parent.depth + 1;
+        }
+
+        /**
+         * Returns the messages of this entry and the entries below it, separated by a space. The rendering starts from
+         * the nearest entry below which is already rendered.
+         *
+         * @return the merged messages, or {@code null} for the empty stack or a single {@code null} message
+         */
+        String merged() {
+            String merged = this.merged;
+            if (merged != null || depth == 0) {
+                return merged;
+            }
+            if (depth == 1) {
+                // A single message is returned as it is, otherwise a null message is rendered as "null"
+                this.merged = current;
+                return current;
+            }
+            Entry base = this;
+            int length = 0;
+            while (base.depth > 0 && base.merged == null) {
+                length += String.valueOf(base.current).length() + 1;
+                base = base.parent;
+            }
+            final String[] messages = new String[depth - base.depth];
+            Entry entry = this;
+            for (int i = messages.length - 1; i >= 0; i--) {
+                messages[i] = entry.current;
+                entry = entry.parent;
+            }
+            final String prefix = base.merged;
+            final StringBuilder builder = new StringBuilder(prefix == null ? length : prefix.length() + length);
+            boolean first = prefix == null;
+            if (!first) {
+                builder.append(prefix);
+            }
+            for (String message : messages) {
+                if (!first) {
+                    builder.append(' ');
+                }
+                builder.append(message);
+                first = false;
+            }
+            merged = builder.toString();
+            this.merged = merged;
+            return merged;
         }
     }
 }
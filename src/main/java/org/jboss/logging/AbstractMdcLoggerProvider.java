@@ -18,43 +18,76 @@
 
 package org.jboss.logging;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
+/**
+ * A provider which keeps the MDC of each thread in an immutable {@link MdcMap}. Changing the MDC replaces the map of
+ * the thread, so {@link #getMdcMap()} returns a snapshot without copying it.
+ * <p>
+ * Like the NDC, the MDC of a {@link ScopedContext} is bound to a scoped value when the runtime supports them.
+ * </p>
+ */
 abstract class AbstractMdcLoggerProvider extends AbstractLoggerProvider {
 
-    private final ThreadLocal<Map<String, Object>> mdcMap = new ThreadLocal<Map<String, Object>>();
+    private final ThreadLocal<MdcMap> mdcMap = new ThreadLocal<>();
+    private final Object scopedMdc = ScopedValues.newInstance();
 
     public void clearMdc() {
-        final Map<String, Object> map = mdcMap.get();
-        if (map != null) {
-            map.clear();
-        }
+        mdcMap.set(MdcMap.EMPTY);
     }
 
     public Object getMdc(String key) {
-        return mdcMap.get() == null ? null : mdcMap.get().get(key);
+        return mdc().get(key);
     }
 
     public Map<String, Object> getMdcMap() {
-        final Map<String, Object> map = mdcMap.get();
-        return map == null ? Collections.<String, Object> emptyMap() : map;
+        return mdc();
     }
 
     public Object putMdc(String key, Object value) {
-        Map<String, Object> map = mdcMap.get();
-        if (map == null) {
-            map = new HashMap<String, Object>();
-            mdcMap.set(map);
-        }
-        return map.put(key, value);
+        final MdcMap map = mdc();
+        mdcMap.set(map.with(key, value));
+        return map.get(key);
+    }
+
+    public void putMdcQuiet(String key, Object value) {
+        mdcMap.set(mdc().with(key, value));
     }
 
     public void removeMdc(String key) {
-        Map<String, Object> map = mdcMap.get();
-        if (map == null)
-            return;
-        map.remove(key);
+        final MdcMap map = mdc();
+        mdcMap.set(map.without(key));
+    }
+
+    public Object captureContext() {
+        final MdcMap map = mdc();
+        return ContextSnapshot.of(map.isEmpty() ? null : map, captureNdc());
+    }
+
+    public void restoreContext(Object context) {
+        final ContextSnapshot snapshot = (ContextSnapshot) context;
+        mdcMap.set(snapshot == null || snapshot.mdc == null ? MdcMap.EMPTY : (MdcMap) snapshot.mdc);
+        restoreNdc(snapshot == null ? null : snapshot.ndc);
+    }
+
+    @Override
+    <T> T callScopedMdc(final ScopedContext context, final Callable<T> op) throws Exception {
+        final MdcMap map = mdc().withAll(context.mdc());
+        final MdcMap saved = mdcMap.get();
+        mdcMap.remove();
+        try {
+            return ScopedValues.call(scopedMdc, map, op);
+        } finally {
+            restore(mdcMap, saved);
+        }
+    }
+
+    private MdcMap mdc() {
+        final MdcMap map = mdcMap.get();
+        if (map != null) {
+            return map;
+        }
+        return scopedMdc == null ? MdcMap.EMPTY : (MdcMap) ScopedValues.get(scopedMdc, MdcMap.EMPTY);
     }
 }
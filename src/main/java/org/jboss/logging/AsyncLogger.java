@@ -0,0 +1,58 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+/**
+ * A logger which checks the level of the delegate logger and hands enabled messages to the
+ * {@linkplain AsyncLoggerProvider asynchronous provider}.
+ */
+final class AsyncLogger extends Logger {
+
+    private static final long serialVersionUID = 4391594786463217430L;
+
+    private final transient AsyncLoggerProvider provider;
+    private final transient Logger delegate;
+
+    AsyncLogger(final AsyncLoggerProvider provider, final Logger delegate) {
+        super(delegate.getName());
+        this.provider = provider;
+        this.delegate = delegate;
+    }
+
+    @Override
+    protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
+            final Throwable thrown) {
+        if (delegate.isEnabled(level)) {
+            provider.enqueue(delegate, false, level, loggerClassName, message, parameters, thrown);
+        }
+    }
+
+    @Override
+    protected void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
+            final Throwable thrown) {
+        if (delegate.isEnabled(level)) {
+            provider.enqueue(delegate, true, level, loggerClassName, format, parameters, thrown);
+        }
+    }
+
+    @Override
+    public boolean isEnabled(final Level level) {
+        return delegate.isEnabled(level);
+    }
+}
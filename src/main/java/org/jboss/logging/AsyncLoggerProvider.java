@@ -0,0 +1,526 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Formattable;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@linkplain LoggerProvider log provider} which hands log messages to a background thread, which in turn logs them
+ * to the delegate provider. Application threads are not held up by slow handlers or appenders.
+ * <p>
+ * The level is checked on the calling thread. Enabled messages are captured along with a snapshot of the parameters,
+ * the thread name and a snapshot of the MDC and NDC, then placed in a bounded ring buffer. The background thread logs
+ * them in order, restoring the MDC and NDC while doing so. The name of the calling thread is put on the MDC under the
+ * {@value #THREAD_NAME_KEY} key, as the provider API has no other way to pass it on. For the same reason the backend
+ * assigns the timestamp and resolves the caller when the message is logged by the background thread.
+ * </p>
+ * <p>
+ * Parameters of immutable types, such as strings, boxed primitives and {@code java.time} values, are passed on as they
+ * are, so the backend still formats them. Dates and calendars are copied, and the atomic numbers and adders of
+ * {@code java.util.concurrent.atomic} are replaced by their current value. Other numbers and {@link Formattable}
+ * values are passed on as they are, so format patterns such as {@code %tY} and {@code {0,number}} keep working, and
+ * must not be modified once logged. The remaining parameters are rendered with {@link Object#toString()} on the
+ * calling thread, which keeps later changes to them, and their thread safety, from affecting the message. The
+ * {@code org.jboss.logging.async.defer-formatting} system property set to {@code true} passes every parameter on as it
+ * is instead, in which case the parameters must not be modified once logged.
+ * </p>
+ * <p>
+ * When the buffer is full, the {@linkplain OverflowPolicy overflow policy} decides whether the calling thread waits
+ * for room or the message is dropped. Messages logged from the background thread itself, or after the provider has
+ * been {@linkplain #close() closed}, are logged directly. Messages still in the buffer are logged when the JVM shuts
+ * down.
+ * </p>
+ * <p>
+ * The provider wraps the provider which would otherwise be used when the {@code org.jboss.logging.async} system
+ * property is set to {@code true}. The following system properties configure it:
+ * </p>
+ * <ul>
+ * <li>{@code org.jboss.logging.async.capacity} the size of the buffer, defaults to {@code 8192}</li>
+ * <li>{@code org.jboss.logging.async.overflow} one of {@code block}, {@code drop-newest} or {@code drop-below-level},
+ * defaults to {@code block}</li>
+ * <li>{@code org.jboss.logging.async.defer-formatting} whether all parameters are rendered on the background thread,
+ * defaults to {@code false}</li>
+ * <li>{@code org.jboss.logging.async.overflow.level} the least severe level which is not dropped with the
+ * {@code drop-below-level} policy, defaults to {@code INFO}</li>
+ * </ul>
+ * <p>
+ * An invalid value is reported to the {@linkplain BackendFailures#setListener(BackendFailures.Listener) failure
+ * listener} and the default used instead. Failures of the delegate provider are counted and reported to the same
+ * listener.
+ * </p>
+ */
+public final class AsyncLoggerProvider implements LoggerProvider, AutoCloseable {
+
+    static final String ASYNC_KEY = "org.jboss.logging.async";
+    static final String CAPACITY_KEY = "org.jboss.logging.async.capacity";
+    static final String OVERFLOW_KEY = "org.jboss.logging.async.overflow";
+    static final String OVERFLOW_LEVEL_KEY = "org.jboss.logging.async.overflow.level";
+    static final String DEFER_FORMATTING_KEY = "org.jboss.logging.async.defer-formatting";
+
+    /**
+     * The MDC key holding the name of the thread which logged the message.
+     */
+    public static final String THREAD_NAME_KEY = "org.jboss.logging.thread";
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5L);
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class,
+            Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class,
+            UUID.class, Class.class);
+
+    /**
+     * What to do with a message when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The calling thread waits until there is room in the buffer.
+         */
+        BLOCK,
+        /**
+         * The message is dropped.
+         */
+        DROP_NEWEST,
+        /**
+         * The message is dropped if its level is less severe than the configured level, otherwise the calling thread
+         * waits until there is room in the buffer.
+         */
+        DROP_BELOW_LEVEL,
+    }
+
+    private final LoggerProvider delegate;
+    private final AsyncQueue<Event> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final Logger.Level overflowLevel;
+    private final boolean deferFormatting;
+    private final LoggerCache<AsyncLogger> loggers;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Thread consumer;
+    private final Thread shutdownHook;
+    private volatile boolean waiting;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new provider configured by the {@code org.jboss.logging.async} system properties.
+     *
+     * @param delegate the provider messages are logged to
+     */
+    public AsyncLoggerProvider(final LoggerProvider delegate) {
+        this(delegate, capacityProperty(), overflowPolicyProperty(), overflowLevelProperty(),
+                Boolean.parseBoolean(SecurityActions.getSystemProperty(DEFER_FORMATTING_KEY, "false")));
+    }
+
+    /**
+     * Creates a new provider.
+     *
+     * @param delegate       the provider messages are logged to
+     * @param capacity       the minimum number of messages the buffer holds
+     * @param overflowPolicy what to do with a message when the buffer is full
+     * @param overflowLevel  the least severe level which is not dropped with the
+     *                       {@link OverflowPolicy#DROP_BELOW_LEVEL} policy
+     */
+    public AsyncLoggerProvider(final LoggerProvider delegate, final int capacity, final OverflowPolicy overflowPolicy,
+            final Logger.Level overflowLevel) {
+        this(delegate, capacity, overflowPolicy, overflowLevel, false);
+    }
+
+    /**
+     * Creates a new provider.
+     *
+     * @param delegate        the provider messages are logged to
+     * @param capacity        the minimum number of messages the buffer holds
+     * @param overflowPolicy  what to do with a message when the buffer is full
+     * @param overflowLevel   the least severe level which is not dropped with the
+     *                        {@link OverflowPolicy#DROP_BELOW_LEVEL} policy
+     * @param deferFormatting {@code true} to pass all parameters to the background thread as they are, {@code false}
+     *                        to render those of mutable types on the calling thread
+     */
+    public AsyncLoggerProvider(final LoggerProvider delegate, final int capacity, final OverflowPolicy overflowPolicy,
+            final Logger.Level overflowLevel, final boolean deferFormatting) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be at least 1");
+        }
+        this.delegate = delegate;
+        this.queue = new AsyncQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.overflowLevel = overflowLevel;
+        this.deferFormatting = deferFormatting;
+        this.loggers = new LoggerCache<>(name -> new AsyncLogger(this, delegate.getLogger(name)));
+        consumer = new Thread(this::consume, "jboss-logging-async");
+        consumer.setDaemon(true);
+        consumer.start();
+        shutdownHook = new Thread(this::close, "jboss-logging-async-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    @Override
+    public Logger getLogger(final String name) {
+        return loggers.get(name);
+    }
+
+    /**
+     * Returns the number of messages dropped because the buffer was full.
+     *
+     * @return the number of dropped messages
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of messages for which the calling thread had to wait because the buffer was full.
+     *
+     * @return the number of messages which waited for room in the buffer
+     */
+    public long getBlockedCount() {
+        return blocked.sum();
+    }
+
+    /**
+     * Returns the number of messages the delegate provider failed to log.
+     *
+     * @return the number of failed messages
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Logs the messages still in the buffer and stops the background thread, waiting up to five seconds for it to
+     * finish. Messages logged afterwards are logged directly. The shutdown hook is removed, so a closed provider is not
+     * kept until the JVM exits.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException ignore) {
+            // The JVM is already shutting down
+        }
+        LockSupport.unpark(consumer);
+        if (Thread.currentThread() != consumer) {
+            try {
+                consumer.join(SHUTDOWN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    void enqueue(final Logger target, final boolean printf, final Logger.Level level, final String loggerClassName,
+            final Object message, final Object[] parameters, final Throwable thrown) {
+        if (closed || Thread.currentThread() == consumer) {
+            log(target, printf, level, loggerClassName, message, parameters, thrown);
+            return;
+        }
+        final Event event = new Event(target, printf, level, loggerClassName, printf ? message : snapshot(message),
+                snapshot(parameters), thrown, Thread.currentThread().getName(), delegate.captureContext());
+        if (!queue.offer(event)) {
+            if (overflowPolicy == OverflowPolicy.DROP_NEWEST
+                    || (overflowPolicy == OverflowPolicy.DROP_BELOW_LEVEL && level.compareTo(overflowLevel) > 0)) {
+                dropped.increment();
+                return;
+            }
+            blocked.increment();
+            do {
+                if (closed) {
+                    log(target, printf, level, loggerClassName, message, parameters, thrown);
+                    return;
+                }
+                LockSupport.unpark(consumer);
+                LockSupport.parkNanos(this, FULL_PARK_NANOS);
+            } while (!queue.offer(event));
+        }
+        if (waiting) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private Object[] snapshot(final Object[] parameters) {
+        if (parameters == null) {
+            return null;
+        }
+        final Object[] copy = parameters.clone();
+        if (!deferFormatting) {
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = snapshot(copy[i]);
+            }
+        }
+        return copy;
+    }
+
+    private Object snapshot(final Object value) {
+        if (deferFormatting || value == null || IMMUTABLE_TYPES.contains(value.getClass()) || value instanceof Enum) {
+            return value;
+        }
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+        if (value instanceof Calendar) {
+            return ((Calendar) value).clone();
+        }
+        if (value instanceof Number) {
+            return snapshot((Number) value);
+        }
+        if (value instanceof Formattable || value.getClass().getName().startsWith("java.time.")) {
+            return value;
+        }
+        try {
+            return value.toString();
+        } catch (Throwable t) {
+            // Rendered by the backend instead, which reports the failure as it would for a synchronous message
+            return value;
+        }
+    }
+
+    private static Number snapshot(final Number value) {
+        if (value instanceof AtomicInteger) {
+            return value.intValue();
+        }
+        if (value instanceof AtomicLong || value instanceof LongAdder || value instanceof LongAccumulator) {
+            return value.longValue();
+        }
+        if (value instanceof DoubleAdder || value instanceof DoubleAccumulator) {
+            return value.doubleValue();
+        }
+        return value;
+    }
+
+    private void consume() {
+        String currentName = null;
+        Object currentContext = null;
+        for (;;) {
+            final Event event = queue.poll();
+            if (event == null) {
+                if (closed && queue.isEmpty()) {
+                    break;
+                }
+                waiting = true;
+                if (queue.isEmpty() && !closed) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                waiting = false;
+                continue;
+            }
+            try {
+                // Skipped for consecutive events without a context, or sharing the same captured one
+                if (event.context != currentContext) {
+                    delegate.restoreContext(event.context);
+                    currentContext = event.context;
+                    currentName = null;
+                }
+                if (!event.threadName.equals(currentName)) {
+                    delegate.putMdcQuiet(THREAD_NAME_KEY, event.threadName);
+                    currentName = event.threadName;
+                }
+                log(event.target, event.printf, event.level, event.loggerClassName, event.message, event.parameters,
+                        event.thrown);
+            } catch (Throwable t) {
+                failed.increment();
+                BackendFailures.asyncFailed(event.target.getName(), t);
+                // The context may have been partially restored
+                currentContext = null;
+                currentName = null;
+            }
+        }
+        delegate.clearMdc();
+        delegate.clearNdc();
+    }
+
+    private static int capacityProperty() {
+        final String value = SecurityActions.getSystemProperty(CAPACITY_KEY, "8192");
+        try {
+            final int capacity = Integer.parseInt(value.trim());
+            if (capacity >= 1) {
+                return capacity;
+            }
+        } catch (NumberFormatException ignore) {
+        }
+        return invalidProperty(CAPACITY_KEY, value, 8192);
+    }
+
+    private static OverflowPolicy overflowPolicyProperty() {
+        final String value = SecurityActions.getSystemProperty(OVERFLOW_KEY, "block");
+        try {
+            return OverflowPolicy.valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            return invalidProperty(OVERFLOW_KEY, value, OverflowPolicy.BLOCK);
+        }
+    }
+
+    private static Logger.Level overflowLevelProperty() {
+        final String value = SecurityActions.getSystemProperty(OVERFLOW_LEVEL_KEY, "INFO");
+        try {
+            return Logger.Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return invalidProperty(OVERFLOW_LEVEL_KEY, value, Logger.Level.INFO);
+        }
+    }
+
+    private static <T> T invalidProperty(final String key, final String value, final T defaultValue) {
+        BackendFailures.configurationProblem(String.format("invalid value \"%s\" for the %s system property, using %s",
+                value, key, defaultValue), null);
+        return defaultValue;
+    }
+
+    private static void log(final Logger target, final boolean printf, final Logger.Level level,
+            final String loggerClassName, final Object message, final Object[] parameters, final Throwable thrown) {
+        if (printf) {
+            target.doLogf(level, loggerClassName, String.valueOf(message), parameters, thrown);
+        } else {
+            target.doLog(level, loggerClassName, message, parameters, thrown);
+        }
+    }
+
+    @Override
+    public Object captureContext() {
+        return delegate.captureContext();
+    }
+
+    @Override
+    public void restoreContext(final Object context) {
+        delegate.restoreContext(context);
+    }
+
+    @Override
+    public void clearMdc() {
+        delegate.clearMdc();
+    }
+
+    @Override
+    public Object putMdc(final String key, final Object value) {
+        return delegate.putMdc(key, value);
+    }
+
+    @Override
+    public void putMdcQuiet(final String key, final Object value) {
+        delegate.putMdcQuiet(key, value);
+    }
+
+    @Override
+    public void putMdcInt(final String key, final int value) {
+        delegate.putMdcInt(key, value);
+    }
+
+    @Override
+    public void putMdcLong(final String key, final long value) {
+        delegate.putMdcLong(key, value);
+    }
+
+    @Override
+    public void putMdcBoolean(final String key, final boolean value) {
+        delegate.putMdcBoolean(key, value);
+    }
+
+    @Override
+    public Object getMdc(final String key) {
+        return delegate.getMdc(key);
+    }
+
+    @Override
+    public void removeMdc(final String key) {
+        delegate.removeMdc(key);
+    }
+
+    @Override
+    public Map<String, Object> getMdcMap() {
+        return delegate.getMdcMap();
+    }
+
+    @Override
+    public void clearNdc() {
+        delegate.clearNdc();
+    }
+
+    @Override
+    public String getNdc() {
+        return delegate.getNdc();
+    }
+
+    @Override
+    public int getNdcDepth() {
+        return delegate.getNdcDepth();
+    }
+
+    @Override
+    public String popNdc() {
+        return delegate.popNdc();
+    }
+
+    @Override
+    public String peekNdc() {
+        return delegate.peekNdc();
+    }
+
+    @Override
+    public void pushNdc(final String message) {
+        delegate.pushNdc(message);
+    }
+
+    @Override
+    public void setNdcMaxDepth(final int maxDepth) {
+        delegate.setNdcMaxDepth(maxDepth);
+    }
+
+    private static final class Event {
+        private final Logger target;
+        private final boolean printf;
+        private final Logger.Level level;
+        private final String loggerClassName;
+        private final Object message;
+        private final Object[] parameters;
+        private final Throwable thrown;
+        private final String threadName;
+        private final Object context;
+
+        private Event(final Logger target, final boolean printf, final Logger.Level level, final String loggerClassName,
+                final Object message, final Object[] parameters, final Throwable thrown, final String threadName,
+                final Object context) {
+            this.target = target;
+            this.printf = printf;
+            this.level = level;
+            this.loggerClassName = loggerClassName;
+            this.message = message;
+            this.parameters = parameters;
+            this.thrown = thrown;
+            this.threadName = threadName;
+            this.context = context;
+        }
+    }
+}
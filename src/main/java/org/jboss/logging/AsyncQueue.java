@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded lock-free ring buffer for many producers and a single consumer.
+ * <p>
+ * Each slot carries a sequence number telling whether it is free for the producer claiming a position or holds an
+ * element for the consumer. Producers claim positions with a compare and set on the tail, the consumer is the only
+ * thread advancing the head.
+ * </p>
+ *
+ * @param <E> the element type
+ */
+final class AsyncQueue<E> {
+
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * Creates a new queue.
+     *
+     * @param capacity the minimum capacity, rounded up to a power of two
+     */
+    AsyncQueue(final int capacity) {
+        final int size = capacity <= 1 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        elements = new Object[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Adds the element if there is room for it.
+     *
+     * @param element the element to add
+     *
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    boolean offer(final E element) {
+        for (;;) {
+            final long position = tail.get();
+            final int index = (int) position & mask;
+            final long sequence = sequences.getAcquire(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+            } else if (sequence < position) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest element. Must only be invoked by the consumer thread.
+     *
+     * @return the element, or {@code null} if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        final long position = head;
+        final int index = (int) position & mask;
+        if (sequences.getAcquire(index) != position + 1) {
+            return null;
+        }
+        final E element = (E) elements[index];
+        elements[index] = null;
+        sequences.setRelease(index, position + elements.length);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * Checks whether the queue is empty, including elements a producer is still in the middle of adding.
+     *
+     * @return {@code true} if the queue is empty
+     */
+    boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    int capacity() {
+        return elements.length;
+    }
+}
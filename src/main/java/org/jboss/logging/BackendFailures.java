@@ -0,0 +1,303 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accounting of the failures of the log managers the JDK, log4j, Log4j 2 and SLF4J providers log to.
+ * <p>
+ * A log call never fails because the log manager threw an exception. The exception is counted for the provider and
+ * reported to the {@linkplain #setListener(Listener) listener}, then discarded. The loggers of location aware SLF4J
+ * bindings are the exception, they throw it on to the caller after counting it, as they always did. Exceptions thrown
+ * while formatting the message, by the format or the {@code toString()} method of a parameter, are not failures of the
+ * log manager and are not counted.
+ * </p>
+ * <p>
+ * Optionally a circuit breaker stops a logger category from calling the log manager once it failed a number of times
+ * in a row, sparing the cost of building and throwing an exception on every call. After a back-off interval a single
+ * call is let through while the others keep skipping the log manager. If it succeeds the category is closed again,
+ * otherwise it is opened for another interval. The following system properties configure the circuit breaker, an
+ * invalid value is reported to the listener and the default used instead:
+ * </p>
+ * <ul>
+ * <li>{@code org.jboss.logging.failure.threshold} the number of consecutive failures which open the circuit of a
+ * category, defaults to {@code 0} which disables the circuit breaker</li>
+ * <li>{@code org.jboss.logging.failure.backoff} the number of milliseconds a circuit stays open, defaults to
+ * {@code 30000}</li>
+ * <li>{@code org.jboss.logging.failure.report} whether the default listener reports opened circuits, configuration
+ * problems and failures of the async provider to {@link System#err}, defaults to {@code false} in which case nothing
+ * is reported</li>
+ * </ul>
+ */
+public final class BackendFailures {
+
+    static final String THRESHOLD_KEY = "org.jboss.logging.failure.threshold";
+    static final String BACKOFF_KEY = "org.jboss.logging.failure.backoff";
+    static final String REPORT_KEY = "org.jboss.logging.failure.report";
+
+    // Initialized first, as invalid values of the properties below are reported to it
+    private static final Listener DEFAULT_LISTENER = Boolean
+            .parseBoolean(SecurityActions.getSystemProperty(REPORT_KEY, "false")) ? new ReportingListener()
+                    : new Listener() {
+                    };
+
+    private static volatile Listener listener = DEFAULT_LISTENER;
+
+    static final int THRESHOLD = (int) Math.min(Integer.MAX_VALUE, longProperty(THRESHOLD_KEY, 0L));
+    static final long BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(longProperty(BACKOFF_KEY, 30000L));
+
+    /**
+     * Receives the failures of the log managers. The methods are invoked on the logging thread, so they should return
+     * quickly and must not log through the failing category.
+     */
+    public interface Listener {
+
+        /**
+         * Invoked each time the log manager throws an exception.
+         *
+         * @param provider the name of the provider, as used with the {@code org.jboss.logging.provider} system
+         *                 property
+         * @param category the logger category
+         * @param cause    the exception the log manager threw
+         */
+        default void failed(String provider, String category, Throwable cause) {
+        }
+
+        /**
+         * Invoked when the circuit of a category opens and log calls stop reaching the log manager.
+         *
+         * @param provider the name of the provider
+         * @param category the logger category
+         * @param failures the number of consecutive failures
+         * @param cause    the last exception the log manager threw
+         */
+        default void circuitOpened(String provider, String category, int failures, Throwable cause) {
+        }
+
+        /**
+         * Invoked when a log call succeeds after the circuit of a category was opened.
+         *
+         * @param provider the name of the provider
+         * @param category the logger category
+         */
+        default void circuitClosed(String provider, String category) {
+        }
+
+        /**
+         * Invoked when a configuration of JBoss Logging cannot be applied, for example because a system property has
+         * an invalid value. The default is used instead.
+         *
+         * @param message the description of the problem
+         * @param cause   the exception which caused the problem, or {@code null} if there is none
+         */
+        default void configurationProblem(String message, Throwable cause) {
+        }
+
+        /**
+         * Invoked each time the delegate of the {@linkplain AsyncLoggerProvider async provider} fails to log a
+         * message. It is invoked on the background thread of the async provider.
+         *
+         * @param category the logger category
+         * @param cause    the exception the delegate threw
+         */
+        default void asyncFailed(String category, Throwable cause) {
+        }
+    }
+
+    private static final ConcurrentMap<String, LongAdder> FAILURES = new ConcurrentHashMap<>();
+
+    private BackendFailures() {
+    }
+
+    static long longProperty(final String key, final long defaultValue) {
+        final String value = SecurityActions.getSystemProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            final long result = Long.parseLong(value.trim());
+            if (result >= 0L) {
+                return result;
+            }
+        } catch (NumberFormatException ignore) {
+        }
+        configurationProblem(String.format("invalid value \"%s\" for the %s system property, using %d", value, key,
+                defaultValue), null);
+        return defaultValue;
+    }
+
+    /**
+     * Reports a configuration problem to the listener.
+     *
+     * @param message the description of the problem
+     * @param cause   the exception which caused the problem, or {@code null} if there is none
+     */
+    static void configurationProblem(final String message, final Throwable cause) {
+        try {
+            listener.configurationProblem(message, cause);
+        } catch (Throwable ignored) {
+        }
+    }
+
+    /**
+     * Reports a failure of the delegate of the async provider to the listener.
+     *
+     * @param category the logger category
+     * @param cause    the exception the delegate threw
+     */
+    static void asyncFailed(final String category, final Throwable cause) {
+        try {
+            listener.asyncFailed(category, cause);
+        } catch (Throwable ignored) {
+        }
+    }
+
+    /**
+     * Returns the number of times the log manager of the provider threw an exception.
+     *
+     * @param provider the name of the provider, as used with the {@code org.jboss.logging.provider} system property
+     *
+     * @return the number of failures
+     */
+    public static long getFailureCount(final String provider) {
+        final LongAdder failures = FAILURES.get(provider);
+        return failures == null ? 0L : failures.sum();
+    }
+
+    /**
+     * Sets the listener which receives the failures. The default listener ignores them, unless the
+     * {@code org.jboss.logging.failure.report} system property is set to {@code true}, in which case it reports opened
+     * circuits, configuration problems and the first failure of the async provider to {@link System#err}.
+     *
+     * @param listener the listener, or {@code null} to restore the default listener
+     */
+    public static void setListener(final Listener listener) {
+        BackendFailures.listener = listener == null ? DEFAULT_LISTENER : listener;
+    }
+
+    /**
+     * The listener used when the {@code org.jboss.logging.failure.report} system property is set to {@code true}.
+     */
+    private static final class ReportingListener implements Listener {
+        // Racy, at worst a second failure is reported
+        private volatile boolean asyncReported;
+
+        @Override
+        public void circuitOpened(final String provider, final String category, final int failures,
+                final Throwable cause) {
+            System.err.printf("JBoss Logging: the %s log manager failed %d times in a row for category %s, "
+                    + "skipping it for %d ms: %s%n", provider, failures, category,
+                    TimeUnit.NANOSECONDS.toMillis(BACKOFF_NANOS), cause);
+        }
+
+        @Override
+        public void configurationProblem(final String message, final Throwable cause) {
+            if (cause == null) {
+                System.err.printf("JBoss Logging: %s%n", message);
+            } else {
+                System.err.printf("JBoss Logging: %s: %s%n", message, cause);
+            }
+        }
+
+        @Override
+        public void asyncFailed(final String category, final Throwable cause) {
+            if (!asyncReported) {
+                asyncReported = true;
+                System.err.printf("JBoss Logging: the async provider failed to log a message for category %s, further "
+                        + "failures are only counted: %s%n", category, cause);
+            }
+        }
+    }
+
+    /**
+     * The failures and circuit of a single logger.
+     */
+    static final class Tracker {
+        private static final AtomicLongFieldUpdater<Tracker> RETRY_AT = AtomicLongFieldUpdater.newUpdater(Tracker.class,
+                "retryAt");
+
+        private final String provider;
+        private final String category;
+        private final LongAdder failures;
+        // Racy updates may miss a failure, which only delays opening the circuit
+        private volatile int consecutive;
+        private volatile boolean open;
+        private volatile long retryAt;
+
+        Tracker(final String provider, final String category) {
+            this.provider = provider;
+            this.category = category;
+            failures = FAILURES.computeIfAbsent(provider, p -> new LongAdder());
+        }
+
+        /**
+         * Checks whether log calls should skip the log manager. Once the back-off interval elapsed, the first caller
+         * moves the retry time on by another interval and is let through to probe the log manager. Its outcome closes
+         * the circuit or opens it again; should it never reach the log manager, the next interval lets another call
+         * through.
+         *
+         * @return {@code true} if the circuit is open and the call is not the probe
+         */
+        boolean isOpen() {
+            if (THRESHOLD <= 0 || !open) {
+                return false;
+            }
+            final long retryAt = this.retryAt;
+            final long now = System.nanoTime();
+            return now - retryAt < 0L || !RETRY_AT.compareAndSet(this, retryAt, now + BACKOFF_NANOS);
+        }
+
+        void succeeded() {
+            if (consecutive != 0) {
+                consecutive = 0;
+                if (open) {
+                    open = false;
+                    try {
+                        listener.circuitClosed(provider, category);
+                    } catch (Throwable ignored) {
+                    }
+                }
+            }
+        }
+
+        void failed(final Throwable cause) {
+            failures.increment();
+            final int count = ++consecutive;
+            boolean opened = false;
+            if (THRESHOLD > 0 && count >= THRESHOLD) {
+                retryAt = System.nanoTime() + BACKOFF_NANOS;
+                opened = !open;
+                open = true;
+            }
+            final Listener listener = BackendFailures.listener;
+            try {
+                listener.failed(provider, category, cause);
+                if (opened) {
+                    listener.circuitOpened(provider, category, count, cause);
+                }
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+}
@@ -18,6 +18,8 @@
 
 package org.jboss.logging;
 
+import java.util.function.Supplier;
+
 /**
  * An interface which specifies the basic logger methods. When used as the base interface of a typed logger, these methods will
  * delegate
@@ -112,6 +114,79 @@ public interface BasicLogger {
      */
     void tracev(String format, Object param1, Object param2, Object param3);
 
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void tracev(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracev(format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void tracev(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracev(format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void tracev(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracev(format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void tracev(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracev(format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
     /**
      * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
      *
@@ -151,6 +226,99 @@ public interface BasicLogger {
      */
     void tracev(Throwable t, String format, Object param1, Object param2, Object param3);
 
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    default void tracev(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracev(t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void tracev(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracev(t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void tracev(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracev(t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void tracev(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracev(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void tracev(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracev(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
     /**
      * Issue a formatted log message with a level of TRACE.
      *
@@ -186,6 +354,79 @@ public interface BasicLogger {
      */
     void tracef(String format, Object param1, Object param2, Object param3);
 
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void tracef(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void tracef(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void tracef(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void tracef(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
     /**
      * Issue a formatted log message with a level of TRACE.
      *
@@ -225,6 +466,99 @@ public interface BasicLogger {
      */
     void tracef(Throwable t, String format, Object param1, Object param2, Object param3);
 
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    default void tracef(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void tracef(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void tracef(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void tracef(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void tracef(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
     /**
      * Issue a formatted log message with a level of TRACE.
      *
@@ -461,6 +795,110 @@ public interface BasicLogger {
      */
     void tracef(Throwable t, String format, long arg1, Object arg2, Object arg3);
 
+    /**
+     * Issue a log message with a level of TRACE. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
+    default void traceLazy(Supplier<?> message) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            trace(supplied(message));
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of TRACE. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    default void traceLazy(Supplier<?> message, Throwable t) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            trace(supplied(message), t);
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    default void tracefLazy(String format, Supplier<?> param1) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    default void tracefLazy(String format, Supplier<?> param1, Supplier<?> param2) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    default void tracefLazy(String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    default void tracefLazy(Throwable t, String format, Supplier<?> param1) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(t, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    default void tracefLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(t, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    default void tracefLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (isEnabled(Logger.Level.TRACE)) {
+            tracef(t, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
     /**
      * Check to see if the {@code DEBUG} level is enabled for this logger.
      *
@@ -541,77 +979,316 @@ public interface BasicLogger {
     /**
      * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
-     * @param params the parameters
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    void debugv(Throwable t, String format, Object... params);
+    default void debugv(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugv(format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
 
     /**
      * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
-     * @param param1 the sole parameter
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
      */
-    void debugv(Throwable t, String format, Object param1);
+    default void debugv(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugv(format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
 
     /**
      * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
      */
-    void debugv(Throwable t, String format, Object param1, Object param2);
+    default void debugv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugv(format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
 
     /**
      * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
      */
-    void debugv(Throwable t, String format, Object param1, Object param2, Object param3);
+    default void debugv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugv(format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of DEBUG.
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param params the parameters
      */
-    void debugf(String format, Object... params);
+    void debugv(Throwable t, String format, Object... params);
 
     /**
-     * Issue a formatted log message with a level of DEBUG.
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param param1 the sole parameter
      */
-    void debugf(String format, Object param1);
+    void debugv(Throwable t, String format, Object param1);
 
     /**
-     * Issue a formatted log message with a level of DEBUG.
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    void debugf(String format, Object param1, Object param2);
+    void debugv(Throwable t, String format, Object param1, Object param2);
 
     /**
-     * Issue a formatted log message with a level of DEBUG.
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    void debugv(Throwable t, String format, Object param1, Object param2, Object param3);
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    default void debugv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugv(t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void debugv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugv(t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void debugv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugv(t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void debugv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugv(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void debugv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugv(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param params the parameters
+     */
+    void debugf(String format, Object... params);
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the sole parameter
+     */
+    void debugf(String format, Object param1);
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    void debugf(String format, Object param1, Object param2);
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
     void debugf(String format, Object param1, Object param2, Object param3);
 
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void debugf(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void debugf(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void debugf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void debugf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
     /**
      * Issue a formatted log message with a level of DEBUG.
      *
@@ -651,6 +1328,99 @@ public interface BasicLogger {
      */
     void debugf(Throwable t, String format, Object param1, Object param2, Object param3);
 
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    default void debugf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void debugf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void debugf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void debugf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void debugf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
     /**
      * Issue a formatted log message with a level of DEBUG.
      *
@@ -887,6 +1657,110 @@ public interface BasicLogger {
      */
     void debugf(Throwable t, String format, long arg1, Object arg2, Object arg3);
 
+    /**
+     * Issue a log message with a level of DEBUG. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
+    default void debugLazy(Supplier<?> message) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debug(supplied(message));
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of DEBUG. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    default void debugLazy(Supplier<?> message, Throwable t) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debug(supplied(message), t);
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    default void debugfLazy(String format, Supplier<?> param1) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    default void debugfLazy(String format, Supplier<?> param1, Supplier<?> param2) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    default void debugfLazy(String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    default void debugfLazy(Throwable t, String format, Supplier<?> param1) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(t, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    default void debugfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(t, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    default void debugfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (isEnabled(Logger.Level.DEBUG)) {
+            debugf(t, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
     /**
      * Check to see if the {@code INFO} level is enabled for this logger.
      *
@@ -967,715 +1841,2459 @@ public interface BasicLogger {
     /**
      * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
-     * @param params the parameters
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    void infov(Throwable t, String format, Object... params);
+    default void infov(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infov(format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
 
     /**
      * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
-     * @param param1 the sole parameter
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
      */
-    void infov(Throwable t, String format, Object param1);
+    default void infov(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infov(format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
 
     /**
      * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
      */
-    void infov(Throwable t, String format, Object param1, Object param2);
+    default void infov(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infov(format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
 
     /**
      * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
      */
-    void infov(Throwable t, String format, Object param1, Object param2, Object param3);
+    default void infov(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infov(format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param params the parameters
      */
-    void infof(String format, Object... params);
+    void infov(Throwable t, String format, Object... params);
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param param1 the sole parameter
      */
-    void infof(String format, Object param1);
+    void infov(Throwable t, String format, Object param1);
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    void infof(String format, Object param1, Object param2);
+    void infov(Throwable t, String format, Object param1, Object param2);
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    void infof(String format, Object param1, Object param2, Object param3);
+    void infov(Throwable t, String format, Object param1, Object param2, Object param3);
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param params the parameters
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
      */
-    void infof(Throwable t, String format, Object... params);
+    default void infov(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infov(t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param param1 the sole parameter
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    void infof(Throwable t, String format, Object param1);
+    default void infov(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infov(t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
      */
-    void infof(Throwable t, String format, Object param1, Object param2);
+    default void infov(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infov(t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
      */
-    void infof(Throwable t, String format, Object param1, Object param2, Object param3);
+    default void infov(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infov(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
 
     /**
-     * Issue a log message with a level of WARN.
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param message the message
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
      */
-    void warn(Object message);
+    default void infov(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infov(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
 
     /**
-     * Issue a log message and throwable with a level of WARN.
+     * Issue a formatted log message with a level of INFO.
      *
-     * @param message the message
-     * @param t       the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param params the parameters
      */
-    void warn(Object message, Throwable t);
+    void infof(String format, Object... params);
 
     /**
-     * Issue a log message and throwable with a level of WARN and a specific logger class name.
+     * Issue a formatted log message with a level of INFO.
      *
-     * @param loggerFqcn the logger class name
-     * @param message    the message
-     * @param t          the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the sole parameter
      */
-    void warn(String loggerFqcn, Object message, Throwable t);
+    void infof(String format, Object param1);
 
     /**
-     * Issue a log message with parameters and a throwable with a level of WARN.
+     * Issue a formatted log message with a level of INFO.
      *
-     * @param loggerFqcn the logger class name
-     * @param message    the message
-     * @param params     the message parameters
-     * @param t          the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
      */
-    void warn(String loggerFqcn, Object message, Object[] params, Throwable t);
+    void infof(String format, Object param1, Object param2);
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of INFO.
      *
-     * @param format the message format string
-     * @param params the parameters
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
      */
-    void warnv(String format, Object... params);
+    void infof(String format, Object param1, Object param2, Object param3);
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of INFO.
      *
-     * @param format the message format string
-     * @param param1 the sole parameter
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    void warnv(String format, Object param1);
+    default void infof(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of INFO.
      *
-     * @param format the message format string
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the first parameter
      * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
      */
-    void warnv(String format, Object param1, Object param2);
+    default void infof(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of INFO.
      *
-     * @param format the message format string
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
      */
-    void warnv(String format, Object param1, Object param2, Object param3);
+    default void infof(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of INFO.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void infof(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO.
      *
      * @param t      the throwable
-     * @param format the message format string
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param params the parameters
      */
-    void warnv(Throwable t, String format, Object... params);
+    void infof(Throwable t, String format, Object... params);
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of INFO.
      *
      * @param t      the throwable
-     * @param format the message format string
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the sole parameter
      */
-    void warnv(Throwable t, String format, Object param1);
+    void infof(Throwable t, String format, Object param1);
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of INFO.
      *
      * @param t      the throwable
-     * @param format the message format string
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    void warnv(Throwable t, String format, Object param1, Object param2);
+    void infof(Throwable t, String format, Object param1, Object param2);
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of INFO.
      *
      * @param t      the throwable
-     * @param format the message format string
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    void warnv(Throwable t, String format, Object param1, Object param2, Object param3);
+    void infof(Throwable t, String format, Object param1, Object param2, Object param3);
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a formatted log message with a level of INFO.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param params the parameters
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
      */
-    void warnf(String format, Object... params);
+    default void infof(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a formatted log message with a level of INFO.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param param1 the sole parameter
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    void warnf(String format, Object param1);
+    default void infof(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a formatted log message with a level of INFO.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
      */
-    void warnf(String format, Object param1, Object param2);
+    default void infof(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a formatted log message with a level of INFO.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
      */
-    void warnf(String format, Object param1, Object param2, Object param3);
+    default void infof(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a formatted log message with a level of INFO.
      *
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param params the parameters
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
      */
-    void warnf(Throwable t, String format, Object... params);
+    default void infof(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a log message with a level of INFO. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
+    default void infoLazy(Supplier<?> message) {
+        if (isEnabled(Logger.Level.INFO)) {
+            info(supplied(message));
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of INFO. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    default void infoLazy(Supplier<?> message, Throwable t) {
+        if (isEnabled(Logger.Level.INFO)) {
+            info(supplied(message), t);
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    default void infofLazy(String format, Supplier<?> param1) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    default void infofLazy(String format, Supplier<?> param1, Supplier<?> param2) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    default void infofLazy(String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param param1 the sole parameter
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
      */
-    void warnf(Throwable t, String format, Object param1);
+    default void infofLazy(Throwable t, String format, Supplier<?> param1) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(t, format, supplied(param1));
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param param1 the first parameter
-     * @param param2 the second parameter
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
      */
-    void warnf(Throwable t, String format, Object param1, Object param2);
+    default void infofLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(t, format, supplied(param1), supplied(param2));
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param param1 the first parameter
-     * @param param2 the second parameter
-     * @param param3 the third parameter
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
      */
-    void warnf(Throwable t, String format, Object param1, Object param2, Object param3);
+    default void infofLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (isEnabled(Logger.Level.INFO)) {
+            infof(t, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
 
     /**
-     * Issue a log message with a level of ERROR.
+     * Issue a log message with a level of WARN.
      *
      * @param message the message
      */
-    void error(Object message);
+    void warn(Object message);
 
     /**
-     * Issue a log message and throwable with a level of ERROR.
+     * Issue a log message and throwable with a level of WARN.
      *
      * @param message the message
      * @param t       the throwable
      */
-    void error(Object message, Throwable t);
+    void warn(Object message, Throwable t);
 
     /**
-     * Issue a log message and throwable with a level of ERROR and a specific logger class name.
+     * Issue a log message and throwable with a level of WARN and a specific logger class name.
      *
      * @param loggerFqcn the logger class name
      * @param message    the message
      * @param t          the throwable
      */
-    void error(String loggerFqcn, Object message, Throwable t);
+    void warn(String loggerFqcn, Object message, Throwable t);
 
     /**
-     * Issue a log message with parameters and a throwable with a level of ERROR.
+     * Issue a log message with parameters and a throwable with a level of WARN.
      *
      * @param loggerFqcn the logger class name
      * @param message    the message
      * @param params     the message parameters
      * @param t          the throwable
      */
-    void error(String loggerFqcn, Object message, Object[] params, Throwable t);
+    void warn(String loggerFqcn, Object message, Object[] params, Throwable t);
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
      * @param format the message format string
      * @param params the parameters
      */
-    void errorv(String format, Object... params);
+    void warnv(String format, Object... params);
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
      * @param format the message format string
      * @param param1 the sole parameter
      */
-    void errorv(String format, Object param1);
+    void warnv(String format, Object param1);
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    void errorv(String format, Object param1, Object param2);
+    void warnv(String format, Object param1, Object param2);
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    void errorv(String format, Object param1, Object param2, Object param3);
+    void warnv(String format, Object param1, Object param2, Object param3);
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
-     * @param params the parameters
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    void errorv(Throwable t, String format, Object... params);
+    default void warnv(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnv(format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
-     * @param param1 the sole parameter
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
      */
-    void errorv(Throwable t, String format, Object param1);
+    default void warnv(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnv(format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
      */
-    void errorv(Throwable t, String format, Object param1, Object param2);
+    default void warnv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnv(format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
      */
-    void errorv(Throwable t, String format, Object param1, Object param2, Object param3);
+    default void warnv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnv(format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param params the parameters
      */
-    void errorf(String format, Object... params);
+    void warnv(Throwable t, String format, Object... params);
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param param1 the sole parameter
      */
-    void errorf(String format, Object param1);
+    void warnv(Throwable t, String format, Object param1);
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    void errorf(String format, Object param1, Object param2);
+    void warnv(Throwable t, String format, Object param1, Object param2);
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    void errorf(String format, Object param1, Object param2, Object param3);
+    void warnv(Throwable t, String format, Object param1, Object param2, Object param3);
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param params the parameters
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
      */
-    void errorf(Throwable t, String format, Object... params);
+    default void warnv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnv(t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param param1 the sole parameter
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    void errorf(Throwable t, String format, Object param1);
+    default void warnv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnv(t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
      */
-    void errorf(Throwable t, String format, Object param1, Object param2);
+    default void warnv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnv(t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
      */
-    void errorf(Throwable t, String format, Object param1, Object param2, Object param3);
-
-    /**
-     * Issue a log message with a level of FATAL.
-     *
-     * @param message the message
-     */
-    void fatal(Object message);
-
-    /**
-     * Issue a log message and throwable with a level of FATAL.
-     *
-     * @param message the message
-     * @param t       the throwable
-     */
-    void fatal(Object message, Throwable t);
-
-    /**
-     * Issue a log message and throwable with a level of FATAL and a specific logger class name.
-     *
-     * @param loggerFqcn the logger class name
-     * @param message    the message
-     * @param t          the throwable
-     */
-    void fatal(String loggerFqcn, Object message, Throwable t);
+    default void warnv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnv(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
 
     /**
-     * Issue a log message with parameters and a throwable with a level of FATAL.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param loggerFqcn the logger class name
-     * @param message    the message
-     * @param params     the message parameters
-     * @param t          the throwable
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
      */
-    void fatal(String loggerFqcn, Object message, Object[] params, Throwable t);
+    default void warnv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnv(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param format the message format string
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param params the parameters
      */
-    void fatalv(String format, Object... params);
+    void warnf(String format, Object... params);
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param format the message format string
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the sole parameter
      */
-    void fatalv(String format, Object param1);
+    void warnf(String format, Object param1);
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param format the message format string
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    void fatalv(String format, Object param1, Object param2);
+    void warnf(String format, Object param1, Object param2);
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param format the message format string
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    void fatalv(String format, Object param1, Object param2, Object param3);
+    void warnf(String format, Object param1, Object param2, Object param3);
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param t      the throwable
-     * @param format the message format string
-     * @param params the parameters
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    void fatalv(Throwable t, String format, Object... params);
+    default void warnf(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param t      the throwable
-     * @param format the message format string
-     * @param param1 the sole parameter
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
      */
-    void fatalv(Throwable t, String format, Object param1);
+    default void warnf(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param t      the throwable
-     * @param format the message format string
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the first parameter
      * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
      */
-    void fatalv(Throwable t, String format, Object param1, Object param2);
+    default void warnf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param t      the throwable
-     * @param format the message format string
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
      */
-    void fatalv(Throwable t, String format, Object param1, Object param2, Object param3);
+    default void warnf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param params the parameters
      */
-    void fatalf(String format, Object... params);
+    void warnf(Throwable t, String format, Object... params);
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the sole parameter
      */
-    void fatalf(String format, Object param1);
+    void warnf(Throwable t, String format, Object param1);
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    void fatalf(String format, Object param1, Object param2);
+    void warnf(Throwable t, String format, Object param1, Object param2);
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    void fatalf(String format, Object param1, Object param2, Object param3);
+    void warnf(Throwable t, String format, Object param1, Object param2, Object param3);
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a formatted log message with a level of WARN.
      *
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param params the parameters
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
      */
-    void fatalf(Throwable t, String format, Object... params);
+    default void warnf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a formatted log message with a level of WARN.
      *
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param param1 the sole parameter
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    void fatalf(Throwable t, String format, Object param1);
+    default void warnf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a formatted log message with a level of WARN.
      *
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
      */
-    void fatalf(Throwable t, String format, Object param1, Object param2);
+    default void warnf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a formatted log message with a level of WARN.
      *
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
      */
-    void fatalf(Throwable t, String format, Object param1, Object param2, Object param3);
+    default void warnf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
 
     /**
-     * Log a message at the given level.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param level   the level
-     * @param message the message
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
      */
-    void log(Logger.Level level, Object message);
+    default void warnf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
 
     /**
-     * Issue a log message and throwable at the given log level.
+     * Issue a log message with a level of WARN. The supplier is only invoked if the level is enabled.
      *
-     * @param level   the level
-     * @param message the message
-     * @param t       the throwable
+     * @param message the supplier of the message
      */
-    void log(Logger.Level level, Object message, Throwable t);
+    default void warnLazy(Supplier<?> message) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warn(supplied(message));
+        }
+    }
 
     /**
-     * Issue a log message and throwable at the given log level and a specific logger class name.
+     * Issue a log message and throwable with a level of WARN. The supplier is only invoked if the level is enabled.
      *
-     * @param level      the level
-     * @param loggerFqcn the logger class name
-     * @param message    the message
-     * @param t          the throwable
+     * @param message the supplier of the message
+     * @param t       the throwable
      */
-    void log(Logger.Level level, String loggerFqcn, Object message, Throwable t);
+    default void warnLazy(Supplier<?> message, Throwable t) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warn(supplied(message), t);
+        }
+    }
 
     /**
-     * Issue a log message with parameters and a throwable at the given log level.
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
      *
-     * @param loggerFqcn the logger class name
-     * @param level      the level
-     * @param message    the message
-     * @param params     the message parameters
-     * @param t          the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
      */
-    void log(String loggerFqcn, Logger.Level level, Object message, Object[] params, Throwable t);
+    default void warnfLazy(String format, Supplier<?> param1) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(format, supplied(param1));
+        }
+    }
 
     /**
-     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
      *
-     * @param level  the level
-     * @param format the message format string
-     * @param params the parameters
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
      */
-    void logv(Logger.Level level, String format, Object... params);
+    default void warnfLazy(String format, Supplier<?> param1, Supplier<?> param2) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(format, supplied(param1), supplied(param2));
+        }
+    }
 
     /**
-     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
      *
-     * @param level  the level
-     * @param format the message format string
-     * @param param1 the sole parameter
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    default void warnfLazy(String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    default void warnfLazy(Throwable t, String format, Supplier<?> param1) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(t, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    default void warnfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(t, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    default void warnfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (isEnabled(Logger.Level.WARN)) {
+            warnf(t, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a log message with a level of ERROR.
+     *
+     * @param message the message
+     */
+    void error(Object message);
+
+    /**
+     * Issue a log message and throwable with a level of ERROR.
+     *
+     * @param message the message
+     * @param t       the throwable
+     */
+    void error(Object message, Throwable t);
+
+    /**
+     * Issue a log message and throwable with a level of ERROR and a specific logger class name.
+     *
+     * @param loggerFqcn the logger class name
+     * @param message    the message
+     * @param t          the throwable
+     */
+    void error(String loggerFqcn, Object message, Throwable t);
+
+    /**
+     * Issue a log message with parameters and a throwable with a level of ERROR.
+     *
+     * @param loggerFqcn the logger class name
+     * @param message    the message
+     * @param params     the message parameters
+     * @param t          the throwable
+     */
+    void error(String loggerFqcn, Object message, Object[] params, Throwable t);
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param params the parameters
+     */
+    void errorv(String format, Object... params);
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the sole parameter
+     */
+    void errorv(String format, Object param1);
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    void errorv(String format, Object param1, Object param2);
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    void errorv(String format, Object param1, Object param2, Object param3);
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void errorv(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorv(format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void errorv(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorv(format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void errorv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorv(format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void errorv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorv(format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param params the parameters
+     */
+    void errorv(Throwable t, String format, Object... params);
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the sole parameter
+     */
+    void errorv(Throwable t, String format, Object param1);
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    void errorv(Throwable t, String format, Object param1, Object param2);
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    void errorv(Throwable t, String format, Object param1, Object param2, Object param3);
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    default void errorv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorv(t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void errorv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorv(t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void errorv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorv(t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void errorv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorv(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void errorv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorv(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param params the parameters
+     */
+    void errorf(String format, Object... params);
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the sole parameter
+     */
+    void errorf(String format, Object param1);
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    void errorf(String format, Object param1, Object param2);
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    void errorf(String format, Object param1, Object param2, Object param3);
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void errorf(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void errorf(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void errorf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void errorf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param params the parameters
+     */
+    void errorf(Throwable t, String format, Object... params);
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the sole parameter
+     */
+    void errorf(Throwable t, String format, Object param1);
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    void errorf(Throwable t, String format, Object param1, Object param2);
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    void errorf(Throwable t, String format, Object param1, Object param2, Object param3);
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    default void errorf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void errorf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void errorf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void errorf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void errorf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of ERROR. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
+    default void errorLazy(Supplier<?> message) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            error(supplied(message));
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of ERROR. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    default void errorLazy(Supplier<?> message, Throwable t) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            error(supplied(message), t);
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    default void errorfLazy(String format, Supplier<?> param1) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    default void errorfLazy(String format, Supplier<?> param1, Supplier<?> param2) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    default void errorfLazy(String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    default void errorfLazy(Throwable t, String format, Supplier<?> param1) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(t, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    default void errorfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(t, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    default void errorfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (isEnabled(Logger.Level.ERROR)) {
+            errorf(t, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a log message with a level of FATAL.
+     *
+     * @param message the message
+     */
+    void fatal(Object message);
+
+    /**
+     * Issue a log message and throwable with a level of FATAL.
+     *
+     * @param message the message
+     * @param t       the throwable
+     */
+    void fatal(Object message, Throwable t);
+
+    /**
+     * Issue a log message and throwable with a level of FATAL and a specific logger class name.
+     *
+     * @param loggerFqcn the logger class name
+     * @param message    the message
+     * @param t          the throwable
+     */
+    void fatal(String loggerFqcn, Object message, Throwable t);
+
+    /**
+     * Issue a log message with parameters and a throwable with a level of FATAL.
+     *
+     * @param loggerFqcn the logger class name
+     * @param message    the message
+     * @param params     the message parameters
+     * @param t          the throwable
+     */
+    void fatal(String loggerFqcn, Object message, Object[] params, Throwable t);
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param params the parameters
+     */
+    void fatalv(String format, Object... params);
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the sole parameter
+     */
+    void fatalv(String format, Object param1);
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    void fatalv(String format, Object param1, Object param2);
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    void fatalv(String format, Object param1, Object param2, Object param3);
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void fatalv(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalv(format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void fatalv(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalv(format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void fatalv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalv(format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void fatalv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalv(format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param params the parameters
+     */
+    void fatalv(Throwable t, String format, Object... params);
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the sole parameter
+     */
+    void fatalv(Throwable t, String format, Object param1);
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    void fatalv(Throwable t, String format, Object param1, Object param2);
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    void fatalv(Throwable t, String format, Object param1, Object param2, Object param3);
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    default void fatalv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalv(t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void fatalv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalv(t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void fatalv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalv(t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void fatalv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalv(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void fatalv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalv(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param params the parameters
+     */
+    void fatalf(String format, Object... params);
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the sole parameter
+     */
+    void fatalf(String format, Object param1);
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    void fatalf(String format, Object param1, Object param2);
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    void fatalf(String format, Object param1, Object param2, Object param3);
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void fatalf(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void fatalf(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void fatalf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void fatalf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param params the parameters
+     */
+    void fatalf(Throwable t, String format, Object... params);
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the sole parameter
+     */
+    void fatalf(Throwable t, String format, Object param1);
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    void fatalf(Throwable t, String format, Object param1, Object param2);
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    void fatalf(Throwable t, String format, Object param1, Object param2, Object param3);
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    default void fatalf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void fatalf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void fatalf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void fatalf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void fatalf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
+    /**
+     * Issue a log message with a level of FATAL. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
+    default void fatalLazy(Supplier<?> message) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatal(supplied(message));
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of FATAL. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    default void fatalLazy(Supplier<?> message, Throwable t) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatal(supplied(message), t);
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    default void fatalfLazy(String format, Supplier<?> param1) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    default void fatalfLazy(String format, Supplier<?> param1, Supplier<?> param2) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    default void fatalfLazy(String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    default void fatalfLazy(Throwable t, String format, Supplier<?> param1) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(t, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    default void fatalfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(t, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    default void fatalfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (isEnabled(Logger.Level.FATAL)) {
+            fatalf(t, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Log a message at the given level.
+     *
+     * @param level   the level
+     * @param message the message
+     */
+    void log(Logger.Level level, Object message);
+
+    /**
+     * Issue a log message and throwable at the given log level.
+     *
+     * @param level   the level
+     * @param message the message
+     * @param t       the throwable
+     */
+    void log(Logger.Level level, Object message, Throwable t);
+
+    /**
+     * Issue a log message and throwable at the given log level and a specific logger class name.
+     *
+     * @param level      the level
+     * @param loggerFqcn the logger class name
+     * @param message    the message
+     * @param t          the throwable
+     */
+    void log(Logger.Level level, String loggerFqcn, Object message, Throwable t);
+
+    /**
+     * Issue a log message with parameters and a throwable at the given log level.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param message    the message
+     * @param params     the message parameters
+     * @param t          the throwable
+     */
+    void log(String loggerFqcn, Logger.Level level, Object message, Object[] params, Throwable t);
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param format the message format string
+     * @param params the parameters
+     */
+    void logv(Logger.Level level, String format, Object... params);
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param format the message format string
+     * @param param1 the sole parameter
      */
     void logv(Logger.Level level, String format, Object param1);
 
@@ -1700,6 +4318,84 @@ public interface BasicLogger {
      */
     void logv(Logger.Level level, String format, Object param1, Object param2, Object param3);
 
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void logv(Logger.Level level, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5) {
+        if (isEnabled(level)) {
+            logv(level, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void logv(Logger.Level level, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5, Object param6) {
+        if (isEnabled(level)) {
+            logv(level, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void logv(Logger.Level level, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5, Object param6, Object param7) {
+        if (isEnabled(level)) {
+            logv(level, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void logv(Logger.Level level, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5, Object param6, Object param7, Object param8) {
+        if (isEnabled(level)) {
+            logv(level, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
     /**
      * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
      *
@@ -1718,30 +4414,196 @@ public interface BasicLogger {
      * @param format the message format string
      * @param param1 the sole parameter
      */
-    void logv(Logger.Level level, Throwable t, String format, Object param1);
+    void logv(Logger.Level level, Throwable t, String format, Object param1);
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    void logv(Logger.Level level, Throwable t, String format, Object param1, Object param2);
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    void logv(Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3);
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    default void logv(Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4) {
+        if (isEnabled(level)) {
+            logv(level, t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void logv(Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5) {
+        if (isEnabled(level)) {
+            logv(level, t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void logv(Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5, Object param6) {
+        if (isEnabled(level)) {
+            logv(level, t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void logv(Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5, Object param6, Object param7) {
+        if (isEnabled(level)) {
+            logv(level, t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void logv(Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5, Object param6, Object param7, Object param8) {
+        if (isEnabled(level)) {
+            logv(level, t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable
+     * @param format     the message format string
+     * @param params     the parameters
+     */
+    void logv(String loggerFqcn, Logger.Level level, Throwable t, String format, Object... params);
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable
+     * @param format     the message format string
+     * @param param1     the sole parameter
+     */
+    void logv(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1);
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable
+     * @param format     the message format string
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     */
+    void logv(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2);
 
     /**
      * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param level  the level
-     * @param t      the throwable
-     * @param format the message format string
-     * @param param1 the first parameter
-     * @param param2 the second parameter
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable
+     * @param format     the message format string
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
      */
-    void logv(Logger.Level level, Throwable t, String format, Object param1, Object param2);
+    void logv(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3);
 
     /**
      * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param level  the level
-     * @param t      the throwable
-     * @param format the message format string
-     * @param param1 the first parameter
-     * @param param2 the second parameter
-     * @param param3 the third parameter
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable
+     * @param format     the message format string
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
      */
-    void logv(Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3);
+    default void logv(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2,
+            Object param3, Object param4) {
+        if (isEnabled(level)) {
+            logv(loggerFqcn, level, t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
 
     /**
      * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
@@ -1750,9 +4612,18 @@ public interface BasicLogger {
      * @param level      the level
      * @param t          the throwable
      * @param format     the message format string
-     * @param params     the parameters
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
      */
-    void logv(String loggerFqcn, Logger.Level level, Throwable t, String format, Object... params);
+    default void logv(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2,
+            Object param3, Object param4, Object param5) {
+        if (isEnabled(level)) {
+            logv(loggerFqcn, level, t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
 
     /**
      * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
@@ -1761,9 +4632,19 @@ public interface BasicLogger {
      * @param level      the level
      * @param t          the throwable
      * @param format     the message format string
-     * @param param1     the sole parameter
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     * @param param6     the sixth parameter
      */
-    void logv(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1);
+    default void logv(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2,
+            Object param3, Object param4, Object param5, Object param6) {
+        if (isEnabled(level)) {
+            logv(loggerFqcn, level, t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
 
     /**
      * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
@@ -1774,8 +4655,18 @@ public interface BasicLogger {
      * @param format     the message format string
      * @param param1     the first parameter
      * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     * @param param6     the sixth parameter
+     * @param param7     the seventh parameter
      */
-    void logv(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2);
+    default void logv(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2,
+            Object param3, Object param4, Object param5, Object param6, Object param7) {
+        if (isEnabled(level)) {
+            logv(loggerFqcn, level, t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
 
     /**
      * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
@@ -1787,8 +4678,18 @@ public interface BasicLogger {
      * @param param1     the first parameter
      * @param param2     the second parameter
      * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     * @param param6     the sixth parameter
+     * @param param7     the seventh parameter
+     * @param param8     the eighth parameter
      */
-    void logv(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3);
+    default void logv(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2,
+            Object param3, Object param4, Object param5, Object param6, Object param7, Object param8) {
+        if (isEnabled(level)) {
+            logv(loggerFqcn, level, t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
 
     /**
      * Issue a formatted log message at the given log level.
@@ -1829,6 +4730,84 @@ public interface BasicLogger {
      */
     void logf(Logger.Level level, String format, Object param1, Object param2, Object param3);
 
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void logf(Logger.Level level, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5) {
+        if (isEnabled(level)) {
+            logf(level, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void logf(Logger.Level level, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5, Object param6) {
+        if (isEnabled(level)) {
+            logf(level, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void logf(Logger.Level level, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5, Object param6, Object param7) {
+        if (isEnabled(level)) {
+            logf(level, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void logf(Logger.Level level, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5, Object param6, Object param7, Object param8) {
+        if (isEnabled(level)) {
+            logf(level, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
     /**
      * Issue a formatted log message at the given log level.
      *
@@ -1872,6 +4851,106 @@ public interface BasicLogger {
      */
     void logf(Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3);
 
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    default void logf(Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4) {
+        if (isEnabled(level)) {
+            logf(level, t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    default void logf(Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5) {
+        if (isEnabled(level)) {
+            logf(level, t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    default void logf(Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5, Object param6) {
+        if (isEnabled(level)) {
+            logf(level, t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    default void logf(Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5, Object param6, Object param7) {
+        if (isEnabled(level)) {
+            logf(level, t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    default void logf(Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5, Object param6, Object param7, Object param8) {
+        if (isEnabled(level)) {
+            logf(level, t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
     /**
      * Log a message at the given level.
      *
@@ -1908,6 +4987,111 @@ public interface BasicLogger {
      */
     void logf(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2, Object param3);
 
+    /**
+     * Log a message at the given level.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable cause
+     * @param format     the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     */
+    default void logf(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2,
+            Object param3, Object param4) {
+        if (isEnabled(level)) {
+            logf(loggerFqcn, level, t, format, new Object[] { param1, param2, param3, param4 });
+        }
+    }
+
+    /**
+     * Log a message at the given level.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable cause
+     * @param format     the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     */
+    default void logf(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2,
+            Object param3, Object param4, Object param5) {
+        if (isEnabled(level)) {
+            logf(loggerFqcn, level, t, format, new Object[] { param1, param2, param3, param4, param5 });
+        }
+    }
+
+    /**
+     * Log a message at the given level.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable cause
+     * @param format     the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     * @param param6     the sixth parameter
+     */
+    default void logf(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2,
+            Object param3, Object param4, Object param5, Object param6) {
+        if (isEnabled(level)) {
+            logf(loggerFqcn, level, t, format, new Object[] { param1, param2, param3, param4, param5, param6 });
+        }
+    }
+
+    /**
+     * Log a message at the given level.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable cause
+     * @param format     the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     * @param param6     the sixth parameter
+     * @param param7     the seventh parameter
+     */
+    default void logf(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2,
+            Object param3, Object param4, Object param5, Object param6, Object param7) {
+        if (isEnabled(level)) {
+            logf(loggerFqcn, level, t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 });
+        }
+    }
+
+    /**
+     * Log a message at the given level.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable cause
+     * @param format     the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     * @param param6     the sixth parameter
+     * @param param7     the seventh parameter
+     * @param param8     the eighth parameter
+     */
+    default void logf(String loggerFqcn, Logger.Level level, Throwable t, String format, Object param1, Object param2,
+            Object param3, Object param4, Object param5, Object param6, Object param7, Object param8) {
+        if (isEnabled(level)) {
+            logf(loggerFqcn, level, t, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 });
+        }
+    }
+
     /**
      * Log a message at the given level.
      *
@@ -1918,4 +5102,121 @@ public interface BasicLogger {
      * @param params     the message parameters
      */
     void logf(String loggerFqcn, Logger.Level level, Throwable t, String format, Object... params);
+
+    /**
+     * Issue a log message with the given level. The supplier is only invoked if the level is enabled.
+     *
+     * @param level   the level
+     * @param message the supplier of the message
+     */
+    default void logLazy(Logger.Level level, Supplier<?> message) {
+        if (isEnabled(level)) {
+            log(level, supplied(message));
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with the given level. The supplier is only invoked if the level is enabled.
+     *
+     * @param level   the level
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    default void logLazy(Logger.Level level, Supplier<?> message, Throwable t) {
+        if (isEnabled(level)) {
+            log(level, supplied(message), t);
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    default void logfLazy(Logger.Level level, String format, Supplier<?> param1) {
+        if (isEnabled(level)) {
+            logf(level, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    default void logfLazy(Logger.Level level, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (isEnabled(level)) {
+            logf(level, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    default void logfLazy(Logger.Level level, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (isEnabled(level)) {
+            logf(level, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    default void logfLazy(Logger.Level level, Throwable t, String format, Supplier<?> param1) {
+        if (isEnabled(level)) {
+            logf(level, t, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    default void logfLazy(Logger.Level level, Throwable t, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (isEnabled(level)) {
+            logf(level, t, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    default void logfLazy(Logger.Level level, Throwable t, String format, Supplier<?> param1, Supplier<?> param2,
+            Supplier<?> param3) {
+        if (isEnabled(level)) {
+            logf(level, t, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    private static Object supplied(final Supplier<?> supplier) {
+        return supplier == null ? null : supplier.get();
+    }
 }
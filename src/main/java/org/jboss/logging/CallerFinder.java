@@ -0,0 +1,62 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Optional;
+
+/**
+ * Locates the caller of a logger on the current thread's stack.
+ * <p>
+ * Frames are walked lazily with a {@link StackWalker}, which skips hidden and reflection frames, and the walk stops at
+ * the first frame past the logger class.
+ * </p>
+ */
+final class CallerFinder {
+
+    private static final StackWalker WALKER;
+
+    static {
+        if (System.getSecurityManager() == null) {
+            WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+        } else {
+            WALKER = AccessController.doPrivileged((PrivilegedAction<StackWalker>) () -> StackWalker
+                    .getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE));
+        }
+    }
+
+    private CallerFinder() {
+    }
+
+    /**
+     * Finds the frame which called into the logger. This is the first frame following the frames of the logger class.
+     *
+     * @param loggerClassName the name of the logger class
+     *
+     * @return the calling frame or {@code null} if the logger class is not on the stack or has no caller
+     */
+    static StackWalker.StackFrame find(final String loggerClassName) {
+        final Optional<StackWalker.StackFrame> frame = WALKER.walk(frames -> frames
+                .dropWhile(f -> !loggerClassName.equals(f.getClassName()))
+                .dropWhile(f -> loggerClassName.equals(f.getClassName()))
+                .findFirst());
+        return frame.orElse(null);
+    }
+}
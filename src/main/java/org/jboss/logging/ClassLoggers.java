@@ -0,0 +1,113 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-class state for {@link Logger#getLogger(Class)} and {@link Logger#getLogger(Class, String)}.
+ * <p>
+ * The logger names are always cached. The loggers themselves are only cached when the provider returns the same logger
+ * for a name regardless of the calling context, for example the JBoss Log Manager returns a logger per log context.
+ * </p>
+ */
+final class ClassLoggers {
+
+    // Suffixes are expected to be constants, this guards against a suffix built per call
+    private static final int MAX_SUFFIXES = 64;
+
+    private static final ClassValue<ClassLoggers> CLASS_LOGGERS = new ClassValue<ClassLoggers>() {
+        @Override
+        protected ClassLoggers computeValue(final Class<?> type) {
+            return new ClassLoggers(type.getName());
+        }
+    };
+
+    private final String name;
+    private final ConcurrentMap<String, Suffixed> suffixes = new ConcurrentHashMap<>();
+    private volatile Logger logger;
+
+    private ClassLoggers(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the logger for the class.
+     *
+     * @param clazz the class
+     *
+     * @return the logger
+     */
+    static Logger getLogger(final Class<?> clazz) {
+        final ClassLoggers classLoggers = CLASS_LOGGERS.get(clazz);
+        if (!LoggerProviders.STABLE_LOGGERS) {
+            return LoggerProviders.PROVIDER.getLogger(classLoggers.name);
+        }
+        Logger logger = classLoggers.logger;
+        if (logger == null) {
+            logger = LoggerProviders.PROVIDER.getLogger(classLoggers.name);
+            classLoggers.logger = logger;
+        }
+        return logger;
+    }
+
+    /**
+     * Returns the logger for the class name followed by the suffix.
+     *
+     * @param clazz  the class
+     * @param suffix the suffix to append to the class name
+     *
+     * @return the logger
+     */
+    static Logger getLogger(final Class<?> clazz, final String suffix) {
+        final ClassLoggers classLoggers = CLASS_LOGGERS.get(clazz);
+        if (suffix == null) {
+            return LoggerProviders.PROVIDER.getLogger(classLoggers.name + "." + suffix);
+        }
+        Suffixed suffixed = classLoggers.suffixes.get(suffix);
+        if (suffixed == null) {
+            suffixed = new Suffixed(classLoggers.name + "." + suffix);
+            if (classLoggers.suffixes.size() < MAX_SUFFIXES) {
+                final Suffixed appearing = classLoggers.suffixes.putIfAbsent(suffix, suffixed);
+                if (appearing != null) {
+                    suffixed = appearing;
+                }
+            }
+        }
+        if (!LoggerProviders.STABLE_LOGGERS) {
+            return LoggerProviders.PROVIDER.getLogger(suffixed.name);
+        }
+        Logger logger = suffixed.logger;
+        if (logger == null) {
+            logger = LoggerProviders.PROVIDER.getLogger(suffixed.name);
+            suffixed.logger = logger;
+        }
+        return logger;
+    }
+
+    private static final class Suffixed {
+        private final String name;
+        private volatile Logger logger;
+
+        private Suffixed(final String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+/**
+ * The MDC and NDC captured by a {@link LoggerProvider}. The type of each part depends on the provider, which is the
+ * only one reading it.
+ */
+final class ContextSnapshot {
+
+    final Object mdc;
+    final Object ndc;
+
+    private ContextSnapshot(final Object mdc, final Object ndc) {
+        this.mdc = mdc;
+        this.ndc = ndc;
+    }
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param mdc the MDC, or {@code null} if it is empty
+     * @param ndc the NDC, or {@code null} if it is empty
+     *
+     * @return the snapshot, or {@code null} if both are empty
+     */
+    static ContextSnapshot of(final Object mdc, final Object ndc) {
+        return mdc == null && ndc == null ? null : new ContextSnapshot(mdc, ndc);
+    }
+}
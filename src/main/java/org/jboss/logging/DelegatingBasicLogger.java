@@ -19,6 +19,7 @@
 package org.jboss.logging;
 
 import java.io.Serializable;
+import java.util.function.Supplier;
 
 /**
  * A serializable, delegating basic logger instance.
@@ -93,6 +94,30 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logv(FQCN, Logger.Level.TRACE, null, format, param1, param2, param3);
     }
 
+    @Override
+    public void tracev(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5) {
+        log.logv(FQCN, Logger.Level.TRACE, null, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void tracev(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6) {
+        log.logv(FQCN, Logger.Level.TRACE, null, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void tracev(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7) {
+        log.logv(FQCN, Logger.Level.TRACE, null, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void tracev(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logv(FQCN, Logger.Level.TRACE, null, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void tracev(final Throwable t, final String format, final Object... params) {
         log.logv(FQCN, Logger.Level.TRACE, t, format, params);
@@ -113,6 +138,36 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logv(FQCN, Logger.Level.TRACE, t, format, param1, param2, param3);
     }
 
+    @Override
+    public void tracev(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4) {
+        log.logv(FQCN, Logger.Level.TRACE, t, format, param1, param2, param3, param4);
+    }
+
+    @Override
+    public void tracev(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5) {
+        log.logv(FQCN, Logger.Level.TRACE, t, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void tracev(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6) {
+        log.logv(FQCN, Logger.Level.TRACE, t, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void tracev(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logv(FQCN, Logger.Level.TRACE, t, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void tracev(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logv(FQCN, Logger.Level.TRACE, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void tracef(final String format, final Object... params) {
         log.logf(FQCN, Logger.Level.TRACE, null, format, params);
@@ -133,6 +188,30 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logf(FQCN, Logger.Level.TRACE, null, format, param1, param2, param3);
     }
 
+    @Override
+    public void tracef(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5) {
+        log.logf(FQCN, Logger.Level.TRACE, null, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void tracef(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6) {
+        log.logf(FQCN, Logger.Level.TRACE, null, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void tracef(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7) {
+        log.logf(FQCN, Logger.Level.TRACE, null, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void tracef(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logf(FQCN, Logger.Level.TRACE, null, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void tracef(final Throwable t, final String format, final Object... params) {
         log.logf(FQCN, Logger.Level.TRACE, t, format, params);
@@ -153,6 +232,36 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logf(FQCN, Logger.Level.TRACE, t, format, param1, param2, param3);
     }
 
+    @Override
+    public void tracef(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4) {
+        log.logf(FQCN, Logger.Level.TRACE, t, format, param1, param2, param3, param4);
+    }
+
+    @Override
+    public void tracef(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5) {
+        log.logf(FQCN, Logger.Level.TRACE, t, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void tracef(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6) {
+        log.logf(FQCN, Logger.Level.TRACE, t, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void tracef(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logf(FQCN, Logger.Level.TRACE, t, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void tracef(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logf(FQCN, Logger.Level.TRACE, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void tracef(final String format, final int arg) {
         log.tracef(format, arg);
@@ -273,6 +382,119 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.tracef(t, format, arg1, arg2, arg3);
     }
 
+    /**
+     * Issue a log message with a level of TRACE. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
+    @Override
+    public void traceLazy(final Supplier<?> message) {
+        if (log.isEnabled(Logger.Level.TRACE)) {
+            log.log(FQCN, Logger.Level.TRACE, supplied(message), null, null);
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of TRACE. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    @Override
+    public void traceLazy(final Supplier<?> message, final Throwable t) {
+        if (log.isEnabled(Logger.Level.TRACE)) {
+            log.log(FQCN, Logger.Level.TRACE, supplied(message), null, t);
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    @Override
+    public void tracefLazy(final String format, final Supplier<?> param1) {
+        if (log.isEnabled(Logger.Level.TRACE)) {
+            log.logf(FQCN, Logger.Level.TRACE, null, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    @Override
+    public void tracefLazy(final String format, final Supplier<?> param1, final Supplier<?> param2) {
+        if (log.isEnabled(Logger.Level.TRACE)) {
+            log.logf(FQCN, Logger.Level.TRACE, null, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    @Override
+    public void tracefLazy(final String format, final Supplier<?> param1, final Supplier<?> param2, final Supplier<?> param3) {
+        if (log.isEnabled(Logger.Level.TRACE)) {
+            log.logf(FQCN, Logger.Level.TRACE, null, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    @Override
+    public void tracefLazy(final Throwable t, final String format, final Supplier<?> param1) {
+        if (log.isEnabled(Logger.Level.TRACE)) {
+            log.logf(FQCN, Logger.Level.TRACE, t, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    @Override
+    public void tracefLazy(final Throwable t, final String format, final Supplier<?> param1, final Supplier<?> param2) {
+        if (log.isEnabled(Logger.Level.TRACE)) {
+            log.logf(FQCN, Logger.Level.TRACE, t, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    @Override
+    public void tracefLazy(final Throwable t, final String format, final Supplier<?> param1, final Supplier<?> param2,
+            final Supplier<?> param3) {
+        if (log.isEnabled(Logger.Level.TRACE)) {
+            log.logf(FQCN, Logger.Level.TRACE, t, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
     @Override
     public boolean isDebugEnabled() {
         return log.isDebugEnabled();
@@ -318,6 +540,30 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logv(FQCN, Logger.Level.DEBUG, null, format, param1, param2, param3);
     }
 
+    @Override
+    public void debugv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5) {
+        log.logv(FQCN, Logger.Level.DEBUG, null, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void debugv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6) {
+        log.logv(FQCN, Logger.Level.DEBUG, null, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void debugv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7) {
+        log.logv(FQCN, Logger.Level.DEBUG, null, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void debugv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logv(FQCN, Logger.Level.DEBUG, null, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void debugv(final Throwable t, final String format, final Object... params) {
         log.logv(FQCN, Logger.Level.DEBUG, t, format, params);
@@ -338,6 +584,36 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logv(FQCN, Logger.Level.DEBUG, t, format, param1, param2, param3);
     }
 
+    @Override
+    public void debugv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4) {
+        log.logv(FQCN, Logger.Level.DEBUG, t, format, param1, param2, param3, param4);
+    }
+
+    @Override
+    public void debugv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5) {
+        log.logv(FQCN, Logger.Level.DEBUG, t, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void debugv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6) {
+        log.logv(FQCN, Logger.Level.DEBUG, t, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void debugv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logv(FQCN, Logger.Level.DEBUG, t, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void debugv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logv(FQCN, Logger.Level.DEBUG, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void debugf(final String format, final Object... params) {
         log.logf(FQCN, Logger.Level.DEBUG, null, format, params);
@@ -358,6 +634,30 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logf(FQCN, Logger.Level.DEBUG, null, format, param1, param2, param3);
     }
 
+    @Override
+    public void debugf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5) {
+        log.logf(FQCN, Logger.Level.DEBUG, null, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void debugf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6) {
+        log.logf(FQCN, Logger.Level.DEBUG, null, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void debugf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7) {
+        log.logf(FQCN, Logger.Level.DEBUG, null, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void debugf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logf(FQCN, Logger.Level.DEBUG, null, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void debugf(final Throwable t, final String format, final Object... params) {
         log.logf(FQCN, Logger.Level.DEBUG, t, format, params);
@@ -378,6 +678,36 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logf(FQCN, Logger.Level.DEBUG, t, format, param1, param2, param3);
     }
 
+    @Override
+    public void debugf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4) {
+        log.logf(FQCN, Logger.Level.DEBUG, t, format, param1, param2, param3, param4);
+    }
+
+    @Override
+    public void debugf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5) {
+        log.logf(FQCN, Logger.Level.DEBUG, t, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void debugf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6) {
+        log.logf(FQCN, Logger.Level.DEBUG, t, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void debugf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logf(FQCN, Logger.Level.DEBUG, t, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void debugf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logf(FQCN, Logger.Level.DEBUG, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void debugf(final String format, final int arg) {
         log.debugf(format, arg);
@@ -498,6 +828,119 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.debugf(t, format, arg1, arg2, arg3);
     }
 
+    /**
+     * Issue a log message with a level of DEBUG. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
+    @Override
+    public void debugLazy(final Supplier<?> message) {
+        if (log.isEnabled(Logger.Level.DEBUG)) {
+            log.log(FQCN, Logger.Level.DEBUG, supplied(message), null, null);
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of DEBUG. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    @Override
+    public void debugLazy(final Supplier<?> message, final Throwable t) {
+        if (log.isEnabled(Logger.Level.DEBUG)) {
+            log.log(FQCN, Logger.Level.DEBUG, supplied(message), null, t);
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    @Override
+    public void debugfLazy(final String format, final Supplier<?> param1) {
+        if (log.isEnabled(Logger.Level.DEBUG)) {
+            log.logf(FQCN, Logger.Level.DEBUG, null, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    @Override
+    public void debugfLazy(final String format, final Supplier<?> param1, final Supplier<?> param2) {
+        if (log.isEnabled(Logger.Level.DEBUG)) {
+            log.logf(FQCN, Logger.Level.DEBUG, null, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    @Override
+    public void debugfLazy(final String format, final Supplier<?> param1, final Supplier<?> param2, final Supplier<?> param3) {
+        if (log.isEnabled(Logger.Level.DEBUG)) {
+            log.logf(FQCN, Logger.Level.DEBUG, null, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    @Override
+    public void debugfLazy(final Throwable t, final String format, final Supplier<?> param1) {
+        if (log.isEnabled(Logger.Level.DEBUG)) {
+            log.logf(FQCN, Logger.Level.DEBUG, t, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    @Override
+    public void debugfLazy(final Throwable t, final String format, final Supplier<?> param1, final Supplier<?> param2) {
+        if (log.isEnabled(Logger.Level.DEBUG)) {
+            log.logf(FQCN, Logger.Level.DEBUG, t, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    @Override
+    public void debugfLazy(final Throwable t, final String format, final Supplier<?> param1, final Supplier<?> param2,
+            final Supplier<?> param3) {
+        if (log.isEnabled(Logger.Level.DEBUG)) {
+            log.logf(FQCN, Logger.Level.DEBUG, t, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
     @Override
     public boolean isInfoEnabled() {
         return log.isInfoEnabled();
@@ -543,6 +986,30 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logv(FQCN, Logger.Level.INFO, null, format, param1, param2, param3);
     }
 
+    @Override
+    public void infov(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5) {
+        log.logv(FQCN, Logger.Level.INFO, null, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void infov(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6) {
+        log.logv(FQCN, Logger.Level.INFO, null, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void infov(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7) {
+        log.logv(FQCN, Logger.Level.INFO, null, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void infov(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logv(FQCN, Logger.Level.INFO, null, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void infov(final Throwable t, final String format, final Object... params) {
         log.logv(FQCN, Logger.Level.INFO, t, format, params);
@@ -563,6 +1030,36 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logv(FQCN, Logger.Level.INFO, t, format, param1, param2, param3);
     }
 
+    @Override
+    public void infov(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4) {
+        log.logv(FQCN, Logger.Level.INFO, t, format, param1, param2, param3, param4);
+    }
+
+    @Override
+    public void infov(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5) {
+        log.logv(FQCN, Logger.Level.INFO, t, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void infov(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6) {
+        log.logv(FQCN, Logger.Level.INFO, t, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void infov(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logv(FQCN, Logger.Level.INFO, t, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void infov(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logv(FQCN, Logger.Level.INFO, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void infof(final String format, final Object... params) {
         log.logf(FQCN, Logger.Level.INFO, null, format, params);
@@ -583,6 +1080,30 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logf(FQCN, Logger.Level.INFO, null, format, param1, param2, param3);
     }
 
+    @Override
+    public void infof(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5) {
+        log.logf(FQCN, Logger.Level.INFO, null, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void infof(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6) {
+        log.logf(FQCN, Logger.Level.INFO, null, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void infof(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7) {
+        log.logf(FQCN, Logger.Level.INFO, null, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void infof(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logf(FQCN, Logger.Level.INFO, null, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void infof(final Throwable t, final String format, final Object... params) {
         log.logf(FQCN, Logger.Level.INFO, t, format, params);
@@ -604,28 +1125,171 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
     }
 
     @Override
-    public void warn(final Object message) {
-        log.warn(FQCN, message, null);
+    public void infof(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4) {
+        log.logf(FQCN, Logger.Level.INFO, t, format, param1, param2, param3, param4);
     }
 
     @Override
-    public void warn(final Object message, final Throwable t) {
-        log.warn(FQCN, message, t);
+    public void infof(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5) {
+        log.logf(FQCN, Logger.Level.INFO, t, format, param1, param2, param3, param4, param5);
     }
 
     @Override
-    public void warn(final String loggerFqcn, final Object message, final Throwable t) {
-        log.warn(loggerFqcn, message, t);
+    public void infof(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6) {
+        log.logf(FQCN, Logger.Level.INFO, t, format, param1, param2, param3, param4, param5, param6);
     }
 
     @Override
-    public void warn(final String loggerFqcn, final Object message, final Object[] params, final Throwable t) {
-        log.warn(loggerFqcn, message, params, t);
+    public void infof(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logf(FQCN, Logger.Level.INFO, t, format, param1, param2, param3, param4, param5, param6, param7);
     }
 
     @Override
-    public void warnv(final String format, final Object... params) {
-        log.logv(FQCN, Logger.Level.WARN, null, format, params);
+    public void infof(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logf(FQCN, Logger.Level.INFO, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
+    /**
+     * Issue a log message with a level of INFO. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
+    @Override
+    public void infoLazy(final Supplier<?> message) {
+        if (log.isEnabled(Logger.Level.INFO)) {
+            log.log(FQCN, Logger.Level.INFO, supplied(message), null, null);
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of INFO. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    @Override
+    public void infoLazy(final Supplier<?> message, final Throwable t) {
+        if (log.isEnabled(Logger.Level.INFO)) {
+            log.log(FQCN, Logger.Level.INFO, supplied(message), null, t);
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    @Override
+    public void infofLazy(final String format, final Supplier<?> param1) {
+        if (log.isEnabled(Logger.Level.INFO)) {
+            log.logf(FQCN, Logger.Level.INFO, null, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    @Override
+    public void infofLazy(final String format, final Supplier<?> param1, final Supplier<?> param2) {
+        if (log.isEnabled(Logger.Level.INFO)) {
+            log.logf(FQCN, Logger.Level.INFO, null, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    @Override
+    public void infofLazy(final String format, final Supplier<?> param1, final Supplier<?> param2, final Supplier<?> param3) {
+        if (log.isEnabled(Logger.Level.INFO)) {
+            log.logf(FQCN, Logger.Level.INFO, null, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    @Override
+    public void infofLazy(final Throwable t, final String format, final Supplier<?> param1) {
+        if (log.isEnabled(Logger.Level.INFO)) {
+            log.logf(FQCN, Logger.Level.INFO, t, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    @Override
+    public void infofLazy(final Throwable t, final String format, final Supplier<?> param1, final Supplier<?> param2) {
+        if (log.isEnabled(Logger.Level.INFO)) {
+            log.logf(FQCN, Logger.Level.INFO, t, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    @Override
+    public void infofLazy(final Throwable t, final String format, final Supplier<?> param1, final Supplier<?> param2,
+            final Supplier<?> param3) {
+        if (log.isEnabled(Logger.Level.INFO)) {
+            log.logf(FQCN, Logger.Level.INFO, t, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    @Override
+    public void warn(final Object message) {
+        log.warn(FQCN, message, null);
+    }
+
+    @Override
+    public void warn(final Object message, final Throwable t) {
+        log.warn(FQCN, message, t);
+    }
+
+    @Override
+    public void warn(final String loggerFqcn, final Object message, final Throwable t) {
+        log.warn(loggerFqcn, message, t);
+    }
+
+    @Override
+    public void warn(final String loggerFqcn, final Object message, final Object[] params, final Throwable t) {
+        log.warn(loggerFqcn, message, params, t);
+    }
+
+    @Override
+    public void warnv(final String format, final Object... params) {
+        log.logv(FQCN, Logger.Level.WARN, null, format, params);
     }
 
     @Override
@@ -643,6 +1307,30 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logv(FQCN, Logger.Level.WARN, null, format, param1, param2, param3);
     }
 
+    @Override
+    public void warnv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5) {
+        log.logv(FQCN, Logger.Level.WARN, null, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void warnv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6) {
+        log.logv(FQCN, Logger.Level.WARN, null, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void warnv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7) {
+        log.logv(FQCN, Logger.Level.WARN, null, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void warnv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logv(FQCN, Logger.Level.WARN, null, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void warnv(final Throwable t, final String format, final Object... params) {
         log.logv(FQCN, Logger.Level.WARN, t, format, params);
@@ -663,6 +1351,36 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logv(FQCN, Logger.Level.WARN, t, format, param1, param2, param3);
     }
 
+    @Override
+    public void warnv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4) {
+        log.logv(FQCN, Logger.Level.WARN, t, format, param1, param2, param3, param4);
+    }
+
+    @Override
+    public void warnv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5) {
+        log.logv(FQCN, Logger.Level.WARN, t, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void warnv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6) {
+        log.logv(FQCN, Logger.Level.WARN, t, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void warnv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logv(FQCN, Logger.Level.WARN, t, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void warnv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logv(FQCN, Logger.Level.WARN, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void warnf(final String format, final Object... params) {
         log.logf(FQCN, Logger.Level.WARN, null, format, params);
@@ -683,6 +1401,30 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logf(FQCN, Logger.Level.WARN, null, format, param1, param2, param3);
     }
 
+    @Override
+    public void warnf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5) {
+        log.logf(FQCN, Logger.Level.WARN, null, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void warnf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6) {
+        log.logf(FQCN, Logger.Level.WARN, null, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void warnf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7) {
+        log.logf(FQCN, Logger.Level.WARN, null, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void warnf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logf(FQCN, Logger.Level.WARN, null, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void warnf(final Throwable t, final String format, final Object... params) {
         log.logf(FQCN, Logger.Level.WARN, t, format, params);
@@ -703,6 +1445,149 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logf(FQCN, Logger.Level.WARN, t, format, param1, param2, param3);
     }
 
+    @Override
+    public void warnf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4) {
+        log.logf(FQCN, Logger.Level.WARN, t, format, param1, param2, param3, param4);
+    }
+
+    @Override
+    public void warnf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5) {
+        log.logf(FQCN, Logger.Level.WARN, t, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void warnf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6) {
+        log.logf(FQCN, Logger.Level.WARN, t, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void warnf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logf(FQCN, Logger.Level.WARN, t, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void warnf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logf(FQCN, Logger.Level.WARN, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
+    /**
+     * Issue a log message with a level of WARN. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
+    @Override
+    public void warnLazy(final Supplier<?> message) {
+        if (log.isEnabled(Logger.Level.WARN)) {
+            log.log(FQCN, Logger.Level.WARN, supplied(message), null, null);
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of WARN. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    @Override
+    public void warnLazy(final Supplier<?> message, final Throwable t) {
+        if (log.isEnabled(Logger.Level.WARN)) {
+            log.log(FQCN, Logger.Level.WARN, supplied(message), null, t);
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    @Override
+    public void warnfLazy(final String format, final Supplier<?> param1) {
+        if (log.isEnabled(Logger.Level.WARN)) {
+            log.logf(FQCN, Logger.Level.WARN, null, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    @Override
+    public void warnfLazy(final String format, final Supplier<?> param1, final Supplier<?> param2) {
+        if (log.isEnabled(Logger.Level.WARN)) {
+            log.logf(FQCN, Logger.Level.WARN, null, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    @Override
+    public void warnfLazy(final String format, final Supplier<?> param1, final Supplier<?> param2, final Supplier<?> param3) {
+        if (log.isEnabled(Logger.Level.WARN)) {
+            log.logf(FQCN, Logger.Level.WARN, null, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    @Override
+    public void warnfLazy(final Throwable t, final String format, final Supplier<?> param1) {
+        if (log.isEnabled(Logger.Level.WARN)) {
+            log.logf(FQCN, Logger.Level.WARN, t, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    @Override
+    public void warnfLazy(final Throwable t, final String format, final Supplier<?> param1, final Supplier<?> param2) {
+        if (log.isEnabled(Logger.Level.WARN)) {
+            log.logf(FQCN, Logger.Level.WARN, t, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    @Override
+    public void warnfLazy(final Throwable t, final String format, final Supplier<?> param1, final Supplier<?> param2,
+            final Supplier<?> param3) {
+        if (log.isEnabled(Logger.Level.WARN)) {
+            log.logf(FQCN, Logger.Level.WARN, t, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
     @Override
     public void error(final Object message) {
         log.error(FQCN, message, null);
@@ -743,6 +1628,30 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logv(FQCN, Logger.Level.ERROR, null, format, param1, param2, param3);
     }
 
+    @Override
+    public void errorv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5) {
+        log.logv(FQCN, Logger.Level.ERROR, null, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void errorv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6) {
+        log.logv(FQCN, Logger.Level.ERROR, null, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void errorv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7) {
+        log.logv(FQCN, Logger.Level.ERROR, null, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void errorv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logv(FQCN, Logger.Level.ERROR, null, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void errorv(final Throwable t, final String format, final Object... params) {
         log.logv(FQCN, Logger.Level.ERROR, t, format, params);
@@ -763,144 +1672,562 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logv(FQCN, Logger.Level.ERROR, t, format, param1, param2, param3);
     }
 
+    @Override
+    public void errorv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4) {
+        log.logv(FQCN, Logger.Level.ERROR, t, format, param1, param2, param3, param4);
+    }
+
+    @Override
+    public void errorv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5) {
+        log.logv(FQCN, Logger.Level.ERROR, t, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void errorv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6) {
+        log.logv(FQCN, Logger.Level.ERROR, t, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void errorv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logv(FQCN, Logger.Level.ERROR, t, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void errorv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logv(FQCN, Logger.Level.ERROR, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void errorf(final String format, final Object... params) {
         log.logf(FQCN, Logger.Level.ERROR, null, format, params);
     }
 
     @Override
-    public void errorf(final String format, final Object param1) {
-        log.logf(FQCN, Logger.Level.ERROR, null, format, param1);
+    public void errorf(final String format, final Object param1) {
+        log.logf(FQCN, Logger.Level.ERROR, null, format, param1);
+    }
+
+    @Override
+    public void errorf(final String format, final Object param1, final Object param2) {
+        log.logf(FQCN, Logger.Level.ERROR, null, format, param1, param2);
+    }
+
+    @Override
+    public void errorf(final String format, final Object param1, final Object param2, final Object param3) {
+        log.logf(FQCN, Logger.Level.ERROR, null, format, param1, param2, param3);
+    }
+
+    @Override
+    public void errorf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5) {
+        log.logf(FQCN, Logger.Level.ERROR, null, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void errorf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6) {
+        log.logf(FQCN, Logger.Level.ERROR, null, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void errorf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7) {
+        log.logf(FQCN, Logger.Level.ERROR, null, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void errorf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logf(FQCN, Logger.Level.ERROR, null, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
+    @Override
+    public void errorf(final Throwable t, final String format, final Object... params) {
+        log.logf(FQCN, Logger.Level.ERROR, t, format, params);
+    }
+
+    @Override
+    public void errorf(final Throwable t, final String format, final Object param1) {
+        log.logf(FQCN, Logger.Level.ERROR, t, format, param1);
+    }
+
+    @Override
+    public void errorf(final Throwable t, final String format, final Object param1, final Object param2) {
+        log.logf(FQCN, Logger.Level.ERROR, t, format, param1, param2);
+    }
+
+    @Override
+    public void errorf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3) {
+        log.logf(FQCN, Logger.Level.ERROR, t, format, param1, param2, param3);
+    }
+
+    @Override
+    public void errorf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4) {
+        log.logf(FQCN, Logger.Level.ERROR, t, format, param1, param2, param3, param4);
+    }
+
+    @Override
+    public void errorf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5) {
+        log.logf(FQCN, Logger.Level.ERROR, t, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void errorf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6) {
+        log.logf(FQCN, Logger.Level.ERROR, t, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void errorf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logf(FQCN, Logger.Level.ERROR, t, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void errorf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logf(FQCN, Logger.Level.ERROR, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
+    /**
+     * Issue a log message with a level of ERROR. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
+    @Override
+    public void errorLazy(final Supplier<?> message) {
+        if (log.isEnabled(Logger.Level.ERROR)) {
+            log.log(FQCN, Logger.Level.ERROR, supplied(message), null, null);
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of ERROR. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    @Override
+    public void errorLazy(final Supplier<?> message, final Throwable t) {
+        if (log.isEnabled(Logger.Level.ERROR)) {
+            log.log(FQCN, Logger.Level.ERROR, supplied(message), null, t);
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    @Override
+    public void errorfLazy(final String format, final Supplier<?> param1) {
+        if (log.isEnabled(Logger.Level.ERROR)) {
+            log.logf(FQCN, Logger.Level.ERROR, null, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    @Override
+    public void errorfLazy(final String format, final Supplier<?> param1, final Supplier<?> param2) {
+        if (log.isEnabled(Logger.Level.ERROR)) {
+            log.logf(FQCN, Logger.Level.ERROR, null, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    @Override
+    public void errorfLazy(final String format, final Supplier<?> param1, final Supplier<?> param2, final Supplier<?> param3) {
+        if (log.isEnabled(Logger.Level.ERROR)) {
+            log.logf(FQCN, Logger.Level.ERROR, null, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    @Override
+    public void errorfLazy(final Throwable t, final String format, final Supplier<?> param1) {
+        if (log.isEnabled(Logger.Level.ERROR)) {
+            log.logf(FQCN, Logger.Level.ERROR, t, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    @Override
+    public void errorfLazy(final Throwable t, final String format, final Supplier<?> param1, final Supplier<?> param2) {
+        if (log.isEnabled(Logger.Level.ERROR)) {
+            log.logf(FQCN, Logger.Level.ERROR, t, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    @Override
+    public void errorfLazy(final Throwable t, final String format, final Supplier<?> param1, final Supplier<?> param2,
+            final Supplier<?> param3) {
+        if (log.isEnabled(Logger.Level.ERROR)) {
+            log.logf(FQCN, Logger.Level.ERROR, t, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    @Override
+    public void fatal(final Object message) {
+        log.fatal(FQCN, message, null);
+    }
+
+    @Override
+    public void fatal(final Object message, final Throwable t) {
+        log.fatal(FQCN, message, t);
+    }
+
+    @Override
+    public void fatal(final String loggerFqcn, final Object message, final Throwable t) {
+        log.fatal(loggerFqcn, message, t);
+    }
+
+    @Override
+    public void fatal(final String loggerFqcn, final Object message, final Object[] params, final Throwable t) {
+        log.fatal(loggerFqcn, message, params, t);
+    }
+
+    @Override
+    public void fatalv(final String format, final Object... params) {
+        log.logv(FQCN, Logger.Level.FATAL, null, format, params);
+    }
+
+    @Override
+    public void fatalv(final String format, final Object param1) {
+        log.logv(FQCN, Logger.Level.FATAL, null, format, param1);
+    }
+
+    @Override
+    public void fatalv(final String format, final Object param1, final Object param2) {
+        log.logv(FQCN, Logger.Level.FATAL, null, format, param1, param2);
+    }
+
+    @Override
+    public void fatalv(final String format, final Object param1, final Object param2, final Object param3) {
+        log.logv(FQCN, Logger.Level.FATAL, null, format, param1, param2, param3);
+    }
+
+    @Override
+    public void fatalv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5) {
+        log.logv(FQCN, Logger.Level.FATAL, null, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void fatalv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6) {
+        log.logv(FQCN, Logger.Level.FATAL, null, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void fatalv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7) {
+        log.logv(FQCN, Logger.Level.FATAL, null, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void fatalv(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logv(FQCN, Logger.Level.FATAL, null, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
+    @Override
+    public void fatalv(final Throwable t, final String format, final Object... params) {
+        log.logv(FQCN, Logger.Level.FATAL, t, format, params);
+    }
+
+    @Override
+    public void fatalv(final Throwable t, final String format, final Object param1) {
+        log.logv(FQCN, Logger.Level.FATAL, t, format, param1);
+    }
+
+    @Override
+    public void fatalv(final Throwable t, final String format, final Object param1, final Object param2) {
+        log.logv(FQCN, Logger.Level.FATAL, t, format, param1, param2);
+    }
+
+    @Override
+    public void fatalv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3) {
+        log.logv(FQCN, Logger.Level.FATAL, t, format, param1, param2, param3);
+    }
+
+    @Override
+    public void fatalv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4) {
+        log.logv(FQCN, Logger.Level.FATAL, t, format, param1, param2, param3, param4);
+    }
+
+    @Override
+    public void fatalv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5) {
+        log.logv(FQCN, Logger.Level.FATAL, t, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void fatalv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6) {
+        log.logv(FQCN, Logger.Level.FATAL, t, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void fatalv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logv(FQCN, Logger.Level.FATAL, t, format, param1, param2, param3, param4, param5, param6, param7);
     }
 
     @Override
-    public void errorf(final String format, final Object param1, final Object param2) {
-        log.logf(FQCN, Logger.Level.ERROR, null, format, param1, param2);
+    public void fatalv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logv(FQCN, Logger.Level.FATAL, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
     }
 
     @Override
-    public void errorf(final String format, final Object param1, final Object param2, final Object param3) {
-        log.logf(FQCN, Logger.Level.ERROR, null, format, param1, param2, param3);
+    public void fatalf(final String format, final Object... params) {
+        log.logf(FQCN, Logger.Level.FATAL, null, format, params);
     }
 
     @Override
-    public void errorf(final Throwable t, final String format, final Object... params) {
-        log.logf(FQCN, Logger.Level.ERROR, t, format, params);
+    public void fatalf(final String format, final Object param1) {
+        log.logf(FQCN, Logger.Level.FATAL, null, format, param1);
     }
 
     @Override
-    public void errorf(final Throwable t, final String format, final Object param1) {
-        log.logf(FQCN, Logger.Level.ERROR, t, format, param1);
+    public void fatalf(final String format, final Object param1, final Object param2) {
+        log.logf(FQCN, Logger.Level.FATAL, null, format, param1, param2);
     }
 
     @Override
-    public void errorf(final Throwable t, final String format, final Object param1, final Object param2) {
-        log.logf(FQCN, Logger.Level.ERROR, t, format, param1, param2);
+    public void fatalf(final String format, final Object param1, final Object param2, final Object param3) {
+        log.logf(FQCN, Logger.Level.FATAL, null, format, param1, param2, param3);
     }
 
     @Override
-    public void errorf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3) {
-        log.logf(FQCN, Logger.Level.ERROR, t, format, param1, param2, param3);
+    public void fatalf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5) {
+        log.logf(FQCN, Logger.Level.FATAL, null, format, param1, param2, param3, param4, param5);
     }
 
     @Override
-    public void fatal(final Object message) {
-        log.fatal(FQCN, message, null);
+    public void fatalf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6) {
+        log.logf(FQCN, Logger.Level.FATAL, null, format, param1, param2, param3, param4, param5, param6);
     }
 
     @Override
-    public void fatal(final Object message, final Throwable t) {
-        log.fatal(FQCN, message, t);
+    public void fatalf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7) {
+        log.logf(FQCN, Logger.Level.FATAL, null, format, param1, param2, param3, param4, param5, param6, param7);
     }
 
     @Override
-    public void fatal(final String loggerFqcn, final Object message, final Throwable t) {
-        log.fatal(loggerFqcn, message, t);
+    public void fatalf(final String format, final Object param1, final Object param2, final Object param3, final Object param4,
+            final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logf(FQCN, Logger.Level.FATAL, null, format, param1, param2, param3, param4, param5, param6, param7, param8);
     }
 
     @Override
-    public void fatal(final String loggerFqcn, final Object message, final Object[] params, final Throwable t) {
-        log.fatal(loggerFqcn, message, params, t);
+    public void fatalf(final Throwable t, final String format, final Object... params) {
+        log.logf(FQCN, Logger.Level.FATAL, t, format, params);
     }
 
     @Override
-    public void fatalv(final String format, final Object... params) {
-        log.logv(FQCN, Logger.Level.FATAL, null, format, params);
+    public void fatalf(final Throwable t, final String format, final Object param1) {
+        log.logf(FQCN, Logger.Level.FATAL, t, format, param1);
     }
 
     @Override
-    public void fatalv(final String format, final Object param1) {
-        log.logv(FQCN, Logger.Level.FATAL, null, format, param1);
+    public void fatalf(final Throwable t, final String format, final Object param1, final Object param2) {
+        log.logf(FQCN, Logger.Level.FATAL, t, format, param1, param2);
     }
 
     @Override
-    public void fatalv(final String format, final Object param1, final Object param2) {
-        log.logv(FQCN, Logger.Level.FATAL, null, format, param1, param2);
+    public void fatalf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3) {
+        log.logf(FQCN, Logger.Level.FATAL, t, format, param1, param2, param3);
     }
 
     @Override
-    public void fatalv(final String format, final Object param1, final Object param2, final Object param3) {
-        log.logv(FQCN, Logger.Level.FATAL, null, format, param1, param2, param3);
+    public void fatalf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4) {
+        log.logf(FQCN, Logger.Level.FATAL, t, format, param1, param2, param3, param4);
     }
 
     @Override
-    public void fatalv(final Throwable t, final String format, final Object... params) {
-        log.logv(FQCN, Logger.Level.FATAL, t, format, params);
+    public void fatalf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5) {
+        log.logf(FQCN, Logger.Level.FATAL, t, format, param1, param2, param3, param4, param5);
     }
 
     @Override
-    public void fatalv(final Throwable t, final String format, final Object param1) {
-        log.logv(FQCN, Logger.Level.FATAL, t, format, param1);
+    public void fatalf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6) {
+        log.logf(FQCN, Logger.Level.FATAL, t, format, param1, param2, param3, param4, param5, param6);
     }
 
     @Override
-    public void fatalv(final Throwable t, final String format, final Object param1, final Object param2) {
-        log.logv(FQCN, Logger.Level.FATAL, t, format, param1, param2);
+    public void fatalf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logf(FQCN, Logger.Level.FATAL, t, format, param1, param2, param3, param4, param5, param6, param7);
     }
 
     @Override
-    public void fatalv(final Throwable t, final String format, final Object param1, final Object param2, final Object param3) {
-        log.logv(FQCN, Logger.Level.FATAL, t, format, param1, param2, param3);
+    public void fatalf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3,
+            final Object param4, final Object param5, final Object param6, final Object param7, final Object param8) {
+        log.logf(FQCN, Logger.Level.FATAL, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
     }
 
+    /**
+     * Issue a log message with a level of FATAL. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
     @Override
-    public void fatalf(final String format, final Object... params) {
-        log.logf(FQCN, Logger.Level.FATAL, null, format, params);
+    public void fatalLazy(final Supplier<?> message) {
+        if (log.isEnabled(Logger.Level.FATAL)) {
+            log.log(FQCN, Logger.Level.FATAL, supplied(message), null, null);
+        }
     }
 
+    /**
+     * Issue a log message and throwable with a level of FATAL. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
     @Override
-    public void fatalf(final String format, final Object param1) {
-        log.logf(FQCN, Logger.Level.FATAL, null, format, param1);
+    public void fatalLazy(final Supplier<?> message, final Throwable t) {
+        if (log.isEnabled(Logger.Level.FATAL)) {
+            log.log(FQCN, Logger.Level.FATAL, supplied(message), null, t);
+        }
     }
 
+    /**
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
     @Override
-    public void fatalf(final String format, final Object param1, final Object param2) {
-        log.logf(FQCN, Logger.Level.FATAL, null, format, param1, param2);
+    public void fatalfLazy(final String format, final Supplier<?> param1) {
+        if (log.isEnabled(Logger.Level.FATAL)) {
+            log.logf(FQCN, Logger.Level.FATAL, null, format, supplied(param1));
+        }
     }
 
+    /**
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
     @Override
-    public void fatalf(final String format, final Object param1, final Object param2, final Object param3) {
-        log.logf(FQCN, Logger.Level.FATAL, null, format, param1, param2, param3);
+    public void fatalfLazy(final String format, final Supplier<?> param1, final Supplier<?> param2) {
+        if (log.isEnabled(Logger.Level.FATAL)) {
+            log.logf(FQCN, Logger.Level.FATAL, null, format, supplied(param1), supplied(param2));
+        }
     }
 
+    /**
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
     @Override
-    public void fatalf(final Throwable t, final String format, final Object... params) {
-        log.logf(FQCN, Logger.Level.FATAL, t, format, params);
+    public void fatalfLazy(final String format, final Supplier<?> param1, final Supplier<?> param2, final Supplier<?> param3) {
+        if (log.isEnabled(Logger.Level.FATAL)) {
+            log.logf(FQCN, Logger.Level.FATAL, null, format, supplied(param1), supplied(param2), supplied(param3));
+        }
     }
 
+    /**
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
     @Override
-    public void fatalf(final Throwable t, final String format, final Object param1) {
-        log.logf(FQCN, Logger.Level.FATAL, t, format, param1);
+    public void fatalfLazy(final Throwable t, final String format, final Supplier<?> param1) {
+        if (log.isEnabled(Logger.Level.FATAL)) {
+            log.logf(FQCN, Logger.Level.FATAL, t, format, supplied(param1));
+        }
     }
 
+    /**
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
     @Override
-    public void fatalf(final Throwable t, final String format, final Object param1, final Object param2) {
-        log.logf(FQCN, Logger.Level.FATAL, t, format, param1, param2);
+    public void fatalfLazy(final Throwable t, final String format, final Supplier<?> param1, final Supplier<?> param2) {
+        if (log.isEnabled(Logger.Level.FATAL)) {
+            log.logf(FQCN, Logger.Level.FATAL, t, format, supplied(param1), supplied(param2));
+        }
     }
 
+    /**
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
     @Override
-    public void fatalf(final Throwable t, final String format, final Object param1, final Object param2, final Object param3) {
-        log.logf(FQCN, Logger.Level.FATAL, t, format, param1, param2, param3);
+    public void fatalfLazy(final Throwable t, final String format, final Supplier<?> param1, final Supplier<?> param2,
+            final Supplier<?> param3) {
+        if (log.isEnabled(Logger.Level.FATAL)) {
+            log.logf(FQCN, Logger.Level.FATAL, t, format, supplied(param1), supplied(param2), supplied(param3));
+        }
     }
 
     @Override
@@ -945,6 +2272,31 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logv(FQCN, level, null, format, param1, param2, param3);
     }
 
+    @Override
+    public void logv(final Logger.Level level, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5) {
+        log.logv(FQCN, level, null, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void logv(final Logger.Level level, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5, final Object param6) {
+        log.logv(FQCN, level, null, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void logv(final Logger.Level level, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logv(FQCN, level, null, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void logv(final Logger.Level level, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5, final Object param6, final Object param7,
+            final Object param8) {
+        log.logv(FQCN, level, null, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void logv(final Logger.Level level, final Throwable t, final String format, final Object... params) {
         log.logv(FQCN, level, t, format, params);
@@ -967,6 +2319,37 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logv(FQCN, level, t, format, param1, param2, param3);
     }
 
+    @Override
+    public void logv(final Logger.Level level, final Throwable t, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4) {
+        log.logv(FQCN, level, t, format, param1, param2, param3, param4);
+    }
+
+    @Override
+    public void logv(final Logger.Level level, final Throwable t, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5) {
+        log.logv(FQCN, level, t, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void logv(final Logger.Level level, final Throwable t, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5, final Object param6) {
+        log.logv(FQCN, level, t, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void logv(final Logger.Level level, final Throwable t, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logv(FQCN, level, t, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void logv(final Logger.Level level, final Throwable t, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5, final Object param6, final Object param7,
+            final Object param8) {
+        log.logv(FQCN, level, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void logv(final String loggerFqcn, final Logger.Level level, final Throwable t, final String format,
             final Object... params) {
@@ -991,6 +2374,39 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logv(loggerFqcn, level, t, format, param1, param2, param3);
     }
 
+    @Override
+    public void logv(final String loggerFqcn, final Logger.Level level, final Throwable t, final String format,
+            final Object param1, final Object param2, final Object param3, final Object param4) {
+        log.logv(loggerFqcn, level, t, format, param1, param2, param3, param4);
+    }
+
+    @Override
+    public void logv(final String loggerFqcn, final Logger.Level level, final Throwable t, final String format,
+            final Object param1, final Object param2, final Object param3, final Object param4, final Object param5) {
+        log.logv(loggerFqcn, level, t, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void logv(final String loggerFqcn, final Logger.Level level, final Throwable t, final String format,
+            final Object param1, final Object param2, final Object param3, final Object param4, final Object param5,
+            final Object param6) {
+        log.logv(loggerFqcn, level, t, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void logv(final String loggerFqcn, final Logger.Level level, final Throwable t, final String format,
+            final Object param1, final Object param2, final Object param3, final Object param4, final Object param5,
+            final Object param6, final Object param7) {
+        log.logv(loggerFqcn, level, t, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void logv(final String loggerFqcn, final Logger.Level level, final Throwable t, final String format,
+            final Object param1, final Object param2, final Object param3, final Object param4, final Object param5,
+            final Object param6, final Object param7, final Object param8) {
+        log.logv(loggerFqcn, level, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void logf(final Logger.Level level, final String format, final Object... params) {
         log.logf(FQCN, level, null, format, params);
@@ -1012,6 +2428,31 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logf(FQCN, level, null, format, param1, param2, param3);
     }
 
+    @Override
+    public void logf(final Logger.Level level, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5) {
+        log.logf(FQCN, level, null, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void logf(final Logger.Level level, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5, final Object param6) {
+        log.logf(FQCN, level, null, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void logf(final Logger.Level level, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logf(FQCN, level, null, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void logf(final Logger.Level level, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5, final Object param6, final Object param7,
+            final Object param8) {
+        log.logf(FQCN, level, null, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void logf(final Logger.Level level, final Throwable t, final String format, final Object... params) {
         log.logf(FQCN, level, t, format, params);
@@ -1034,6 +2475,37 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logf(FQCN, level, t, format, param1, param2, param3);
     }
 
+    @Override
+    public void logf(final Logger.Level level, final Throwable t, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4) {
+        log.logf(FQCN, level, t, format, param1, param2, param3, param4);
+    }
+
+    @Override
+    public void logf(final Logger.Level level, final Throwable t, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5) {
+        log.logf(FQCN, level, t, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void logf(final Logger.Level level, final Throwable t, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5, final Object param6) {
+        log.logf(FQCN, level, t, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void logf(final Logger.Level level, final Throwable t, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5, final Object param6, final Object param7) {
+        log.logf(FQCN, level, t, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void logf(final Logger.Level level, final Throwable t, final String format, final Object param1, final Object param2,
+            final Object param3, final Object param4, final Object param5, final Object param6, final Object param7,
+            final Object param8) {
+        log.logf(FQCN, level, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void logf(final String loggerFqcn, final Logger.Level level, final Throwable t, final String format,
             final Object param1) {
@@ -1052,14 +2524,174 @@ public class DelegatingBasicLogger implements BasicLogger, Serializable {
         log.logf(loggerFqcn, level, t, format, param1, param2, param3);
     }
 
+    @Override
+    public void logf(final String loggerFqcn, final Logger.Level level, final Throwable t, final String format,
+            final Object param1, final Object param2, final Object param3, final Object param4) {
+        log.logf(loggerFqcn, level, t, format, param1, param2, param3, param4);
+    }
+
+    @Override
+    public void logf(final String loggerFqcn, final Logger.Level level, final Throwable t, final String format,
+            final Object param1, final Object param2, final Object param3, final Object param4, final Object param5) {
+        log.logf(loggerFqcn, level, t, format, param1, param2, param3, param4, param5);
+    }
+
+    @Override
+    public void logf(final String loggerFqcn, final Logger.Level level, final Throwable t, final String format,
+            final Object param1, final Object param2, final Object param3, final Object param4, final Object param5,
+            final Object param6) {
+        log.logf(loggerFqcn, level, t, format, param1, param2, param3, param4, param5, param6);
+    }
+
+    @Override
+    public void logf(final String loggerFqcn, final Logger.Level level, final Throwable t, final String format,
+            final Object param1, final Object param2, final Object param3, final Object param4, final Object param5,
+            final Object param6, final Object param7) {
+        log.logf(loggerFqcn, level, t, format, param1, param2, param3, param4, param5, param6, param7);
+    }
+
+    @Override
+    public void logf(final String loggerFqcn, final Logger.Level level, final Throwable t, final String format,
+            final Object param1, final Object param2, final Object param3, final Object param4, final Object param5,
+            final Object param6, final Object param7, final Object param8) {
+        log.logf(loggerFqcn, level, t, format, param1, param2, param3, param4, param5, param6, param7, param8);
+    }
+
     @Override
     public void logf(final String loggerFqcn, final Logger.Level level, final Throwable t, final String format,
             final Object... params) {
         log.logf(loggerFqcn, level, t, format, params);
     }
 
+    /**
+     * Issue a log message with the given level. The supplier is only invoked if the level is enabled.
+     *
+     * @param level   the level
+     * @param message the supplier of the message
+     */
+    @Override
+    public void logLazy(final Logger.Level level, final Supplier<?> message) {
+        if (log.isEnabled(level)) {
+            log.log(FQCN, level, supplied(message), null, null);
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with the given level. The supplier is only invoked if the level is enabled.
+     *
+     * @param level   the level
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    @Override
+    public void logLazy(final Logger.Level level, final Supplier<?> message, final Throwable t) {
+        if (log.isEnabled(level)) {
+            log.log(FQCN, level, supplied(message), null, t);
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    @Override
+    public void logfLazy(final Logger.Level level, final String format, final Supplier<?> param1) {
+        if (log.isEnabled(level)) {
+            log.logf(FQCN, level, null, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    @Override
+    public void logfLazy(final Logger.Level level, final String format, final Supplier<?> param1, final Supplier<?> param2) {
+        if (log.isEnabled(level)) {
+            log.logf(FQCN, level, null, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    @Override
+    public void logfLazy(final Logger.Level level, final String format, final Supplier<?> param1, final Supplier<?> param2,
+            final Supplier<?> param3) {
+        if (log.isEnabled(level)) {
+            log.logf(FQCN, level, null, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    @Override
+    public void logfLazy(final Logger.Level level, final Throwable t, final String format, final Supplier<?> param1) {
+        if (log.isEnabled(level)) {
+            log.logf(FQCN, level, t, format, supplied(param1));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    @Override
+    public void logfLazy(final Logger.Level level, final Throwable t, final String format, final Supplier<?> param1,
+            final Supplier<?> param2) {
+        if (log.isEnabled(level)) {
+            log.logf(FQCN, level, t, format, supplied(param1), supplied(param2));
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    @Override
+    public void logfLazy(final Logger.Level level, final Throwable t, final String format, final Supplier<?> param1,
+            final Supplier<?> param2, final Supplier<?> param3) {
+        if (log.isEnabled(level)) {
+            log.logf(FQCN, level, t, format, supplied(param1), supplied(param2), supplied(param3));
+        }
+    }
+
     @Override
     public boolean isEnabled(final Logger.Level level) {
         return log.isEnabled(level);
     }
+
+    private static Object supplied(final Supplier<?> supplier) {
+        return supplier == null ? null : supplier.get();
+    }
 }
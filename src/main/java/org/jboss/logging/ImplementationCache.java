@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the resolved message logger or message bundle implementation of an interface per locale.
+ * <p>
+ * The cached value is the {@link MethodHandle} which produces the implementation, or the fact that no implementation
+ * exists. Results are only cached for lookups whose class is defined by the same class loader as the interface, as
+ * other lookups may see a different implementation class. A cached handle is only handed to a lookup which has access
+ * to the implementation class.
+ * </p>
+ */
+final class ImplementationCache {
+
+    /**
+     * Resolves the handle producing the implementation.
+     */
+    interface Resolver {
+        /**
+         * Resolves the handle producing the implementation.
+         *
+         * @param lookup the lookup used to find the implementation
+         * @param type   the interface
+         * @param locale the locale
+         *
+         * @return the handle, or {@code null} if there is no implementation
+         *
+         * @throws IllegalArgumentException if the implementation cannot be accessed
+         */
+        MethodHandle resolve(Lookup lookup, Class<?> type, Locale locale);
+    }
+
+    private static final Entry NOT_FOUND = new Entry(null);
+
+    private final ClassValue<ConcurrentMap<Locale, Entry>> entries = new ClassValue<ConcurrentMap<Locale, Entry>>() {
+        @Override
+        protected ConcurrentMap<Locale, Entry> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Resolver resolver;
+
+    ImplementationCache(final Resolver resolver) {
+        this.resolver = resolver;
+    }
+
+    /**
+     * Returns the handle producing the implementation.
+     *
+     * @param lookup the lookup used to find the implementation
+     * @param type   the interface
+     * @param locale the locale
+     *
+     * @return the handle, or {@code null} if there is no implementation
+     *
+     * @throws IllegalArgumentException if the implementation cannot be accessed
+     */
+    MethodHandle get(final Lookup lookup, final Class<?> type, final Locale locale) {
+        if (lookup.lookupClass().getClassLoader() != type.getClassLoader()) {
+            return resolver.resolve(lookup, type, locale);
+        }
+        final ConcurrentMap<Locale, Entry> byLocale = entries.get(type);
+        final Entry entry = byLocale.get(locale);
+        if (entry == null) {
+            final MethodHandle handle = resolver.resolve(lookup, type, locale);
+            byLocale.putIfAbsent(locale, handle == null ? NOT_FOUND : new Entry(handle));
+            return handle;
+        }
+        final MethodHandle handle = entry.handle;
+        if (handle != null) {
+            try {
+                lookup.accessClass(handle.type().returnType());
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("The given lookup does not have access to the implementation class");
+            }
+        }
+        return handle;
+    }
+
+    private static final class Entry {
+        private final MethodHandle handle;
+
+        private Entry(final MethodHandle handle) {
+            this.handle = handle;
+        }
+    }
+}
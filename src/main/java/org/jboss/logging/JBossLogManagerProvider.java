@@ -38,6 +38,10 @@ public final class JBossLogManagerProvider implements LoggerProvider {
     private static final AttachmentKey<Logger> KEY = new AttachmentKey<>();
     private static final AttachmentKey<ConcurrentMap<String, Logger>> LEGACY_KEY = new AttachmentKey<>();
 
+    public JBossLogManagerProvider() {
+        LevelSwitch.warnUnreported("JBoss");
+    }
+
     @Override
     public Logger getLogger(final String name) {
         final SecurityManager sm = System.getSecurityManager();
@@ -160,4 +164,36 @@ public final class JBossLogManagerProvider implements LoggerProvider {
     public void setNdcMaxDepth(final int maxDepth) {
         NDC.trimTo(maxDepth);
     }
+
+    @Override
+    public Object captureContext() {
+        final int depth = NDC.getDepth();
+        String[] ndc = null;
+        if (depth > 0) {
+            ndc = new String[depth];
+            for (int i = 0; i < depth; i++) {
+                ndc[i] = NDC.get(i);
+            }
+        }
+        return ContextSnapshot.of(MDC.isEmpty() ? null : MDC.copyObject(), ndc);
+    }
+
+    @Override
+    public void restoreContext(final Object context) {
+        final ContextSnapshot snapshot = (ContextSnapshot) context;
+        MDC.clear();
+        NDC.clear();
+        if (snapshot != null) {
+            if (snapshot.mdc != null) {
+                @SuppressWarnings("unchecked")
+                final Map<String, Object> mdc = (Map<String, Object>) snapshot.mdc;
+                mdc.forEach(MDC::putObject);
+            }
+            if (snapshot.ndc != null) {
+                for (String message : (String[]) snapshot.ndc) {
+                    NDC.push(message);
+                }
+            }
+        }
+    }
 }
@@ -65,19 +65,11 @@ class JBossLogRecord extends LogRecord {
 
     private void resolve() {
         resolved = true;
-        final StackTraceElement[] stack = new Throwable().getStackTrace();
-        boolean found = false;
-        for (StackTraceElement element : stack) {
-            final String className = element.getClassName();
-            if (found) {
-                if (!loggerClassName.equals(className)) {
-                    setSourceClassName(className);
-                    setSourceMethodName(element.getMethodName());
-                    return;
-                }
-            } else {
-                found = loggerClassName.equals(className);
-            }
+        final StackWalker.StackFrame frame = CallerFinder.find(loggerClassName);
+        if (frame != null) {
+            setSourceClassName(frame.getClassName());
+            setSourceMethodName(frame.getMethodName());
+            return;
         }
         setSourceClassName("<unknown>");
         setSourceMethodName("<unknown>");
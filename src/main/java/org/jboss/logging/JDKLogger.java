@@ -28,14 +28,19 @@ final class JDKLogger extends Logger {
     @SuppressWarnings({ "NonConstantLogger" })
     private transient final java.util.logging.Logger logger;
 
+    private transient LevelSwitch.Threshold threshold;
+
+    private transient final BackendFailures.Tracker failures;
+
     public JDKLogger(final String name) {
         super(name);
         logger = java.util.logging.Logger.getLogger(name);
+        failures = new BackendFailures.Tracker("jdk", name);
     }
 
     protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
             final Throwable thrown) {
-        if (isEnabled(level))
+        if (isEnabled(level) && !failures.isOpen())
             try {
                 final JBossLogRecord rec = new JBossLogRecord(translate(level), String.valueOf(message), loggerClassName);
                 if (thrown != null)
@@ -44,36 +49,213 @@ final class JDKLogger extends Logger {
                 rec.setParameters(parameters);
                 rec.setResourceBundleName(logger.getResourceBundleName());
                 rec.setResourceBundle(logger.getResourceBundle());
-                logger.log(rec);
+                publish(rec);
             } catch (Throwable ignored) {
             }
     }
 
     protected void doLogf(final Level level, final String loggerClassName, String format, final Object[] parameters,
             final Throwable thrown) {
-        if (isEnabled(level))
-            try {
-                final ResourceBundle resourceBundle = logger.getResourceBundle();
-                if (resourceBundle != null)
-                    try {
-                        format = resourceBundle.getString(format);
-                    } catch (MissingResourceException e) {
-                        // ignore
-                    }
-                final String msg = parameters == null ? String.format(format) : String.format(format, parameters);
-                final JBossLogRecord rec = new JBossLogRecord(translate(level), msg, loggerClassName);
-                if (thrown != null)
-                    rec.setThrown(thrown);
-                rec.setLoggerName(getName());
-                rec.setResourceBundleName(logger.getResourceBundleName());
-                // we've done all the business
-                rec.setResourceBundle(null);
-                rec.setParameters(null);
-                logger.log(rec);
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(parameters), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Object param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final int param1,
+            final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final long param1,
+            final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final int param1,
+            final Object param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1, param2), thrown);
             } catch (Throwable ignored) {
             }
     }
 
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final long param1,
+            final Object param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final int param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final long param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logFormatted(level, loggerClassName, PrintfTemplate.of(localize(format)).format(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    private String localize(final String format) {
+        final ResourceBundle resourceBundle = logger.getResourceBundle();
+        if (resourceBundle != null)
+            try {
+                return resourceBundle.getString(format);
+            } catch (MissingResourceException e) {
+                // ignore
+            }
+        return format;
+    }
+
+    private void logFormatted(final Level level, final String loggerClassName, final String msg, final Throwable thrown) {
+        final JBossLogRecord rec = new JBossLogRecord(translate(level), msg, loggerClassName);
+        if (thrown != null)
+            rec.setThrown(thrown);
+        rec.setLoggerName(getName());
+        rec.setResourceBundleName(logger.getResourceBundleName());
+        // we've done all the business
+        rec.setResourceBundle(null);
+        rec.setParameters(null);
+        publish(rec);
+    }
+
+    /**
+     * Logs the record, accounting for the failures of the log manager. Formatting the message happens before, so a
+     * failing format or parameter is not taken for a failure of the log manager.
+     */
+    private void publish(final JBossLogRecord rec) {
+        try {
+            logger.log(rec);
+            failures.succeeded();
+        } catch (Throwable t) {
+            failures.failed(t);
+        }
+    }
+
     private static java.util.logging.Level translate(final Level level) {
         if (level == Level.TRACE) {
             return JDKLevel.TRACE;
@@ -97,6 +279,25 @@ final class JDKLogger extends Logger {
     }
 
     public boolean isEnabled(final Level level) {
-        return logger.isLoggable(translate(level));
+        if (!LevelSwitch.ENABLED) {
+            return logger.isLoggable(translate(level));
+        }
+        final int generation = LevelSwitch.currentGeneration();
+        LevelSwitch.Threshold threshold = this.threshold;
+        if (threshold == null || threshold.generation != generation) {
+            threshold = new LevelSwitch.Threshold(generation, effectiveLevel());
+            this.threshold = threshold;
+        }
+        return threshold.value != java.util.logging.Level.OFF.intValue() && translate(level).intValue() >= threshold.value;
+    }
+
+    private int effectiveLevel() {
+        for (java.util.logging.Logger current = logger; current != null; current = current.getParent()) {
+            final java.util.logging.Level level = current.getLevel();
+            if (level != null) {
+                return level.intValue();
+            }
+        }
+        return java.util.logging.Level.INFO.intValue();
     }
 }
@@ -24,8 +24,18 @@ package org.jboss.logging;
  */
 public final class JDKLoggerProvider extends AbstractMdcLoggerProvider implements LoggerProvider {
 
+    private final LoggerCache<JDKLogger> loggers = new LoggerCache<>(JDKLogger::new);
+
+    public JDKLoggerProvider() {
+        if (LevelSwitch.ENABLED) {
+            // Only reports a re-read of the configuration, levels set directly on a logger are not reported
+            java.util.logging.LogManager.getLogManager().addConfigurationListener(LevelSwitch::invalidate);
+            LevelSwitch.warnUnreported("JDK");
+        }
+    }
+
     @Override
     public Logger getLogger(final String name) {
-        return new JDKLogger(name);
+        return loggers.get(name);
     }
 }
@@ -0,0 +1,192 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.lang.reflect.Proxy;
+
+/**
+ * Caches the level checks the {@link Logger} methods make before logging.
+ * <p>
+ * The cache is disabled by default and is enabled by setting the {@code org.jboss.logging.cache.levels} system property
+ * to {@code true}. Each logger remembers which levels are enabled along with the generation the answer was computed
+ * in. The current generation is the constant target of a {@link MutableCallSite}, which the JIT folds into the
+ * compiled code, so a cached check costs a field read and a comparison against a constant. {@link #invalidate()}
+ * retargets the call site, which deoptimizes the dependent code and makes every logger ask the log manager again.
+ * </p>
+ * <p>
+ * The cache must be invalidated whenever the level configuration of the log manager changes. The providers invalidate
+ * it when their log manager reports a change:
+ * </p>
+ * <ul>
+ * <li>Log4j 2 with log4j-core reports every configuration and level change of the logger context</li>
+ * <li>SLF4J with Logback reports every level change of the logger context</li>
+ * <li>The JDK log manager only reports a re-read of its configuration</li>
+ * <li>log4j only reports appenders being added or removed, which happens when it is configured</li>
+ * <li>The JBoss Log Manager, and SLF4J with other bindings, report nothing</li>
+ * </ul>
+ * <p>
+ * Changes the log manager does not report are only seen after {@link Logger#invalidateLevelCache()} is called, which
+ * is reported to the {@linkplain BackendFailures#setListener(BackendFailures.Listener) failure listener} when the
+ * cache is enabled with such a log manager. The JDK and log4j providers also snapshot the effective threshold of
+ * their loggers for the same generation.
+ * </p>
+ */
+final class LevelSwitch {
+
+    static final String LEVEL_CACHE_KEY = "org.jboss.logging.cache.levels";
+
+    static final boolean ENABLED = Boolean.parseBoolean(SecurityActions.getSystemProperty(LEVEL_CACHE_KEY, "false"));
+
+    private static final MutableCallSite GENERATION = new MutableCallSite(MethodHandles.constant(int.class, 0));
+    private static final MethodHandle CURRENT_GENERATION = GENERATION.dynamicInvoker();
+
+    // Guarded by the class lock
+    private static int generation;
+
+    private LevelSwitch() {
+    }
+
+    /**
+     * Checks whether the level is enabled for the logger, using the cached answer if it is still current.
+     *
+     * @param logger the logger
+     * @param level  the level to check
+     *
+     * @return {@code true} if the level is enabled
+     */
+    static boolean isEnabled(final Logger logger, final Logger.Level level) {
+        final int bit = 1 << level.ordinal();
+        final int current = currentGeneration();
+        final State state = logger.levels;
+        if (state != null && state.generation == current && (state.known & bit) != 0) {
+            return (state.enabled & bit) != 0;
+        }
+        final boolean enabled = logger.isEnabled(level);
+        if (state != null && state.generation == current) {
+            logger.levels = new State(current, state.known | bit, enabled ? state.enabled | bit : state.enabled);
+        } else {
+            logger.levels = new State(current, bit, enabled ? bit : 0);
+        }
+        return enabled;
+    }
+
+    /**
+     * Discards the cached level checks of all loggers.
+     */
+    static synchronized void invalidate() {
+        GENERATION.setTarget(MethodHandles.constant(int.class, ++generation));
+        MutableCallSite.syncAll(new MutableCallSite[] { GENERATION });
+    }
+
+    /**
+     * Registers a listener which invalidates the cache on every notification of the log manager. The listener is a
+     * proxy of the listener interface, so the log manager implementation is not linked against.
+     *
+     * @param target       the object of the log manager to add the listener to
+     * @param method       the name of the method adding the listener
+     * @param listenerType the name of the listener interface
+     *
+     * @return {@code true} if the listener was added, {@code false} if the target does not support it
+     */
+    static boolean listen(final Object target, final String method, final String listenerType) {
+        try {
+            final Class<?> type = Class.forName(listenerType, false, target.getClass().getClassLoader());
+            final Object listener = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                    (proxy, m, args) -> {
+                        if (m.getDeclaringClass() == Object.class) {
+                            switch (m.getName()) {
+                                case "equals":
+                                    return proxy == args[0];
+                                case "hashCode":
+                                    return System.identityHashCode(proxy);
+                                default:
+                                    return "LevelSwitch invalidating " + type.getName();
+                            }
+                        }
+                        if (m.getReturnType() == boolean.class) {
+                            // Logback asks whether the listener survives a reset of the context
+                            return Boolean.TRUE;
+                        }
+                        invalidate();
+                        return null;
+                    });
+            target.getClass().getMethod(method, type).invoke(target, listener);
+            return true;
+        } catch (Throwable ignore) {
+            return false;
+        }
+    }
+
+    /**
+     * Reports that the log manager does not report all level changes, if the cache is enabled.
+     *
+     * @param logManager the name of the log manager
+     */
+    static void warnUnreported(final String logManager) {
+        if (ENABLED) {
+            BackendFailures.configurationProblem(String.format("%s is enabled, but the %s log manager does not report "
+                    + "every level change. Call Logger.invalidateLevelCache() after changing levels.", LEVEL_CACHE_KEY,
+                    logManager), null);
+        }
+    }
+
+    /**
+     * Returns the current generation, which changes each time the cache is {@linkplain #invalidate() invalidated}.
+     *
+     * @return the current generation
+     */
+    static int currentGeneration() {
+        try {
+            return (int) CURRENT_GENERATION.invokeExact();
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * The immutable cached answers of a logger, so it can be published without synchronization.
+     */
+    static final class State {
+        private final int generation;
+        private final int known;
+        private final int enabled;
+
+        private State(final int generation, final int known, final int enabled) {
+            this.generation = generation;
+            this.known = known;
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * The effective threshold of a log manager logger, valid for the generation it was read in.
+     */
+    static final class Threshold {
+        final int generation;
+        final int value;
+
+        Threshold(final int generation, final int value) {
+            this.generation = generation;
+            this.value = value;
+        }
+    }
+}
@@ -20,7 +20,9 @@ package org.jboss.logging;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.LoggingException;
+import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.MessageFormatMessageFactory;
+import org.apache.logging.log4j.message.SimpleMessage;
 import org.apache.logging.log4j.message.StringFormattedMessage;
 import org.apache.logging.log4j.spi.AbstractLogger;
 
@@ -28,18 +30,26 @@ final class Log4j2Logger extends Logger {
 
     private static final long serialVersionUID = -2507841068232627725L;
 
+    // The factory holds no state, so it is shared by all loggers
+    private static final MessageFormatMessageFactory MESSAGE_FACTORY = new MessageFormatMessageFactory();
+
     private final AbstractLogger logger;
     private final MessageFormatMessageFactory messageFactory;
+    private transient final BackendFailures.Tracker failures;
 
     Log4j2Logger(final String name) {
+        this(name, LogManager.getLogger(name));
+    }
+
+    Log4j2Logger(final String name, final org.apache.logging.log4j.Logger logger) {
         super(name);
-        org.apache.logging.log4j.Logger logger = LogManager.getLogger(name);
         if (!(logger instanceof AbstractLogger)) {
             throw new LoggingException("The logger for [" + name + "] does not extend AbstractLogger. Actual logger: "
                     + logger.getClass().getName());
         }
         this.logger = (AbstractLogger) logger;
-        this.messageFactory = new MessageFormatMessageFactory();
+        this.messageFactory = MESSAGE_FACTORY;
+        this.failures = new BackendFailures.Tracker("log4j2", name);
     }
 
     @Override
@@ -51,12 +61,18 @@ final class Log4j2Logger extends Logger {
     protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
             final Throwable thrown) {
         final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
-        if (this.logger.isEnabled(translatedLevel)) {
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
             try {
-                this.logger.logMessage(loggerClassName, translatedLevel, null,
-                        (parameters == null || parameters.length == 0) ? this.messageFactory.newMessage(String.valueOf(message))
-                                : this.messageFactory.newMessage(String.valueOf(message), parameters),
-                        thrown);
+                if (parameters == null || parameters.length == 0) {
+                    logMessage(loggerClassName, translatedLevel,
+                            this.messageFactory.newMessage(String.valueOf(message)), thrown);
+                } else if (parameters.length > Log4j2ReusableMessage.MAX_PARAMETERS) {
+                    logMessage(loggerClassName, translatedLevel,
+                            this.messageFactory.newMessage(String.valueOf(message), parameters), thrown);
+                } else {
+                    logReusable(loggerClassName, translatedLevel,
+                            Log4j2ReusableMessage.acquire(false, String.valueOf(message)).with(parameters), thrown);
+                }
             } catch (Throwable ignored) {
             }
         }
@@ -66,15 +82,279 @@ final class Log4j2Logger extends Logger {
     protected void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
             final Throwable thrown) {
         final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
-        if (this.logger.isEnabled(translatedLevel)) {
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                if (parameters != null && parameters.length > Log4j2ReusableMessage.MAX_PARAMETERS) {
+                    logMessage(loggerClassName, translatedLevel,
+                            new StringFormattedMessage(format, parameters),
+                            thrown);
+                } else {
+                    logReusable(loggerClassName, translatedLevel, Log4j2ReusableMessage.acquire(true, format).with(parameters),
+                            thrown);
+                }
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLog1(final Level level, final String loggerClassName, final Object message, final Object param1,
+            final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logReusable(loggerClassName, translatedLevel,
+                        Log4j2ReusableMessage.acquire(false, String.valueOf(message)).with(param1), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLog2(final Level level, final String loggerClassName, final Object message, final Object param1,
+            final Object param2, final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
             try {
-                this.logger.logMessage(loggerClassName, translatedLevel, null, new StringFormattedMessage(format, parameters),
+                logReusable(loggerClassName, translatedLevel,
+                        Log4j2ReusableMessage.acquire(false, String.valueOf(message)).with(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLog3(final Level level, final String loggerClassName, final Object message, final Object param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logReusable(loggerClassName, translatedLevel,
+                        Log4j2ReusableMessage.acquire(false, String.valueOf(message)).with(param1, param2, param3), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logReusable(loggerClassName, translatedLevel, Log4j2ReusableMessage.acquire(true, format).with(param1),
                         thrown);
             } catch (Throwable ignored) {
             }
         }
     }
 
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Object param2, final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logReusable(loggerClassName, translatedLevel, Log4j2ReusableMessage.acquire(true, format).with(param1, param2),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logReusable(loggerClassName, translatedLevel,
+                        Log4j2ReusableMessage.acquire(true, format).with(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final int param1,
+            final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logMessage(loggerClassName, translatedLevel,
+                        new SimpleMessage(PrintfTemplate.of(format).format(param1)), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final long param1,
+            final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logMessage(loggerClassName, translatedLevel,
+                        new SimpleMessage(PrintfTemplate.of(format).format(param1)), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logMessage(loggerClassName, translatedLevel,
+                        new SimpleMessage(PrintfTemplate.of(format).format(param1, param2)), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final int param1,
+            final Object param2, final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logMessage(loggerClassName, translatedLevel,
+                        new SimpleMessage(PrintfTemplate.of(format).format(param1, param2)), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logMessage(loggerClassName, translatedLevel,
+                        new SimpleMessage(PrintfTemplate.of(format).format(param1, param2)), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final long param1,
+            final Object param2, final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logMessage(loggerClassName, translatedLevel,
+                        new SimpleMessage(PrintfTemplate.of(format).format(param1, param2)), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final int param3, final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logMessage(loggerClassName, translatedLevel,
+                        new SimpleMessage(PrintfTemplate.of(format).format(param1, param2, param3)), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final Object param3, final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logMessage(loggerClassName, translatedLevel,
+                        new SimpleMessage(PrintfTemplate.of(format).format(param1, param2, param3)), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logMessage(loggerClassName, translatedLevel,
+                        new SimpleMessage(PrintfTemplate.of(format).format(param1, param2, param3)), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final long param3, final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logMessage(loggerClassName, translatedLevel,
+                        new SimpleMessage(PrintfTemplate.of(format).format(param1, param2, param3)), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final Object param3, final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logMessage(loggerClassName, translatedLevel,
+                        new SimpleMessage(PrintfTemplate.of(format).format(param1, param2, param3)), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) && !failures.isOpen()) {
+            try {
+                logMessage(loggerClassName, translatedLevel,
+                        new SimpleMessage(PrintfTemplate.of(format).format(param1, param2, param3)), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    private void logReusable(final String loggerClassName, final org.apache.logging.log4j.Level level,
+            final Log4j2ReusableMessage message, final Throwable thrown) {
+        try {
+            logMessage(loggerClassName, level, message, thrown);
+        } finally {
+            message.release();
+        }
+    }
+
+    /**
+     * Logs the message, accounting for the failures of the log manager. Creating the message happens before, so a
+     * failing format or parameter is not taken for a failure of the log manager.
+     */
+    private void logMessage(final String loggerClassName, final org.apache.logging.log4j.Level level, final Message message,
+            final Throwable thrown) {
+        try {
+            this.logger.logMessage(loggerClassName, level, null, message, thrown);
+            failures.succeeded();
+        } catch (Throwable t) {
+            failures.failed(t);
+        }
+    }
+
     private static org.apache.logging.log4j.Level translate(final Level level) {
         if (level == Level.TRACE) {
             return org.apache.logging.log4j.Level.TRACE;
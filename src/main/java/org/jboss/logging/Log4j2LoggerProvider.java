@@ -21,7 +21,13 @@ package org.jboss.logging;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.spi.LoggerContext;
+import org.apache.logging.log4j.spi.ObjectThreadContextMap;
+import org.apache.logging.log4j.spi.ReadOnlyThreadContextMap;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
 
 /**
  * An implementation of the {@linkplain LoggerProvider log provider} for Log4j 2.
@@ -31,9 +37,55 @@ import org.apache.logging.log4j.ThreadContext;
  */
 public final class Log4j2LoggerProvider implements LoggerProvider {
 
+    private static final String LOGGERS_KEY = Log4j2LoggerProvider.class.getName() + ".loggers";
+
+    // Used when the logger context cannot hold objects
+    private final LoggerCache<Log4j2Logger> loggers = new LoggerCache<>(Log4j2Logger::new);
+    // Whether the Log4j API is 2.13.2 or later, which lets the logger context hold objects
+    private final boolean contextObjects;
+
+    public Log4j2LoggerProvider() {
+        contextObjects = hasContextObjects();
+        // log4j-core fires a property change when the configuration or the level of a logger changes
+        if (LevelSwitch.ENABLED && !LevelSwitch.listen(LogManager.getContext(false), "addPropertyChangeListener",
+                "java.beans.PropertyChangeListener")) {
+            LevelSwitch.warnUnreported("Log4j 2 " + LogManager.getContext(false).getClass().getName());
+        }
+    }
+
     @Override
     public Log4j2Logger getLogger(String name) {
-        return new Log4j2Logger(name);
+        if (contextObjects) {
+            final LoggerCache<Log4j2Logger> contextLoggers = getContextLoggers(LogManager.getContext(false));
+            if (contextLoggers != null) {
+                return contextLoggers.get(name);
+            }
+        }
+        return loggers.get(name);
+    }
+
+    private static boolean hasContextObjects() {
+        try {
+            LoggerContext.class.getMethod("putObjectIfAbsent", String.class, Object.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static LoggerCache<Log4j2Logger> getContextLoggers(final LoggerContext context) {
+        final Object existing = context.getObject(LOGGERS_KEY);
+        if (existing instanceof LoggerCache) {
+            return (LoggerCache<Log4j2Logger>) existing;
+        }
+        final LoggerCache<Log4j2Logger> created = new LoggerCache<>(
+                (name) -> new Log4j2Logger(name, context.getLogger(name)));
+        final Object appearing = context.putObjectIfAbsent(LOGGERS_KEY, created);
+        if (appearing instanceof LoggerCache) {
+            return (LoggerCache<Log4j2Logger>) appearing;
+        }
+        return context.getObject(LOGGERS_KEY) == created ? created : null;
     }
 
     @Override
@@ -44,15 +96,38 @@ public final class Log4j2LoggerProvider implements LoggerProvider {
     @Override
     public Object putMdc(String key, Object value) {
         try {
-            return ThreadContext.get(key);
+            return getMdc(key);
         } finally {
             ThreadContext.put(key, String.valueOf(value));
         }
     }
 
+    @Override
+    public void putMdcQuiet(String key, Object value) {
+        ThreadContext.put(key, String.valueOf(value));
+    }
+
+    @Override
+    public void putMdcInt(String key, int value) {
+        // Stored as a string, as ThreadContext.get() fails on other values
+        ThreadContext.put(key, Integer.toString(value));
+    }
+
+    @Override
+    public void putMdcLong(String key, long value) {
+        ThreadContext.put(key, Long.toString(value));
+    }
+
+    @Override
+    public void putMdcBoolean(String key, boolean value) {
+        ThreadContext.put(key, Boolean.toString(value));
+    }
+
     @Override
     public Object getMdc(String key) {
-        return ThreadContext.get(key);
+        // ThreadContext.get() fails on typed values other code put through the object map
+        final ObjectThreadContextMap map = objectContextMap();
+        return map == null ? ThreadContext.get(key) : map.getValue(key);
     }
 
     @Override
@@ -62,7 +137,14 @@ public final class Log4j2LoggerProvider implements LoggerProvider {
 
     @Override
     public Map<String, Object> getMdcMap() {
-        return new HashMap<>(ThreadContext.getImmutableContext());
+        final ReadOnlyThreadContextMap map = ThreadContext.getThreadContextMap();
+        if (map == null) {
+            return new HashMap<>(ThreadContext.getImmutableContext());
+        }
+        // Keeps typed values other code put, which the immutable context converts to strings
+        final Map<String, Object> result = new HashMap<>();
+        map.getReadOnlyContextData().forEach(result::put);
+        return result;
     }
 
     @Override
@@ -99,4 +181,62 @@ public final class Log4j2LoggerProvider implements LoggerProvider {
     public void setNdcMaxDepth(int maxDepth) {
         ThreadContext.trim(maxDepth);
     }
+
+    @Override
+    public Object captureContext() {
+        final Object mdc;
+        if (ThreadContext.isEmpty()) {
+            mdc = null;
+        } else {
+            final ReadOnlyThreadContextMap map = ThreadContext.getThreadContextMap();
+            if (map == null) {
+                mdc = ThreadContext.getImmutableContext();
+            } else {
+                // The default map freezes its data and replaces it on each change, so it is shared rather than copied
+                final StringMap data = map.getReadOnlyContextData();
+                if (data.isFrozen()) {
+                    mdc = data;
+                } else {
+                    final StringMap copy = new SortedArrayStringMap(data);
+                    copy.freeze();
+                    mdc = copy;
+                }
+            }
+        }
+        // The stack is immutable
+        return ContextSnapshot.of(mdc, ThreadContext.getDepth() == 0 ? null : ThreadContext.getImmutableStack());
+    }
+
+    @Override
+    public void restoreContext(final Object context) {
+        final ContextSnapshot snapshot = (ContextSnapshot) context;
+        ThreadContext.clearMap();
+        if (snapshot != null && snapshot.mdc != null) {
+            if (snapshot.mdc instanceof StringMap) {
+                final StringMap data = (StringMap) snapshot.mdc;
+                final ObjectThreadContextMap map = objectContextMap();
+                if (map == null) {
+                    data.forEach((key, value) -> ThreadContext.put(key, String.valueOf(value)));
+                } else {
+                    final Map<String, Object> values = new HashMap<>(data.size());
+                    data.forEach(values::put);
+                    map.putAllValues(values);
+                }
+            } else {
+                @SuppressWarnings("unchecked")
+                final Map<String, String> mdc = (Map<String, String>) snapshot.mdc;
+                ThreadContext.putAll(mdc);
+            }
+        }
+        if (snapshot == null || snapshot.ndc == null) {
+            ThreadContext.clearStack();
+        } else {
+            ThreadContext.setStack((ThreadContext.ContextStack) snapshot.ndc);
+        }
+    }
+
+    private static ObjectThreadContextMap objectContextMap() {
+        final ReadOnlyThreadContextMap map = ThreadContext.getThreadContextMap();
+        return map instanceof ObjectThreadContextMap ? (ObjectThreadContextMap) map : null;
+    }
 }
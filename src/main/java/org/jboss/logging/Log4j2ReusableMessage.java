@@ -0,0 +1,202 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.Arrays;
+
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ReusableMessage;
+import org.apache.logging.log4j.util.Constants;
+
+/**
+ * A {@link ReusableMessage} for printf and {@link java.text.MessageFormat} style messages.
+ * <p>
+ * The message holds the format and the raw parameters and is rendered by the cached templates when Log4j asks for the
+ * text, directly into the builder Log4j provides. Each thread reuses a single instance, unless Log4j has thread locals
+ * disabled. A message logged while another is being formatted on the same thread, for example from a parameter's
+ * {@code toString()}, gets an instance of its own.
+ * </p>
+ */
+final class Log4j2ReusableMessage implements ReusableMessage {
+
+    private static final long serialVersionUID = -4584612378541562640L;
+
+    // Mirrors the parameter capacity of the Log4j reusable messages
+    static final int MAX_PARAMETERS = 10;
+
+    private static final ThreadLocal<Log4j2ReusableMessage> MESSAGES = Constants.ENABLE_THREADLOCALS
+            ? ThreadLocal.withInitial(Log4j2ReusableMessage::new)
+            : null;
+
+    private boolean printf;
+    private String format;
+    private Object[] parameters = new Object[MAX_PARAMETERS];
+    private int count;
+    private transient boolean inUse;
+
+    private Log4j2ReusableMessage() {
+    }
+
+    /**
+     * Returns a message for the current thread. The message must be {@linkplain #release() released} once logged.
+     *
+     * @param printf {@code true} for a printf format, {@code false} for a {@link java.text.MessageFormat} pattern
+     * @param format the format
+     *
+     * @return the message
+     */
+    static Log4j2ReusableMessage acquire(final boolean printf, final String format) {
+        Log4j2ReusableMessage message = MESSAGES == null ? null : MESSAGES.get();
+        if (message == null || message.inUse) {
+            message = new Log4j2ReusableMessage();
+        }
+        message.inUse = true;
+        message.printf = printf;
+        message.format = format;
+        message.count = 0;
+        return message;
+    }
+
+    Log4j2ReusableMessage with(final Object param1) {
+        parameters[0] = param1;
+        count = 1;
+        return this;
+    }
+
+    Log4j2ReusableMessage with(final Object param1, final Object param2) {
+        parameters[0] = param1;
+        parameters[1] = param2;
+        count = 2;
+        return this;
+    }
+
+    Log4j2ReusableMessage with(final Object param1, final Object param2, final Object param3) {
+        parameters[0] = param1;
+        parameters[1] = param2;
+        parameters[2] = param3;
+        count = 3;
+        return this;
+    }
+
+    /**
+     * Sets the parameters, which must not be more than {@link #MAX_PARAMETERS}.
+     *
+     * @param params the parameters, may be {@code null}
+     *
+     * @return this message
+     */
+    Log4j2ReusableMessage with(final Object[] params) {
+        if (params == null) {
+            count = 0;
+        } else {
+            System.arraycopy(params, 0, parameters, 0, params.length);
+            count = params.length;
+        }
+        return this;
+    }
+
+    /**
+     * Releases the message for reuse by the current thread.
+     */
+    void release() {
+        clear();
+        inUse = false;
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        final StringBuilder sb = new StringBuilder(format.length() + (count << 4));
+        formatTo(sb);
+        return sb.toString();
+    }
+
+    @Override
+    public void formatTo(final StringBuilder buffer) {
+        final int start = buffer.length();
+        try {
+            if (printf) {
+                PrintfTemplate.of(format).formatTo(buffer, parameters, count);
+            } else {
+                MessageTemplate.of(format).formatTo(buffer, parameters, count);
+            }
+        } catch (IllegalArgumentException e) {
+            // Same as the Log4j formatted messages, an invalid format is logged as is
+            buffer.setLength(start);
+            buffer.append(format);
+        }
+    }
+
+    @Override
+    public String getFormat() {
+        return format;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return Arrays.copyOf(parameters, count);
+    }
+
+    @Override
+    public Throwable getThrowable() {
+        return null;
+    }
+
+    @Override
+    public Object[] swapParameters(final Object[] emptyReplacement) {
+        final Object[] result;
+        if (emptyReplacement.length >= MAX_PARAMETERS) {
+            result = parameters;
+            parameters = emptyReplacement;
+        } else if (count <= emptyReplacement.length) {
+            System.arraycopy(parameters, 0, emptyReplacement, 0, count);
+            Arrays.fill(parameters, 0, count, null);
+            result = emptyReplacement;
+        } else {
+            result = parameters;
+            parameters = new Object[MAX_PARAMETERS];
+        }
+        return result;
+    }
+
+    @Override
+    public short getParameterCount() {
+        return (short) count;
+    }
+
+    @Override
+    public Message memento() {
+        final Log4j2ReusableMessage memento = new Log4j2ReusableMessage();
+        memento.printf = printf;
+        memento.format = format;
+        memento.parameters = getParameters();
+        memento.count = count;
+        return memento;
+    }
+
+    private void clear() {
+        Arrays.fill(parameters, 0, count, null);
+        count = 0;
+        format = null;
+    }
+
+    @Override
+    public String toString() {
+        return getFormattedMessage();
+    }
+}
@@ -18,31 +18,45 @@
 
 package org.jboss.logging;
 
-import java.text.MessageFormat;
-
 final class Log4jLogger extends Logger {
 
     private static final long serialVersionUID = -5446154366955151335L;
 
     private final org.apache.log4j.Logger logger;
 
+    private transient LevelSwitch.Threshold threshold;
+
+    private transient final BackendFailures.Tracker failures;
+
     Log4jLogger(final String name) {
         super(name);
         logger = org.apache.log4j.Logger.getLogger(name);
+        failures = new BackendFailures.Tracker("log4j", name);
     }
 
     public boolean isEnabled(final Level level) {
         final org.apache.log4j.Level l = translate(level);
-        return logger.isEnabledFor(l) && l.isGreaterOrEqual(logger.getEffectiveLevel());
+        if (!LevelSwitch.ENABLED) {
+            return logger.isEnabledFor(l) && l.isGreaterOrEqual(logger.getEffectiveLevel());
+        }
+        final int generation = LevelSwitch.currentGeneration();
+        LevelSwitch.Threshold threshold = this.threshold;
+        if (threshold == null || threshold.generation != generation) {
+            // Combines the repository wide threshold with the level inherited through the hierarchy
+            threshold = new LevelSwitch.Threshold(generation,
+                    Math.max(logger.getLoggerRepository().getThreshold().toInt(), logger.getEffectiveLevel().toInt()));
+            this.threshold = threshold;
+        }
+        return l.toInt() >= threshold.value;
     }
 
     protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
             final Throwable thrown) {
         final org.apache.log4j.Level translatedLevel = translate(level);
-        if (logger.isEnabledFor(translatedLevel))
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
             try {
-                logger.log(loggerClassName, translatedLevel, parameters == null || parameters.length == 0 ? message
-                        : MessageFormat.format(String.valueOf(message), parameters), thrown);
+                logMessage(loggerClassName, translatedLevel, parameters == null || parameters.length == 0 ? message
+                        : MessageTemplate.of(String.valueOf(message)).format(parameters), thrown);
             } catch (Throwable ignored) {
             }
     }
@@ -50,14 +64,235 @@ final class Log4jLogger extends Logger {
     protected void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
             final Throwable thrown) {
         final org.apache.log4j.Level translatedLevel = translate(level);
-        if (logger.isEnabledFor(translatedLevel))
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(parameters), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLog1(final Level level, final String loggerClassName, final Object message, final Object param1,
+            final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, MessageTemplate.of(String.valueOf(message)).format(param1),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLog2(final Level level, final String loggerClassName, final Object message, final Object param1,
+            final Object param2, final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, MessageTemplate.of(String.valueOf(message)).format(param1, param2),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLog3(final Level level, final String loggerClassName, final Object message, final Object param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel,
+                        MessageTemplate.of(String.valueOf(message)).format(param1, param2, param3), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
             try {
-                logger.log(loggerClassName, translatedLevel,
-                        parameters == null ? String.format(format) : String.format(format, parameters), thrown);
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1), thrown);
             } catch (Throwable ignored) {
             }
     }
 
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Object param2, final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final int param1,
+            final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final long param1,
+            final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final int param1,
+            final Object param2, final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final long param1,
+            final Object param2, final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final int param3, final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final Object param3, final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final long param3, final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final Object param3, final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        final org.apache.log4j.Level translatedLevel = translate(level);
+        if (logger.isEnabledFor(translatedLevel) && !failures.isOpen())
+            try {
+                logMessage(loggerClassName, translatedLevel, PrintfTemplate.of(format).format(param1, param2, param3),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    /**
+     * Logs the message, accounting for the failures of the log manager. Formatting the message happens before, so a
+     * failing format or parameter is not taken for a failure of the log manager.
+     */
+    private void logMessage(final String loggerClassName, final org.apache.log4j.Level level, final Object message,
+            final Throwable thrown) {
+        try {
+            logger.log(loggerClassName, level, message, thrown);
+            failures.succeeded();
+        } catch (Throwable t) {
+            failures.failed(t);
+        }
+    }
+
     private static org.apache.log4j.Level translate(final Level level) {
         if (level == Level.TRACE) {
             return org.apache.log4j.Level.TRACE;
@@ -19,10 +19,18 @@
 package org.jboss.logging;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Stack;
 
+import org.apache.log4j.Appender;
+import org.apache.log4j.Category;
+import org.apache.log4j.Hierarchy;
+import org.apache.log4j.LogManager;
 import org.apache.log4j.MDC;
 import org.apache.log4j.NDC;
+import org.apache.log4j.spi.HierarchyEventListener;
+import org.apache.log4j.spi.LoggerRepository;
 
 /**
  * An implementation of the {@linkplain LoggerProvider log provider} for log4j.
@@ -32,9 +40,32 @@ import org.apache.log4j.NDC;
  */
 public final class Log4jLoggerProvider implements LoggerProvider {
 
+    private final LoggerCache<Log4jLogger> loggers = new LoggerCache<>(
+            (name) -> new Log4jLogger("".equals(name) ? "ROOT" : name));
+
+    public Log4jLoggerProvider() {
+        final LoggerRepository repository = LevelSwitch.ENABLED ? LogManager.getLoggerRepository() : null;
+        if (repository instanceof Hierarchy) {
+            // The configurators add and remove appenders when the configuration changes, levels set directly on a
+            // logger are not reported
+            ((Hierarchy) repository).addHierarchyEventListener(new HierarchyEventListener() {
+                @Override
+                public void addAppenderEvent(final Category cat, final Appender appender) {
+                    LevelSwitch.invalidate();
+                }
+
+                @Override
+                public void removeAppenderEvent(final Category cat, final Appender appender) {
+                    LevelSwitch.invalidate();
+                }
+            });
+        }
+        LevelSwitch.warnUnreported("log4j");
+    }
+
     @Override
     public Logger getLogger(final String name) {
-        return new Log4jLogger("".equals(name) ? "ROOT" : name);
+        return loggers.get(name);
     }
 
     @Override
@@ -63,6 +94,11 @@ public final class Log4jLoggerProvider implements LoggerProvider {
         }
     }
 
+    @Override
+    public void putMdcQuiet(String key, Object val) {
+        MDC.put(key, val);
+    }
+
     @Override
     public void removeMdc(String key) {
         MDC.remove(key);
@@ -102,4 +138,29 @@ public final class Log4jLoggerProvider implements LoggerProvider {
     public void setNdcMaxDepth(int maxDepth) {
         NDC.setMaxDepth(maxDepth);
     }
+
+    @Override
+    public Object captureContext() {
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> mdc = MDC.getContext();
+        return ContextSnapshot.of(mdc == null || mdc.isEmpty() ? null : new HashMap<>(mdc),
+                NDC.getDepth() == 0 ? null : NDC.cloneStack());
+    }
+
+    @Override
+    public void restoreContext(final Object context) {
+        final ContextSnapshot snapshot = (ContextSnapshot) context;
+        MDC.clear();
+        if (snapshot != null && snapshot.mdc != null) {
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> mdc = (Map<String, Object>) snapshot.mdc;
+            mdc.forEach(MDC::put);
+        }
+        if (snapshot == null || snapshot.ndc == null) {
+            NDC.remove();
+        } else {
+            // The thread keeps using the stack it inherits, so it is given its own copy
+            NDC.inherit((Stack<?>) ((Stack<?>) snapshot.ndc).clone());
+        }
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for each enabled log call. The event thread is the thread which logged the message.
+ * <p>
+ * The event is disabled by default as it is recorded for every message, enable it with
+ * {@code jfr configure +org.jboss.logging.LogCall#enabled=true} or in the recording settings.
+ * </p>
+ */
+@Name("org.jboss.logging.LogCall")
+@Label("Log Call")
+@Category("JBoss Logging")
+@Description("An enabled log call")
+@Enabled(false)
+final class LogCallEvent extends Event {
+
+    @Label("Category")
+    @Description("The logger category")
+    String category;
+
+    @Label("Level")
+    String level;
+
+    @Label("Format")
+    @Description("The message or format, or the type of the message if it is not a string")
+    String format;
+}
@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * A Flight Recorder event timing how long the provider took to handle an enabled log call, which includes formatting
+ * the message and, for synchronous handlers and appenders, writing it.
+ * <p>
+ * By default only calls taking at least one millisecond are recorded.
+ * </p>
+ */
+@Name("org.jboss.logging.LogDispatch")
+@Label("Log Dispatch")
+@Category("JBoss Logging")
+@Description("The time the log provider took to handle a log call")
+@Threshold("1 ms")
+final class LogDispatchEvent extends Event {
+
+    @Label("Category")
+    @Description("The logger category")
+    String category;
+
+    @Label("Level")
+    String level;
+
+    @Label("Provider")
+    @Description("The logger implementation of the provider")
+    String provider;
+}
@@ -0,0 +1,157 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.Optional;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+
+/**
+ * Emits the {@link LogCallEvent} and {@link LogDispatchEvent} Flight Recorder events around the calls {@link Logger}
+ * makes to the provider.
+ * <p>
+ * The events are only created while a recording with one of them enabled is running, which a listener on the flight
+ * recorder keeps track of. Otherwise the cost of an enabled log call is a read of a volatile field. When the
+ * {@code jdk.jfr} module is not available the check is a {@code static final} field the JIT removes.
+ * </p>
+ * <p>
+ * The event objects are passed to {@link Logger} as {@code Object}, so it does not link against {@code jdk.jfr}.
+ * </p>
+ */
+final class LogEvents {
+
+    static final boolean AVAILABLE = isAvailable();
+
+    private static volatile boolean recording;
+
+    static {
+        if (AVAILABLE) {
+            Recorder.listen();
+        }
+    }
+
+    private LogEvents() {
+    }
+
+    /**
+     * Emits the log call event and starts timing the dispatch to the provider, if either is being recorded and the
+     * level is enabled.
+     *
+     * @param logger  the logger
+     * @param level   the level
+     * @param message the message or format
+     *
+     * @return the dispatch event to {@linkplain #end(Object) end}, or {@code null} if it is not recorded
+     */
+    static Object begin(final Logger logger, final Logger.Level level, final Object message) {
+        // Some log methods leave the level check to the provider, so it is checked again while recording
+        if (AVAILABLE && recording && logger.isEnabled(level)) {
+            return Recorder.begin(logger, level, message);
+        }
+        return null;
+    }
+
+    /**
+     * Ends the dispatch event returned by {@link #begin(Logger, Logger.Level, Object)}.
+     *
+     * @param event the dispatch event, may be {@code null}
+     */
+    static void end(final Object event) {
+        if (event != null) {
+            Recorder.end(event);
+        }
+    }
+
+    private static boolean isAvailable() {
+        try {
+            final Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+            return jfr.isPresent() && LogEvents.class.getModule().canRead(jfr.get()) && Recorder.isAvailable();
+        } catch (Throwable ignore) {
+            return false;
+        }
+    }
+
+    /**
+     * The code which links against {@code jdk.jfr}, only loaded when it is available.
+     */
+    private static final class Recorder implements FlightRecorderListener {
+
+        static boolean isAvailable() {
+            return FlightRecorder.isAvailable();
+        }
+
+        static void listen() {
+            try {
+                FlightRecorder.addListener(new Recorder());
+                if (FlightRecorder.isInitialized()) {
+                    update();
+                }
+            } catch (SecurityException ignore) {
+                // Not permitted to access the flight recorder, the events are never emitted
+            }
+        }
+
+        static Object begin(final Logger logger, final Logger.Level level, final Object message) {
+            final String category = logger.getName();
+            final LogCallEvent call = new LogCallEvent();
+            if (call.shouldCommit()) {
+                call.category = category;
+                call.level = level.name();
+                call.format = message == null || message instanceof String ? (String) message
+                        : message.getClass().getName();
+                call.commit();
+            }
+            final LogDispatchEvent dispatch = new LogDispatchEvent();
+            if (dispatch.isEnabled()) {
+                dispatch.category = category;
+                dispatch.level = level.name();
+                dispatch.provider = logger.getClass().getName();
+                dispatch.begin();
+                return dispatch;
+            }
+            return null;
+        }
+
+        static void end(final Object event) {
+            final LogDispatchEvent dispatch = (LogDispatchEvent) event;
+            dispatch.end();
+            if (dispatch.shouldCommit()) {
+                dispatch.commit();
+            }
+        }
+
+        @Override
+        public void recorderInitialized(final FlightRecorder recorder) {
+            update();
+        }
+
+        @Override
+        public void recordingStateChanged(final Recording recording) {
+            update();
+        }
+
+        private static void update() {
+            recording = EventType.getEventType(LogCallEvent.class).isEnabled()
+                    || EventType.getEventType(LogDispatchEvent.class).isEnabled();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counts the log calls of each logger category and level.
+ * <p>
+ * The counters are disabled by default and are enabled by setting the {@code org.jboss.logging.metrics} system property
+ * to {@code true}. The property is read once into a {@code static final} field, so when it is not set the JIT removes
+ * the counting from the {@link Logger} methods. When enabled, the counters are registered in the platform MBean server
+ * as {@value LoggingMetricsMXBean#OBJECT_NAME}.
+ * </p>
+ */
+final class LogMetrics implements LoggingMetricsMXBean {
+
+    static final String METRICS_KEY = "org.jboss.logging.metrics";
+
+    static final boolean ENABLED = Boolean.parseBoolean(SecurityActions.getSystemProperty(METRICS_KEY, "false"));
+
+    private static final Logger.Level[] LEVELS = Logger.Level.values();
+
+    static final LogMetrics INSTANCE = ENABLED ? Registration.register(new LogMetrics()) : null;
+
+    private final ConcurrentMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+    private LogMetrics() {
+    }
+
+    /**
+     * Returns the counters of the category, creating them if required.
+     *
+     * @param category the logger category
+     *
+     * @return the counters
+     */
+    static Counters counters(final String category) {
+        return INSTANCE.counters.computeIfAbsent(category, c -> new Counters());
+    }
+
+    @Override
+    public String[] getCategories() {
+        return counters.keySet().stream().sorted().toArray(String[]::new);
+    }
+
+    @Override
+    public Map<String, Long> getEnabledCounts() {
+        final Map<String, Long> result = new TreeMap<>();
+        counters.forEach((category, c) -> result.put(category, sum(c.enabled)));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getDisabledCounts() {
+        final Map<String, Long> result = new TreeMap<>();
+        counters.forEach((category, c) -> result.put(category, sum(c.disabled)));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getThrowableCounts() {
+        final Map<String, Long> result = new TreeMap<>();
+        counters.forEach((category, c) -> result.put(category, sum(c.thrown)));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getCounts(final String category) {
+        final Map<String, Long> result = new LinkedHashMap<>();
+        final Counters c = counters.get(category);
+        if (c != null) {
+            for (Logger.Level level : LEVELS) {
+                final int i = level.ordinal();
+                result.put("enabled." + level, c.enabled[i].sum());
+                result.put("disabled." + level, c.disabled[i].sum());
+                result.put("throwable." + level, c.thrown[i].sum());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        for (Counters c : counters.values()) {
+            for (int i = 0; i < LEVELS.length; i++) {
+                c.enabled[i].reset();
+                c.disabled[i].reset();
+                c.thrown[i].reset();
+            }
+        }
+    }
+
+    private static long sum(final LongAdder[] adders) {
+        long sum = 0L;
+        for (LongAdder adder : adders) {
+            sum += adder.sum();
+        }
+        return sum;
+    }
+
+    /**
+     * Registers the counters in the platform MBean server. This is kept out of {@link LogMetrics} so the JMX types are
+     * only loaded, and the {@code java.management} module only required, when the counters are enabled.
+     */
+    private static final class Registration {
+
+        static LogMetrics register(final LogMetrics metrics) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+            } catch (JMException | SecurityException ignore) {
+                // Already registered by another copy of the library, or not permitted, the counters still work
+            }
+            return metrics;
+        }
+    }
+
+    /**
+     * The counters of a logger category, indexed by level. The adders stripe their cells across threads, so loggers
+     * shared by many threads do not contend on a single counter.
+     */
+    static final class Counters {
+        private final LongAdder[] enabled = adders();
+        private final LongAdder[] disabled = adders();
+        private final LongAdder[] thrown = adders();
+
+        private Counters() {
+        }
+
+        void checked(final Logger.Level level, final boolean isEnabled) {
+            (isEnabled ? enabled : disabled)[level.ordinal()].increment();
+        }
+
+        void thrown(final Logger.Level level) {
+            thrown[level.ordinal()].increment();
+        }
+
+        private static LongAdder[] adders() {
+            final LongAdder[] adders = new LongAdder[LEVELS.length];
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.MethodType;
 import java.security.PrivilegedAction;
 import java.util.Locale;
+import java.util.function.Supplier;
 
 /**
  * An abstracted logging entry point.
@@ -37,6 +38,8 @@ public abstract class Logger implements Serializable, BasicLogger {
 
     private static final String FQCN = Logger.class.getName();
 
+    private static final ImplementationCache MESSAGE_LOGGERS = new ImplementationCache(Logger::findMessageLoggerConstructor);
+
     /**
      * Levels used by this logging API.
      */
@@ -51,6 +54,12 @@ public abstract class Logger implements Serializable, BasicLogger {
 
     private final String name;
 
+    // The cached level checks, only used when the level cache is enabled
+    transient LevelSwitch.State levels;
+
+    // The event counters of the category, only set when the metrics are enabled
+    private final transient LogMetrics.Counters metrics;
+
     /**
      * Construct a new instance.
      *
@@ -58,6 +67,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     protected Logger(final String name) {
         this.name = name;
+        metrics = LogMetrics.ENABLED ? LogMetrics.counters(name) : null;
     }
 
     /**
@@ -69,6 +79,37 @@ public abstract class Logger implements Serializable, BasicLogger {
         return name;
     }
 
+    private boolean checkEnabled(final Level level) {
+        final boolean enabled = LevelSwitch.ENABLED ? LevelSwitch.isEnabled(this, level) : isEnabled(level);
+        if (LogMetrics.ENABLED) {
+            metrics.checked(level, enabled);
+        }
+        return enabled;
+    }
+
+    private boolean checkEnabled(final Level level, final Throwable thrown) {
+        final boolean enabled = checkEnabled(level);
+        if (LogMetrics.ENABLED && enabled && thrown != null) {
+            metrics.thrown(level);
+        }
+        return enabled;
+    }
+
+    // The provider checks the level before logging, so this only checks it when the answer is cached or counted
+    private boolean mayLog(final Level level) {
+        if (LogMetrics.ENABLED) {
+            return checkEnabled(level);
+        }
+        return !LevelSwitch.ENABLED || LevelSwitch.isEnabled(this, level);
+    }
+
+    private boolean mayLog(final Level level, final Throwable thrown) {
+        if (LogMetrics.ENABLED) {
+            return checkEnabled(level, thrown);
+        }
+        return mayLog(level);
+    }
+
     /**
      * Implementation log method (standard parameter formatting).
      *
@@ -91,13 +132,295 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     protected abstract void doLogf(Level level, String loggerClassName, String format, Object[] parameters, Throwable thrown);
 
+    /**
+     * Implementation log method (printf formatting) for a single {@code int} parameter. The default implementation
+     * boxes the parameters and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the sole parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf1(Level level, String loggerClassName, String format, int param1, Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1 }, thrown);
+    }
+
+    /**
+     * Implementation log method (printf formatting) for a single {@code long} parameter. The default implementation
+     * boxes the parameters and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the sole parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf1(Level level, String loggerClassName, String format, long param1, Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1 }, thrown);
+    }
+
+    /**
+     * Implementation log method (printf formatting) for two {@code int} parameters. The default implementation boxes
+     * the parameters and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the first parameter
+     * @param param2          the second parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf2(Level level, String loggerClassName, String format, int param1, int param2, Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1, param2 }, thrown);
+    }
+
+    /**
+     * Implementation log method (printf formatting) for two parameters, the first one {@code int}. The default
+     * implementation boxes the parameters and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the first parameter
+     * @param param2          the second parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf2(Level level, String loggerClassName, String format, int param1, Object param2, Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1, param2 }, thrown);
+    }
+
+    /**
+     * Implementation log method (printf formatting) for two {@code long} parameters. The default implementation boxes
+     * the parameters and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the first parameter
+     * @param param2          the second parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf2(Level level, String loggerClassName, String format, long param1, long param2, Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1, param2 }, thrown);
+    }
+
+    /**
+     * Implementation log method (printf formatting) for two parameters, the first one {@code long}. The default
+     * implementation boxes the parameters and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the first parameter
+     * @param param2          the second parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf2(Level level, String loggerClassName, String format, long param1, Object param2, Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1, param2 }, thrown);
+    }
+
+    /**
+     * Implementation log method (printf formatting) for three {@code int} parameters. The default implementation boxes
+     * the parameters and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the first parameter
+     * @param param2          the second parameter
+     * @param param3          the third parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf3(Level level, String loggerClassName, String format, int param1, int param2, int param3,
+            Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1, param2, param3 }, thrown);
+    }
+
+    /**
+     * Implementation log method (printf formatting) for three parameters, the first two {@code int}. The default
+     * implementation boxes the parameters and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the first parameter
+     * @param param2          the second parameter
+     * @param param3          the third parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf3(Level level, String loggerClassName, String format, int param1, int param2, Object param3,
+            Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1, param2, param3 }, thrown);
+    }
+
+    /**
+     * Implementation log method (printf formatting) for three parameters, the first one {@code int}. The default
+     * implementation boxes the parameters and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the first parameter
+     * @param param2          the second parameter
+     * @param param3          the third parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf3(Level level, String loggerClassName, String format, int param1, Object param2, Object param3,
+            Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1, param2, param3 }, thrown);
+    }
+
+    /**
+     * Implementation log method (printf formatting) for three {@code long} parameters. The default implementation boxes
+     * the parameters and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the first parameter
+     * @param param2          the second parameter
+     * @param param3          the third parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf3(Level level, String loggerClassName, String format, long param1, long param2, long param3,
+            Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1, param2, param3 }, thrown);
+    }
+
+    /**
+     * Implementation log method (printf formatting) for three parameters, the first two {@code long}. The default
+     * implementation boxes the parameters and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the first parameter
+     * @param param2          the second parameter
+     * @param param3          the third parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf3(Level level, String loggerClassName, String format, long param1, long param2, Object param3,
+            Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1, param2, param3 }, thrown);
+    }
+
+    /**
+     * Implementation log method (printf formatting) for three parameters, the first one {@code long}. The default
+     * implementation boxes the parameters and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the first parameter
+     * @param param2          the second parameter
+     * @param param3          the third parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf3(Level level, String loggerClassName, String format, long param1, Object param2, Object param3,
+            Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1, param2, param3 }, thrown);
+    }
+
+    /**
+     * Implementation log method (standard parameter formatting) for a single parameter. The default implementation
+     * creates the parameter array and delegates to {@link #doLog(Level, String, Object, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param message         the message to log
+     * @param param1          the sole parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLog1(Level level, String loggerClassName, Object message, Object param1, Throwable thrown) {
+        doLog(level, loggerClassName, message, new Object[] { param1 }, thrown);
+    }
+
+    /**
+     * Implementation log method (standard parameter formatting) for two parameters. The default implementation creates
+     * the parameter array and delegates to {@link #doLog(Level, String, Object, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param message         the message to log
+     * @param param1          the first parameter
+     * @param param2          the second parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLog2(Level level, String loggerClassName, Object message, Object param1, Object param2, Throwable thrown) {
+        doLog(level, loggerClassName, message, new Object[] { param1, param2 }, thrown);
+    }
+
+    /**
+     * Implementation log method (standard parameter formatting) for three parameters. The default implementation
+     * creates the parameter array and delegates to {@link #doLog(Level, String, Object, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param message         the message to log
+     * @param param1          the first parameter
+     * @param param2          the second parameter
+     * @param param3          the third parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLog3(Level level, String loggerClassName, Object message, Object param1, Object param2, Object param3,
+            Throwable thrown) {
+        doLog(level, loggerClassName, message, new Object[] { param1, param2, param3 }, thrown);
+    }
+
+    /**
+     * Implementation log method (printf formatting) for a single parameter. The default implementation creates the
+     * parameter array and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the sole parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf1(Level level, String loggerClassName, String format, Object param1, Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1 }, thrown);
+    }
+
+    /**
+     * Implementation log method (printf formatting) for two parameters. The default implementation creates the
+     * parameter array and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the first parameter
+     * @param param2          the second parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf2(Level level, String loggerClassName, String format, Object param1, Object param2, Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1, param2 }, thrown);
+    }
+
+    /**
+     * Implementation log method (printf formatting) for three parameters. The default implementation creates the
+     * parameter array and delegates to {@link #doLogf(Level, String, String, Object[], Throwable)}.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param param1          the first parameter
+     * @param param2          the second parameter
+     * @param param3          the third parameter
+     * @param thrown          the exception which was thrown, if any
+     */
+    protected void doLogf3(Level level, String loggerClassName, String format, Object param1, Object param2, Object param3,
+            Throwable thrown) {
+        doLogf(level, loggerClassName, format, new Object[] { param1, param2, param3 }, thrown);
+    }
+
     /**
      * Check to see if the {@code TRACE} level is enabled for this logger.
      *
      * @return {@code true} if messages logged at {@link Level#TRACE} may be accepted, {@code false} otherwise
      */
     public boolean isTraceEnabled() {
-        return isEnabled(Level.TRACE);
+        return checkEnabled(Level.TRACE);
     }
 
     /**
@@ -106,7 +429,14 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param message the message
      */
     public void trace(Object message) {
-        doLog(Level.TRACE, FQCN, message, null, null);
+        if (mayLog(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, message);
+            try {
+                doLog(Level.TRACE, FQCN, message, null, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -116,7 +446,14 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t       the throwable
      */
     public void trace(Object message, Throwable t) {
-        doLog(Level.TRACE, FQCN, message, null, t);
+        if (mayLog(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, message);
+            try {
+                doLog(Level.TRACE, FQCN, message, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -127,7 +464,14 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void trace(String loggerFqcn, Object message, Throwable t) {
-        doLog(Level.TRACE, loggerFqcn, message, null, t);
+        if (mayLog(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, message);
+            try {
+                doLog(Level.TRACE, loggerFqcn, message, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -139,7 +483,14 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void trace(Object message, Object[] params) {
-        doLog(Level.TRACE, FQCN, message, params, null);
+        if (mayLog(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, message);
+            try {
+                doLog(Level.TRACE, FQCN, message, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -152,7 +503,14 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void trace(Object message, Object[] params, Throwable t) {
-        doLog(Level.TRACE, FQCN, message, params, t);
+        if (mayLog(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, message);
+            try {
+                doLog(Level.TRACE, FQCN, message, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -164,7 +522,14 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void trace(String loggerFqcn, Object message, Object[] params, Throwable t) {
-        doLog(Level.TRACE, loggerFqcn, message, params, t);
+        if (mayLog(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, message);
+            try {
+                doLog(Level.TRACE, loggerFqcn, message, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -174,7 +539,14 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void tracev(String format, Object... params) {
-        doLog(Level.TRACE, FQCN, format, params, null);
+        if (mayLog(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog(Level.TRACE, FQCN, format, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -184,8 +556,13 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void tracev(String format, Object param1) {
-        if (isEnabled(Level.TRACE)) {
-            doLog(Level.TRACE, FQCN, format, new Object[] { param1 }, null);
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog1(Level.TRACE, FQCN, format, param1, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -197,8 +574,13 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void tracev(String format, Object param1, Object param2) {
-        if (isEnabled(Level.TRACE)) {
-            doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2 }, null);
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog2(Level.TRACE, FQCN, format, param1, param2, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -211,153 +593,3027 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void tracev(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.TRACE)) {
-            doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3 }, null);
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog3(Level.TRACE, FQCN, format, param1, param2, param3, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
      * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
-     * @param params the parameters
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    public void tracev(Throwable t, String format, Object... params) {
-        doLog(Level.TRACE, FQCN, format, params, t);
+    public void tracev(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
      * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
-     * @param param1 the sole parameter
-     */
-    public void tracev(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.TRACE)) {
-            doLog(Level.TRACE, FQCN, format, new Object[] { param1 }, t);
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void tracev(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
      * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
-     */
-    public void tracev(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.TRACE)) {
-            doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2 }, t);
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void tracev(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
      * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
-     */
-    public void tracev(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.TRACE)) {
-            doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3 }, t);
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void tracev(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog(Level.TRACE, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of TRACE.
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param params the parameters
      */
-    public void tracef(String format, Object... params) {
-        doLogf(Level.TRACE, FQCN, format, params, null);
+    public void tracev(Throwable t, String format, Object... params) {
+        if (mayLog(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog(Level.TRACE, FQCN, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a formatted log message with a level of TRACE.
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param param1 the sole parameter
      */
-    public void tracef(String format, Object param1) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { param1 }, null);
+    public void tracev(Throwable t, String format, Object param1) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog1(Level.TRACE, FQCN, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of TRACE.
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param param1 the first parameter
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    public void tracev(Throwable t, String format, Object param1, Object param2) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog2(Level.TRACE, FQCN, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    public void tracev(Throwable t, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog3(Level.TRACE, FQCN, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    public void tracev(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void tracev(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void tracev(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void tracev(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of TRACE using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void tracev(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLog(Level.TRACE, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param params the parameters
+     */
+    public void tracef(String format, Object... params) {
+        if (mayLog(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf(Level.TRACE, FQCN, format, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the sole parameter
+     */
+    public void tracef(String format, Object param1) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf1(Level.TRACE, FQCN, format, param1, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    public void tracef(String format, Object param1, Object param2) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf2(Level.TRACE, FQCN, format, param1, param2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    public void tracef(String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, param1, param2, param3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void tracef(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void tracef(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void tracef(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void tracef(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf(Level.TRACE, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param params the parameters
+     */
+    public void tracef(Throwable t, String format, Object... params) {
+        if (mayLog(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf(Level.TRACE, FQCN, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the sole parameter
+     */
+    public void tracef(Throwable t, String format, Object param1) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf1(Level.TRACE, FQCN, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    public void tracef(Throwable t, String format, Object param1, Object param2) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf2(Level.TRACE, FQCN, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    public void tracef(Throwable t, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    public void tracef(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void tracef(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void tracef(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void tracef(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void tracef(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf(Level.TRACE, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final String format, final int arg) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf1(Level.TRACE, FQCN, format, arg, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final String format, final int arg1, final int arg2) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf2(Level.TRACE, FQCN, format, arg1, arg2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final String format, final int arg1, final Object arg2) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf2(Level.TRACE, FQCN, format, arg1, arg2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final String format, final int arg1, final int arg2, final int arg3) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, arg1, arg2, arg3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final String format, final int arg1, final int arg2, final Object arg3) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, arg1, arg2, arg3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final String format, final int arg1, final Object arg2, final Object arg3) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, arg1, arg2, arg3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final Throwable t, final String format, final int arg) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf1(Level.TRACE, FQCN, format, arg, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final Throwable t, final String format, final int arg1, final int arg2) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf2(Level.TRACE, FQCN, format, arg1, arg2, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final Throwable t, final String format, final int arg1, final Object arg2) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf2(Level.TRACE, FQCN, format, arg1, arg2, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final Throwable t, final String format, final int arg1, final int arg2, final int arg3) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, arg1, arg2, arg3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final Throwable t, final String format, final int arg1, final int arg2, final Object arg3) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, arg1, arg2, arg3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final Throwable t, final String format, final int arg1, final Object arg2, final Object arg3) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, arg1, arg2, arg3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final String format, final long arg) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf1(Level.TRACE, FQCN, format, arg, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final String format, final long arg1, final long arg2) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf2(Level.TRACE, FQCN, format, arg1, arg2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final String format, final long arg1, final Object arg2) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf2(Level.TRACE, FQCN, format, arg1, arg2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final String format, final long arg1, final long arg2, final long arg3) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, arg1, arg2, arg3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final String format, final long arg1, final long arg2, final Object arg3) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, arg1, arg2, arg3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final String format, final long arg1, final Object arg2, final Object arg3) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, arg1, arg2, arg3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final Throwable t, final String format, final long arg) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf1(Level.TRACE, FQCN, format, arg, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final Throwable t, final String format, final long arg1, final long arg2) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf2(Level.TRACE, FQCN, format, arg1, arg2, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final Throwable t, final String format, final long arg1, final Object arg2) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf2(Level.TRACE, FQCN, format, arg1, arg2, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final Throwable t, final String format, final long arg1, final long arg2, final long arg3) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, arg1, arg2, arg3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final Throwable t, final String format, final long arg1, final long arg2, final Object arg3) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, arg1, arg2, arg3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void tracef(final Throwable t, final String format, final long arg1, final Object arg2, final Object arg3) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, arg1, arg2, arg3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of TRACE. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
+    public void traceLazy(Supplier<?> message) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object supplied = supplied(message);
+            final Object event = LogEvents.begin(this, Level.TRACE, supplied);
+            try {
+                doLog(Level.TRACE, FQCN, supplied, null, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of TRACE. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    public void traceLazy(Supplier<?> message, Throwable t) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object supplied = supplied(message);
+            final Object event = LogEvents.begin(this, Level.TRACE, supplied);
+            try {
+                doLog(Level.TRACE, FQCN, supplied, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    public void tracefLazy(String format, Supplier<?> param1) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf1(Level.TRACE, FQCN, format, supplied(param1), null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    public void tracefLazy(String format, Supplier<?> param1, Supplier<?> param2) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf2(Level.TRACE, FQCN, format, supplied(param1), supplied(param2), null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    public void tracefLazy(String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (checkEnabled(Level.TRACE)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, supplied(param1), supplied(param2), supplied(param3), null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    public void tracefLazy(Throwable t, String format, Supplier<?> param1) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf1(Level.TRACE, FQCN, format, supplied(param1), t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    public void tracefLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf2(Level.TRACE, FQCN, format, supplied(param1), supplied(param2), t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of TRACE. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    public void tracefLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (checkEnabled(Level.TRACE, t)) {
+            final Object event = LogEvents.begin(this, Level.TRACE, format);
+            try {
+                doLogf3(Level.TRACE, FQCN, format, supplied(param1), supplied(param2), supplied(param3), t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Check to see if the {@code DEBUG} level is enabled for this logger.
+     *
+     * @return {@code true} if messages logged at {@link Level#DEBUG} may be accepted, {@code false} otherwise
+     */
+    public boolean isDebugEnabled() {
+        return checkEnabled(Level.DEBUG);
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG.
+     *
+     * @param message the message
+     */
+    public void debug(Object message) {
+        if (mayLog(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, message);
+            try {
+                doLog(Level.DEBUG, FQCN, message, null, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of DEBUG.
+     *
+     * @param message the message
+     * @param t       the throwable
+     */
+    public void debug(Object message, Throwable t) {
+        if (mayLog(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, message);
+            try {
+                doLog(Level.DEBUG, FQCN, message, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of DEBUG and a specific logger class name.
+     *
+     * @param loggerFqcn the logger class name
+     * @param message    the message
+     * @param t          the throwable
+     */
+    public void debug(String loggerFqcn, Object message, Throwable t) {
+        if (mayLog(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, message);
+            try {
+                doLog(Level.DEBUG, loggerFqcn, message, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with parameters with a level of DEBUG.
+     *
+     * @param message the message
+     * @param params  the message parameters
+     * @deprecated To log a message with parameters, using {@link #debugv(String, Object...)} is recommended.
+     */
+    @Deprecated
+    public void debug(Object message, Object[] params) {
+        if (mayLog(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, message);
+            try {
+                doLog(Level.DEBUG, FQCN, message, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with parameters and a throwable with a level of DEBUG.
+     *
+     * @param message the message
+     * @param params  the message parameters
+     * @param t       the throwable
+     * @deprecated To log a message with parameters, using {@link #debugv(Throwable, String, Object...)} is recommended.
+     */
+    @Deprecated
+    public void debug(Object message, Object[] params, Throwable t) {
+        if (mayLog(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, message);
+            try {
+                doLog(Level.DEBUG, FQCN, message, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with parameters and a throwable with a level of DEBUG.
+     *
+     * @param loggerFqcn the logger class name
+     * @param message    the message
+     * @param params     the message parameters
+     * @param t          the throwable
+     */
+    public void debug(String loggerFqcn, Object message, Object[] params, Throwable t) {
+        if (mayLog(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, message);
+            try {
+                doLog(Level.DEBUG, loggerFqcn, message, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param params the parameters
+     */
+    public void debugv(String format, Object... params) {
+        if (mayLog(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog(Level.DEBUG, FQCN, format, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the sole parameter
+     */
+    public void debugv(String format, Object param1) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog1(Level.DEBUG, FQCN, format, param1, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    public void debugv(String format, Object param1, Object param2) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog2(Level.DEBUG, FQCN, format, param1, param2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    public void debugv(String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog3(Level.DEBUG, FQCN, format, param1, param2, param3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void debugv(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void debugv(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void debugv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void debugv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog(Level.DEBUG, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param params the parameters
+     */
+    public void debugv(Throwable t, String format, Object... params) {
+        if (mayLog(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog(Level.DEBUG, FQCN, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the sole parameter
+     */
+    public void debugv(Throwable t, String format, Object param1) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog1(Level.DEBUG, FQCN, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    public void debugv(Throwable t, String format, Object param1, Object param2) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog2(Level.DEBUG, FQCN, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    public void debugv(Throwable t, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog3(Level.DEBUG, FQCN, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    public void debugv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void debugv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void debugv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void debugv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void debugv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLog(Level.DEBUG, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param params the parameters
+     */
+    public void debugf(String format, Object... params) {
+        if (mayLog(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf(Level.DEBUG, FQCN, format, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the sole parameter
+     */
+    public void debugf(String format, Object param1) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf1(Level.DEBUG, FQCN, format, param1, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    public void debugf(String format, Object param1, Object param2) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf2(Level.DEBUG, FQCN, format, param1, param2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    public void debugf(String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, param1, param2, param3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void debugf(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void debugf(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void debugf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void debugf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf(Level.DEBUG, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param params the parameters
+     */
+    public void debugf(Throwable t, String format, Object... params) {
+        if (mayLog(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf(Level.DEBUG, FQCN, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the sole parameter
+     */
+    public void debugf(Throwable t, String format, Object param1) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf1(Level.DEBUG, FQCN, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    public void debugf(Throwable t, String format, Object param1, Object param2) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf2(Level.DEBUG, FQCN, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    public void debugf(Throwable t, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    public void debugf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void debugf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void debugf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void debugf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void debugf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf(Level.DEBUG, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final String format, final int arg) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf1(Level.DEBUG, FQCN, format, arg, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final String format, final int arg1, final int arg2) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf2(Level.DEBUG, FQCN, format, arg1, arg2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final String format, final int arg1, final Object arg2) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf2(Level.DEBUG, FQCN, format, arg1, arg2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final String format, final int arg1, final int arg2, final int arg3) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, arg1, arg2, arg3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final String format, final int arg1, final int arg2, final Object arg3) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, arg1, arg2, arg3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final String format, final int arg1, final Object arg2, final Object arg3) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, arg1, arg2, arg3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final Throwable t, final String format, final int arg) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf1(Level.DEBUG, FQCN, format, arg, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final Throwable t, final String format, final int arg1, final int arg2) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf2(Level.DEBUG, FQCN, format, arg1, arg2, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final Throwable t, final String format, final int arg1, final Object arg2) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf2(Level.DEBUG, FQCN, format, arg1, arg2, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final Throwable t, final String format, final int arg1, final int arg2, final int arg3) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, arg1, arg2, arg3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final Throwable t, final String format, final int arg1, final int arg2, final Object arg3) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, arg1, arg2, arg3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final Throwable t, final String format, final int arg1, final Object arg2, final Object arg3) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, arg1, arg2, arg3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final String format, final long arg) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf1(Level.DEBUG, FQCN, format, arg, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final String format, final long arg1, final long arg2) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf2(Level.DEBUG, FQCN, format, arg1, arg2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final String format, final long arg1, final Object arg2) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf2(Level.DEBUG, FQCN, format, arg1, arg2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final String format, final long arg1, final long arg2, final long arg3) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, arg1, arg2, arg3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final String format, final long arg1, final long arg2, final Object arg3) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, arg1, arg2, arg3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final String format, final long arg1, final Object arg2, final Object arg3) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, arg1, arg2, arg3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final Throwable t, final String format, final long arg) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf1(Level.DEBUG, FQCN, format, arg, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final Throwable t, final String format, final long arg1, final long arg2) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf2(Level.DEBUG, FQCN, format, arg1, arg2, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final Throwable t, final String format, final long arg1, final Object arg2) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf2(Level.DEBUG, FQCN, format, arg1, arg2, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final Throwable t, final String format, final long arg1, final long arg2, final long arg3) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, arg1, arg2, arg3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final Throwable t, final String format, final long arg1, final long arg2, final Object arg3) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, arg1, arg2, arg3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    public void debugf(final Throwable t, final String format, final long arg1, final Object arg2, final Object arg3) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, arg1, arg2, arg3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of DEBUG. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
+    public void debugLazy(Supplier<?> message) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object supplied = supplied(message);
+            final Object event = LogEvents.begin(this, Level.DEBUG, supplied);
+            try {
+                doLog(Level.DEBUG, FQCN, supplied, null, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of DEBUG. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    public void debugLazy(Supplier<?> message, Throwable t) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object supplied = supplied(message);
+            final Object event = LogEvents.begin(this, Level.DEBUG, supplied);
+            try {
+                doLog(Level.DEBUG, FQCN, supplied, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    public void debugfLazy(String format, Supplier<?> param1) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf1(Level.DEBUG, FQCN, format, supplied(param1), null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    public void debugfLazy(String format, Supplier<?> param1, Supplier<?> param2) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf2(Level.DEBUG, FQCN, format, supplied(param1), supplied(param2), null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    public void debugfLazy(String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (checkEnabled(Level.DEBUG)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, supplied(param1), supplied(param2), supplied(param3), null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    public void debugfLazy(Throwable t, String format, Supplier<?> param1) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf1(Level.DEBUG, FQCN, format, supplied(param1), t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    public void debugfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf2(Level.DEBUG, FQCN, format, supplied(param1), supplied(param2), t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of DEBUG. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    public void debugfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (checkEnabled(Level.DEBUG, t)) {
+            final Object event = LogEvents.begin(this, Level.DEBUG, format);
+            try {
+                doLogf3(Level.DEBUG, FQCN, format, supplied(param1), supplied(param2), supplied(param3), t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Check to see if the {@code INFO} level is enabled for this logger.
+     *
+     * @return {@code true} if messages logged at {@link Level#INFO} may be accepted, {@code false} otherwise
+     */
+    public boolean isInfoEnabled() {
+        return checkEnabled(Level.INFO);
+    }
+
+    /**
+     * Issue a log message with a level of INFO.
+     *
+     * @param message the message
+     */
+    public void info(Object message) {
+        if (mayLog(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, message);
+            try {
+                doLog(Level.INFO, FQCN, message, null, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of INFO.
+     *
+     * @param message the message
+     * @param t       the throwable
+     */
+    public void info(Object message, Throwable t) {
+        if (mayLog(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, message);
+            try {
+                doLog(Level.INFO, FQCN, message, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with a level of INFO and a specific logger class name.
+     *
+     * @param loggerFqcn the logger class name
+     * @param message    the message
+     * @param t          the throwable
+     */
+    public void info(String loggerFqcn, Object message, Throwable t) {
+        if (mayLog(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, message);
+            try {
+                doLog(Level.INFO, loggerFqcn, message, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with parameters with a level of INFO.
+     *
+     * @param message the message
+     * @param params  the message parameters
+     * @deprecated To log a message with parameters, using {@link #infov(String, Object...)} is recommended.
+     */
+    @Deprecated
+    public void info(Object message, Object[] params) {
+        if (mayLog(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, message);
+            try {
+                doLog(Level.INFO, FQCN, message, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with parameters and a throwable with a level of INFO.
+     *
+     * @param message the message
+     * @param params  the message parameters
+     * @param t       the throwable
+     * @deprecated To log a message with parameters, using {@link #infov(Throwable, String, Object...)} is recommended.
+     */
+    @Deprecated
+    public void info(Object message, Object[] params, Throwable t) {
+        if (mayLog(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, message);
+            try {
+                doLog(Level.INFO, FQCN, message, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with parameters and a throwable with a level of INFO.
+     *
+     * @param loggerFqcn the logger class name
+     * @param message    the message
+     * @param params     the message parameters
+     * @param t          the throwable
+     */
+    public void info(String loggerFqcn, Object message, Object[] params, Throwable t) {
+        if (mayLog(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, message);
+            try {
+                doLog(Level.INFO, loggerFqcn, message, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param params the parameters
+     */
+    public void infov(String format, Object... params) {
+        if (mayLog(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog(Level.INFO, FQCN, format, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the sole parameter
+     */
+    public void infov(String format, Object param1) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog1(Level.INFO, FQCN, format, param1, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    public void infov(String format, Object param1, Object param2) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog2(Level.INFO, FQCN, format, param1, param2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    public void infov(String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog3(Level.INFO, FQCN, format, param1, param2, param3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void infov(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void infov(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void infov(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void infov(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param params the parameters
+     */
+    public void infov(Throwable t, String format, Object... params) {
+        if (mayLog(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog(Level.INFO, FQCN, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the sole parameter
+     */
+    public void infov(Throwable t, String format, Object param1) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog1(Level.INFO, FQCN, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    public void infov(Throwable t, String format, Object param1, Object param2) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog2(Level.INFO, FQCN, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    public void infov(Throwable t, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog3(Level.INFO, FQCN, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    public void infov(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void infov(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void infov(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void infov(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void infov(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLog(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param params the parameters
+     */
+    public void infof(String format, Object... params) {
+        if (mayLog(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf(Level.INFO, FQCN, format, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the sole parameter
+     */
+    public void infof(String format, Object param1) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf1(Level.INFO, FQCN, format, param1, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    public void tracef(String format, Object param1, Object param2) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2 }, null);
+    public void infof(String format, Object param1, Object param2) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf2(Level.INFO, FQCN, format, param1, param2, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of TRACE.
+     * Issue a formatted log message with a level of INFO.
      *
      * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    public void tracef(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3 }, null);
+    public void infof(String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf3(Level.INFO, FQCN, format, param1, param2, param3, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of TRACE.
+     * Issue a formatted log message with a level of INFO.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void infof(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void infof(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void infof(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void infof(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf(Level.INFO, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of INFO.
      *
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
      * @param params the parameters
      */
-    public void tracef(Throwable t, String format, Object... params) {
-        doLogf(Level.TRACE, FQCN, format, params, t);
+    public void infof(Throwable t, String format, Object... params) {
+        if (mayLog(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf(Level.INFO, FQCN, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a formatted log message with a level of TRACE.
+     * Issue a formatted log message with a level of INFO.
      *
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the sole parameter
      */
-    public void tracef(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { param1 }, t);
+    public void infof(Throwable t, String format, Object param1) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf1(Level.INFO, FQCN, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of TRACE.
+     * Issue a formatted log message with a level of INFO.
      *
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    public void tracef(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2 }, t);
+    public void infof(Throwable t, String format, Object param1, Object param2) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf2(Level.INFO, FQCN, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of TRACE.
+     * Issue a formatted log message with a level of INFO.
      *
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
@@ -365,423 +3621,972 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    public void tracef(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3 }, t);
+    public void infof(Throwable t, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf3(Level.INFO, FQCN, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final String format, final int arg) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg }, null);
+    /**
+     * Issue a formatted log message with a level of INFO.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    public void infof(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final String format, final int arg1, final int arg2) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, null);
+    /**
+     * Issue a formatted log message with a level of INFO.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void infof(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final String format, final int arg1, final Object arg2) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, null);
+    /**
+     * Issue a formatted log message with a level of INFO.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void infof(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final String format, final int arg1, final int arg2, final int arg3) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
+    /**
+     * Issue a formatted log message with a level of INFO.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void infof(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final String format, final int arg1, final int arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
+    /**
+     * Issue a formatted log message with a level of INFO.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void infof(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf(Level.INFO, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final String format, final int arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
+    /**
+     * Issue a log message with a level of INFO. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
+    public void infoLazy(Supplier<?> message) {
+        if (checkEnabled(Level.INFO)) {
+            final Object supplied = supplied(message);
+            final Object event = LogEvents.begin(this, Level.INFO, supplied);
+            try {
+                doLog(Level.INFO, FQCN, supplied, null, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final Throwable t, final String format, final int arg) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg }, t);
+    /**
+     * Issue a log message and throwable with a level of INFO. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    public void infoLazy(Supplier<?> message, Throwable t) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object supplied = supplied(message);
+            final Object event = LogEvents.begin(this, Level.INFO, supplied);
+            try {
+                doLog(Level.INFO, FQCN, supplied, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final Throwable t, final String format, final int arg1, final int arg2) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, t);
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    public void infofLazy(String format, Supplier<?> param1) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf1(Level.INFO, FQCN, format, supplied(param1), null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final Throwable t, final String format, final int arg1, final Object arg2) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, t);
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    public void infofLazy(String format, Supplier<?> param1, Supplier<?> param2) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf2(Level.INFO, FQCN, format, supplied(param1), supplied(param2), null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final Throwable t, final String format, final int arg1, final int arg2, final int arg3) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    public void infofLazy(String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (checkEnabled(Level.INFO)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf3(Level.INFO, FQCN, format, supplied(param1), supplied(param2), supplied(param3), null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final Throwable t, final String format, final int arg1, final int arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    public void infofLazy(Throwable t, String format, Supplier<?> param1) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf1(Level.INFO, FQCN, format, supplied(param1), t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final Throwable t, final String format, final int arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    public void infofLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf2(Level.INFO, FQCN, format, supplied(param1), supplied(param2), t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final String format, final long arg) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg }, null);
+    /**
+     * Issue a formatted log message with a level of INFO. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    public void infofLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (checkEnabled(Level.INFO, t)) {
+            final Object event = LogEvents.begin(this, Level.INFO, format);
+            try {
+                doLogf3(Level.INFO, FQCN, format, supplied(param1), supplied(param2), supplied(param3), t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final String format, final long arg1, final long arg2) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, null);
+    /**
+     * Issue a log message with a level of WARN.
+     *
+     * @param message the message
+     */
+    public void warn(Object message) {
+        if (mayLog(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, message);
+            try {
+                doLog(Level.WARN, FQCN, message, null, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final String format, final long arg1, final Object arg2) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, null);
+    /**
+     * Issue a log message and throwable with a level of WARN.
+     *
+     * @param message the message
+     * @param t       the throwable
+     */
+    public void warn(Object message, Throwable t) {
+        if (mayLog(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, message);
+            try {
+                doLog(Level.WARN, FQCN, message, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final String format, final long arg1, final long arg2, final long arg3) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
+    /**
+     * Issue a log message and throwable with a level of WARN and a specific logger class name.
+     *
+     * @param loggerFqcn the logger class name
+     * @param message    the message
+     * @param t          the throwable
+     */
+    public void warn(String loggerFqcn, Object message, Throwable t) {
+        if (mayLog(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, message);
+            try {
+                doLog(Level.WARN, loggerFqcn, message, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final String format, final long arg1, final long arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
+    /**
+     * Issue a log message with parameters with a level of WARN.
+     *
+     * @param message the message
+     * @param params  the message parameters
+     * @deprecated To log a message with parameters, using {@link #warnv(String, Object...)} is recommended.
+     */
+    @Deprecated
+    public void warn(Object message, Object[] params) {
+        if (mayLog(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, message);
+            try {
+                doLog(Level.WARN, FQCN, message, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final String format, final long arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
+    /**
+     * Issue a log message with parameters and a throwable with a level of WARN.
+     *
+     * @param message the message
+     * @param params  the message parameters
+     * @param t       the throwable
+     * @deprecated To log a message with parameters, using {@link #warnv(Throwable, String, Object...)} is recommended.
+     */
+    @Deprecated
+    public void warn(Object message, Object[] params, Throwable t) {
+        if (mayLog(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, message);
+            try {
+                doLog(Level.WARN, FQCN, message, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final Throwable t, final String format, final long arg) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg }, t);
+    /**
+     * Issue a log message with parameters and a throwable with a level of WARN.
+     *
+     * @param loggerFqcn the logger class name
+     * @param message    the message
+     * @param params     the message parameters
+     * @param t          the throwable
+     */
+    public void warn(String loggerFqcn, Object message, Object[] params, Throwable t) {
+        if (mayLog(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, message);
+            try {
+                doLog(Level.WARN, loggerFqcn, message, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final Throwable t, final String format, final long arg1, final long arg2) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, t);
+    /**
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param params the parameters
+     */
+    public void warnv(String format, Object... params) {
+        if (mayLog(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog(Level.WARN, FQCN, format, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final Throwable t, final String format, final long arg1, final Object arg2) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, t);
+    /**
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the sole parameter
+     */
+    public void warnv(String format, Object param1) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog1(Level.WARN, FQCN, format, param1, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final Throwable t, final String format, final long arg1, final long arg2, final long arg3) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
+    /**
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    public void warnv(String format, Object param1, Object param2) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog2(Level.WARN, FQCN, format, param1, param2, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final Throwable t, final String format, final long arg1, final long arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
+    /**
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    public void warnv(String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog3(Level.WARN, FQCN, format, param1, param2, param3, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void tracef(final Throwable t, final String format, final long arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
-            doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
+    /**
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void warnv(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Check to see if the {@code DEBUG} level is enabled for this logger.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @return {@code true} if messages logged at {@link Level#DEBUG} may be accepted, {@code false} otherwise
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
      */
-    public boolean isDebugEnabled() {
-        return isEnabled(Level.DEBUG);
+    public void warnv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of DEBUG.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param message the message
-     */
-    public void debug(Object message) {
-        doLog(Level.DEBUG, FQCN, message, null, null);
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void warnv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message and throwable with a level of DEBUG.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param message the message
-     * @param t       the throwable
-     */
-    public void debug(Object message, Throwable t) {
-        doLog(Level.DEBUG, FQCN, message, null, t);
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void warnv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message and throwable with a level of DEBUG and a specific logger class name.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param loggerFqcn the logger class name
-     * @param message    the message
-     * @param t          the throwable
+     * @param t      the throwable
+     * @param format the message format string
+     * @param params the parameters
      */
-    public void debug(String loggerFqcn, Object message, Throwable t) {
-        doLog(Level.DEBUG, loggerFqcn, message, null, t);
+    public void warnv(Throwable t, String format, Object... params) {
+        if (mayLog(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog(Level.WARN, FQCN, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters with a level of DEBUG.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param message the message
-     * @param params  the message parameters
-     * @deprecated To log a message with parameters, using {@link #debugv(String, Object...)} is recommended.
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the sole parameter
      */
-    @Deprecated
-    public void debug(Object message, Object[] params) {
-        doLog(Level.DEBUG, FQCN, message, params, null);
+    public void warnv(Throwable t, String format, Object param1) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog1(Level.WARN, FQCN, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters and a throwable with a level of DEBUG.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param message the message
-     * @param params  the message parameters
-     * @param t       the throwable
-     * @deprecated To log a message with parameters, using {@link #debugv(Throwable, String, Object...)} is recommended.
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
      */
-    @Deprecated
-    public void debug(Object message, Object[] params, Throwable t) {
-        doLog(Level.DEBUG, FQCN, message, params, t);
+    public void warnv(Throwable t, String format, Object param1, Object param2) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog2(Level.WARN, FQCN, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters and a throwable with a level of DEBUG.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param loggerFqcn the logger class name
-     * @param message    the message
-     * @param params     the message parameters
-     * @param t          the throwable
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
      */
-    public void debug(String loggerFqcn, Object message, Object[] params, Throwable t) {
-        doLog(Level.DEBUG, loggerFqcn, message, params, t);
+    public void warnv(Throwable t, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog3(Level.WARN, FQCN, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
+     * @param t      the throwable
      * @param format the message format string
-     * @param params the parameters
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
      */
-    public void debugv(String format, Object... params) {
-        doLog(Level.DEBUG, FQCN, format, params, null);
+    public void warnv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
+     * @param t      the throwable
      * @param format the message format string
-     * @param param1 the sole parameter
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    public void debugv(String format, Object param1) {
-        if (isEnabled(Level.DEBUG)) {
-            doLog(Level.DEBUG, FQCN, format, new Object[] { param1 }, null);
+    public void warnv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
+     * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
-     */
-    public void debugv(String format, Object param1, Object param2) {
-        if (isEnabled(Level.DEBUG)) {
-            doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2 }, null);
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void warnv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
+     * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
-     */
-    public void debugv(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3 }, null);
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void warnv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
      * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void warnv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLog(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of WARN.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param params the parameters
      */
-    public void debugv(Throwable t, String format, Object... params) {
-        doLog(Level.DEBUG, FQCN, format, params, t);
+    public void warnf(String format, Object... params) {
+        if (mayLog(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf(Level.WARN, FQCN, format, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param t      the throwable
-     * @param format the message format string
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the sole parameter
      */
-    public void debugv(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.DEBUG)) {
-            doLog(Level.DEBUG, FQCN, format, new Object[] { param1 }, t);
+    public void warnf(String format, Object param1) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf1(Level.WARN, FQCN, format, param1, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param t      the throwable
-     * @param format the message format string
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    public void debugv(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.DEBUG)) {
-            doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2 }, t);
+    public void warnf(String format, Object param1, Object param2) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf2(Level.WARN, FQCN, format, param1, param2, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of DEBUG using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of WARN.
      *
-     * @param t      the throwable
-     * @param format the message format string
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    public void debugv(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3 }, t);
+    public void warnf(String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf3(Level.WARN, FQCN, format, param1, param2, param3, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of DEBUG.
+     * Issue a formatted log message with a level of WARN.
      *
      * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param params the parameters
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    public void debugf(String format, Object... params) {
-        doLogf(Level.DEBUG, FQCN, format, params, null);
+    public void warnf(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a formatted log message with a level of DEBUG.
+     * Issue a formatted log message with a level of WARN.
      *
      * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param param1 the sole parameter
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
      */
-    public void debugf(String format, Object param1) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { param1 }, null);
+    public void warnf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of DEBUG.
+     * Issue a formatted log message with a level of WARN.
      *
      * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the first parameter
      * @param param2 the second parameter
-     */
-    public void debugf(String format, Object param1, Object param2) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2 }, null);
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void warnf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of DEBUG.
+     * Issue a formatted log message with a level of WARN.
      *
      * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
-     */
-    public void debugf(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3 }, null);
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void warnf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf(Level.WARN, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of DEBUG.
+     * Issue a formatted log message with a level of WARN.
      *
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
      * @param params the parameters
      */
-    public void debugf(Throwable t, String format, Object... params) {
-        doLogf(Level.DEBUG, FQCN, format, params, t);
+    public void warnf(Throwable t, String format, Object... params) {
+        if (mayLog(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf(Level.WARN, FQCN, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a formatted log message with a level of DEBUG.
+     * Issue a formatted log message with a level of WARN.
      *
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the sole parameter
      */
-    public void debugf(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { param1 }, t);
+    public void warnf(Throwable t, String format, Object param1) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf1(Level.WARN, FQCN, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of DEBUG.
+     * Issue a formatted log message with a level of WARN.
      *
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    public void debugf(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2 }, t);
+    public void warnf(Throwable t, String format, Object param1, Object param2) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf2(Level.WARN, FQCN, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of DEBUG.
+     * Issue a formatted log message with a level of WARN.
      *
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
@@ -789,863 +4594,1593 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    public void debugf(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3 }, t);
-        }
-    }
-
-    public void debugf(final String format, final int arg) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg }, null);
-        }
-    }
-
-    public void debugf(final String format, final int arg1, final int arg2) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, null);
-        }
-    }
-
-    public void debugf(final String format, final int arg1, final Object arg2) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, null);
-        }
-    }
-
-    public void debugf(final String format, final int arg1, final int arg2, final int arg3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
-        }
-    }
-
-    public void debugf(final String format, final int arg1, final int arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
-        }
-    }
-
-    public void debugf(final String format, final int arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
-        }
-    }
-
-    public void debugf(final Throwable t, final String format, final int arg) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg }, t);
-        }
-    }
-
-    public void debugf(final Throwable t, final String format, final int arg1, final int arg2) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, t);
-        }
-    }
-
-    public void debugf(final Throwable t, final String format, final int arg1, final Object arg2) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, t);
-        }
-    }
-
-    public void debugf(final Throwable t, final String format, final int arg1, final int arg2, final int arg3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
-        }
-    }
-
-    public void debugf(final Throwable t, final String format, final int arg1, final int arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
-        }
-    }
-
-    public void debugf(final Throwable t, final String format, final int arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
+    public void warnf(Throwable t, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf3(Level.WARN, FQCN, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void debugf(final String format, final long arg) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg }, null);
+    /**
+     * Issue a formatted log message with a level of WARN.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     */
+    public void warnf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void debugf(final String format, final long arg1, final long arg2) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, null);
+    /**
+     * Issue a formatted log message with a level of WARN.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void warnf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void debugf(final String format, final long arg1, final Object arg2) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, null);
+    /**
+     * Issue a formatted log message with a level of WARN.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void warnf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void debugf(final String format, final long arg1, final long arg2, final long arg3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
+    /**
+     * Issue a formatted log message with a level of WARN.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void warnf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void debugf(final String format, final long arg1, final long arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
+    /**
+     * Issue a formatted log message with a level of WARN.
+     *
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void warnf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf(Level.WARN, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void debugf(final String format, final long arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
+    /**
+     * Issue a log message with a level of WARN. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     */
+    public void warnLazy(Supplier<?> message) {
+        if (checkEnabled(Level.WARN)) {
+            final Object supplied = supplied(message);
+            final Object event = LogEvents.begin(this, Level.WARN, supplied);
+            try {
+                doLog(Level.WARN, FQCN, supplied, null, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void debugf(final Throwable t, final String format, final long arg) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg }, t);
+    /**
+     * Issue a log message and throwable with a level of WARN. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    public void warnLazy(Supplier<?> message, Throwable t) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object supplied = supplied(message);
+            final Object event = LogEvents.begin(this, Level.WARN, supplied);
+            try {
+                doLog(Level.WARN, FQCN, supplied, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void debugf(final Throwable t, final String format, final long arg1, final long arg2) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, t);
+    /**
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    public void warnfLazy(String format, Supplier<?> param1) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf1(Level.WARN, FQCN, format, supplied(param1), null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void debugf(final Throwable t, final String format, final long arg1, final Object arg2) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, t);
+    /**
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    public void warnfLazy(String format, Supplier<?> param1, Supplier<?> param2) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf2(Level.WARN, FQCN, format, supplied(param1), supplied(param2), null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void debugf(final Throwable t, final String format, final long arg1, final long arg2, final long arg3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
+    /**
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    public void warnfLazy(String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (checkEnabled(Level.WARN)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf3(Level.WARN, FQCN, format, supplied(param1), supplied(param2), supplied(param3), null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void debugf(final Throwable t, final String format, final long arg1, final long arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
+    /**
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    public void warnfLazy(Throwable t, String format, Supplier<?> param1) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf1(Level.WARN, FQCN, format, supplied(param1), t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
-    public void debugf(final Throwable t, final String format, final long arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
-            doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
+    /**
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
+     *
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    public void warnfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf2(Level.WARN, FQCN, format, supplied(param1), supplied(param2), t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Check to see if the {@code INFO} level is enabled for this logger.
+     * Issue a formatted log message with a level of WARN. The suppliers are only invoked if the level is enabled.
      *
-     * @return {@code true} if messages logged at {@link Level#INFO} may be accepted, {@code false} otherwise
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
      */
-    public boolean isInfoEnabled() {
-        return isEnabled(Level.INFO);
+    public void warnfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (checkEnabled(Level.WARN, t)) {
+            final Object event = LogEvents.begin(this, Level.WARN, format);
+            try {
+                doLogf3(Level.WARN, FQCN, format, supplied(param1), supplied(param2), supplied(param3), t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of INFO.
+     * Issue a log message with a level of ERROR.
      *
      * @param message the message
      */
-    public void info(Object message) {
-        doLog(Level.INFO, FQCN, message, null, null);
+    public void error(Object message) {
+        if (mayLog(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, message);
+            try {
+                doLog(Level.ERROR, FQCN, message, null, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message and throwable with a level of INFO.
+     * Issue a log message and throwable with a level of ERROR.
      *
      * @param message the message
      * @param t       the throwable
      */
-    public void info(Object message, Throwable t) {
-        doLog(Level.INFO, FQCN, message, null, t);
+    public void error(Object message, Throwable t) {
+        if (mayLog(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, message);
+            try {
+                doLog(Level.ERROR, FQCN, message, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message and throwable with a level of INFO and a specific logger class name.
+     * Issue a log message and throwable with a level of ERROR and a specific logger class name.
      *
      * @param loggerFqcn the logger class name
      * @param message    the message
      * @param t          the throwable
      */
-    public void info(String loggerFqcn, Object message, Throwable t) {
-        doLog(Level.INFO, loggerFqcn, message, null, t);
+    public void error(String loggerFqcn, Object message, Throwable t) {
+        if (mayLog(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, message);
+            try {
+                doLog(Level.ERROR, loggerFqcn, message, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters with a level of INFO.
+     * Issue a log message with parameters with a level of ERROR.
      *
      * @param message the message
      * @param params  the message parameters
-     * @deprecated To log a message with parameters, using {@link #infov(String, Object...)} is recommended.
+     * @deprecated To log a message with parameters, using {@link #errorv(String, Object...)} is recommended.
      */
     @Deprecated
-    public void info(Object message, Object[] params) {
-        doLog(Level.INFO, FQCN, message, params, null);
+    public void error(Object message, Object[] params) {
+        if (mayLog(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, message);
+            try {
+                doLog(Level.ERROR, FQCN, message, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters and a throwable with a level of INFO.
+     * Issue a log message with parameters and a throwable with a level of ERROR.
      *
      * @param message the message
      * @param params  the message parameters
      * @param t       the throwable
-     * @deprecated To log a message with parameters, using {@link #infov(Throwable, String, Object...)} is recommended.
+     * @deprecated To log a message with parameters, using {@link #errorv(Throwable, String, Object...)} is recommended.
      */
     @Deprecated
-    public void info(Object message, Object[] params, Throwable t) {
-        doLog(Level.INFO, FQCN, message, params, t);
+    public void error(Object message, Object[] params, Throwable t) {
+        if (mayLog(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, message);
+            try {
+                doLog(Level.ERROR, FQCN, message, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters and a throwable with a level of INFO.
+     * Issue a log message with parameters and a throwable with a level of ERROR.
      *
      * @param loggerFqcn the logger class name
      * @param message    the message
      * @param params     the message parameters
      * @param t          the throwable
      */
-    public void info(String loggerFqcn, Object message, Object[] params, Throwable t) {
-        doLog(Level.INFO, loggerFqcn, message, params, t);
+    public void error(String loggerFqcn, Object message, Object[] params, Throwable t) {
+        if (mayLog(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, message);
+            try {
+                doLog(Level.ERROR, loggerFqcn, message, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
      * @param format the message format string
      * @param params the parameters
      */
-    public void infov(String format, Object... params) {
-        doLog(Level.INFO, FQCN, format, params, null);
+    public void errorv(String format, Object... params) {
+        if (mayLog(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog(Level.ERROR, FQCN, format, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
      * @param format the message format string
      * @param param1 the sole parameter
      */
-    public void infov(String format, Object param1) {
-        if (isEnabled(Level.INFO)) {
-            doLog(Level.INFO, FQCN, format, new Object[] { param1 }, null);
+    public void errorv(String format, Object param1) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog1(Level.ERROR, FQCN, format, param1, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    public void infov(String format, Object param1, Object param2) {
-        if (isEnabled(Level.INFO)) {
-            doLog(Level.INFO, FQCN, format, new Object[] { param1, param2 }, null);
+    public void errorv(String format, Object param1, Object param2) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog2(Level.ERROR, FQCN, format, param1, param2, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    public void infov(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.INFO)) {
-            doLog(Level.INFO, FQCN, format, new Object[] { param1, param2, param3 }, null);
+    public void errorv(String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog3(Level.ERROR, FQCN, format, param1, param2, param3, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
-     * @param params the parameters
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    public void infov(Throwable t, String format, Object... params) {
-        doLog(Level.INFO, FQCN, format, params, t);
+    public void errorv(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
-     * @param param1 the sole parameter
-     */
-    public void infov(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.INFO)) {
-            doLog(Level.INFO, FQCN, format, new Object[] { param1 }, t);
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void errorv(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
-     */
-    public void infov(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.INFO)) {
-            doLog(Level.INFO, FQCN, format, new Object[] { param1, param2 }, t);
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void errorv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of INFO using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
-     */
-    public void infov(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.INFO)) {
-            doLog(Level.INFO, FQCN, format, new Object[] { param1, param2, param3 }, t);
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void errorv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog(Level.ERROR, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param params the parameters
      */
-    public void infof(String format, Object... params) {
-        doLogf(Level.INFO, FQCN, format, params, null);
+    public void errorv(Throwable t, String format, Object... params) {
+        if (mayLog(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog(Level.ERROR, FQCN, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param param1 the sole parameter
      */
-    public void infof(String format, Object param1) {
-        if (isEnabled(Level.INFO)) {
-            doLogf(Level.INFO, FQCN, format, new Object[] { param1 }, null);
+    public void errorv(Throwable t, String format, Object param1) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog1(Level.ERROR, FQCN, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    public void infof(String format, Object param1, Object param2) {
-        if (isEnabled(Level.INFO)) {
-            doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2 }, null);
+    public void errorv(Throwable t, String format, Object param1, Object param2) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog2(Level.ERROR, FQCN, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    public void infof(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.INFO)) {
-            doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2, param3 }, null);
+    public void errorv(Throwable t, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog3(Level.ERROR, FQCN, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param params the parameters
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
      */
-    public void infof(Throwable t, String format, Object... params) {
-        doLogf(Level.INFO, FQCN, format, params, t);
+    public void errorv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param param1 the sole parameter
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    public void infof(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.INFO)) {
-            doLogf(Level.INFO, FQCN, format, new Object[] { param1 }, t);
+    public void errorv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
-     */
-    public void infof(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.INFO)) {
-            doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2 }, t);
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void errorv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of INFO.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
-     */
-    public void infof(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.INFO)) {
-            doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2, param3 }, t);
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void errorv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of WARN.
+     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param message the message
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void errorv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLog(Level.ERROR, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param params the parameters
      */
-    public void warn(Object message) {
-        doLog(Level.WARN, FQCN, message, null, null);
+    public void errorf(String format, Object... params) {
+        if (mayLog(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf(Level.ERROR, FQCN, format, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message and throwable with a level of WARN.
+     * Issue a formatted log message with a level of ERROR.
      *
-     * @param message the message
-     * @param t       the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the sole parameter
      */
-    public void warn(Object message, Throwable t) {
-        doLog(Level.WARN, FQCN, message, null, t);
+    public void errorf(String format, Object param1) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf1(Level.ERROR, FQCN, format, param1, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message and throwable with a level of WARN and a specific logger class name.
+     * Issue a formatted log message with a level of ERROR.
      *
-     * @param loggerFqcn the logger class name
-     * @param message    the message
-     * @param t          the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
      */
-    public void warn(String loggerFqcn, Object message, Throwable t) {
-        doLog(Level.WARN, loggerFqcn, message, null, t);
+    public void errorf(String format, Object param1, Object param2) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf2(Level.ERROR, FQCN, format, param1, param2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters with a level of WARN.
+     * Issue a formatted log message with a level of ERROR.
      *
-     * @param message the message
-     * @param params  the message parameters
-     * @deprecated To log a message with parameters, using {@link #warnv(String, Object...)} is recommended.
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
      */
-    @Deprecated
-    public void warn(Object message, Object[] params) {
-        doLog(Level.WARN, FQCN, message, params, null);
+    public void errorf(String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf3(Level.ERROR, FQCN, format, param1, param2, param3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters and a throwable with a level of WARN.
+     * Issue a formatted log message with a level of ERROR.
      *
-     * @param message the message
-     * @param params  the message parameters
-     * @param t       the throwable
-     * @deprecated To log a message with parameters, using {@link #warnv(Throwable, String, Object...)} is recommended.
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    @Deprecated
-    public void warn(Object message, Object[] params, Throwable t) {
-        doLog(Level.WARN, FQCN, message, params, t);
+    public void errorf(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void errorf(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of ERROR.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void errorf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters and a throwable with a level of WARN.
+     * Issue a formatted log message with a level of ERROR.
      *
-     * @param loggerFqcn the logger class name
-     * @param message    the message
-     * @param params     the message parameters
-     * @param t          the throwable
-     */
-    public void warn(String loggerFqcn, Object message, Object[] params, Throwable t) {
-        doLog(Level.WARN, loggerFqcn, message, params, t);
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void errorf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf(Level.ERROR, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of ERROR.
      *
-     * @param format the message format string
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param params the parameters
      */
-    public void warnv(String format, Object... params) {
-        doLog(Level.WARN, FQCN, format, params, null);
+    public void errorf(Throwable t, String format, Object... params) {
+        if (mayLog(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf(Level.ERROR, FQCN, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of ERROR.
      *
-     * @param format the message format string
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the sole parameter
      */
-    public void warnv(String format, Object param1) {
-        if (isEnabled(Level.WARN)) {
-            doLog(Level.WARN, FQCN, format, new Object[] { param1 }, null);
+    public void errorf(Throwable t, String format, Object param1) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf1(Level.ERROR, FQCN, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of ERROR.
      *
-     * @param format the message format string
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    public void warnv(String format, Object param1, Object param2) {
-        if (isEnabled(Level.WARN)) {
-            doLog(Level.WARN, FQCN, format, new Object[] { param1, param2 }, null);
+    public void errorf(Throwable t, String format, Object param1, Object param2) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf2(Level.ERROR, FQCN, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of ERROR.
      *
-     * @param format the message format string
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    public void warnv(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.WARN)) {
-            doLog(Level.WARN, FQCN, format, new Object[] { param1, param2, param3 }, null);
+    public void errorf(Throwable t, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf3(Level.ERROR, FQCN, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of ERROR.
      *
      * @param t      the throwable
-     * @param format the message format string
-     * @param params the parameters
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
      */
-    public void warnv(Throwable t, String format, Object... params) {
-        doLog(Level.WARN, FQCN, format, params, t);
+    public void errorf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of ERROR.
      *
      * @param t      the throwable
-     * @param format the message format string
-     * @param param1 the sole parameter
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    public void warnv(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.WARN)) {
-            doLog(Level.WARN, FQCN, format, new Object[] { param1 }, t);
+    public void errorf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of ERROR.
      *
      * @param t      the throwable
-     * @param format the message format string
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
-     */
-    public void warnv(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.WARN)) {
-            doLog(Level.WARN, FQCN, format, new Object[] { param1, param2 }, t);
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void errorf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of WARN using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of ERROR.
      *
      * @param t      the throwable
-     * @param format the message format string
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
-     */
-    public void warnv(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.WARN)) {
-            doLog(Level.WARN, FQCN, format, new Object[] { param1, param2, param3 }, t);
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void errorf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a formatted log message with a level of ERROR.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param params the parameters
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void errorf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf(Level.ERROR, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of ERROR. The supplier is only invoked if the level is enabled.
+     *
+     * @param message the supplier of the message
      */
-    public void warnf(String format, Object... params) {
-        doLogf(Level.WARN, FQCN, format, params, null);
+    public void errorLazy(Supplier<?> message) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object supplied = supplied(message);
+            final Object event = LogEvents.begin(this, Level.ERROR, supplied);
+            try {
+                doLog(Level.ERROR, FQCN, supplied, null, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a log message and throwable with a level of ERROR. The supplier is only invoked if the level is enabled.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param param1 the sole parameter
+     * @param message the supplier of the message
+     * @param t       the throwable
      */
-    public void warnf(String format, Object param1) {
-        if (isEnabled(Level.WARN)) {
-            doLogf(Level.WARN, FQCN, format, new Object[] { param1 }, null);
+    public void errorLazy(Supplier<?> message, Throwable t) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object supplied = supplied(message);
+            final Object event = LogEvents.begin(this, Level.ERROR, supplied);
+            try {
+                doLog(Level.ERROR, FQCN, supplied, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
      *
      * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param param1 the first parameter
-     * @param param2 the second parameter
+     * @param param1 the supplier of the first parameter
      */
-    public void warnf(String format, Object param1, Object param2) {
-        if (isEnabled(Level.WARN)) {
-            doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2 }, null);
+    public void errorfLazy(String format, Supplier<?> param1) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf1(Level.ERROR, FQCN, format, supplied(param1), null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
      *
      * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param param1 the first parameter
-     * @param param2 the second parameter
-     * @param param3 the third parameter
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
      */
-    public void warnf(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.WARN)) {
-            doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2, param3 }, null);
+    public void errorfLazy(String format, Supplier<?> param1, Supplier<?> param2) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf2(Level.ERROR, FQCN, format, supplied(param1), supplied(param2), null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
      *
-     * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param params the parameters
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
      */
-    public void warnf(Throwable t, String format, Object... params) {
-        doLogf(Level.WARN, FQCN, format, params, t);
+    public void errorfLazy(String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (checkEnabled(Level.ERROR)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf3(Level.ERROR, FQCN, format, supplied(param1), supplied(param2), supplied(param3), null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param param1 the sole parameter
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
      */
-    public void warnf(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.WARN)) {
-            doLogf(Level.WARN, FQCN, format, new Object[] { param1 }, t);
+    public void errorfLazy(Throwable t, String format, Supplier<?> param1) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf1(Level.ERROR, FQCN, format, supplied(param1), t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param param1 the first parameter
-     * @param param2 the second parameter
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
      */
-    public void warnf(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.WARN)) {
-            doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2 }, t);
+    public void errorfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf2(Level.ERROR, FQCN, format, supplied(param1), supplied(param2), t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of WARN.
+     * Issue a formatted log message with a level of ERROR. The suppliers are only invoked if the level is enabled.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param param1 the first parameter
-     * @param param2 the second parameter
-     * @param param3 the third parameter
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
      */
-    public void warnf(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.WARN)) {
-            doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2, param3 }, t);
+    public void errorfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (checkEnabled(Level.ERROR, t)) {
+            final Object event = LogEvents.begin(this, Level.ERROR, format);
+            try {
+                doLogf3(Level.ERROR, FQCN, format, supplied(param1), supplied(param2), supplied(param3), t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of ERROR.
+     * Issue a log message with a level of FATAL.
      *
      * @param message the message
      */
-    public void error(Object message) {
-        doLog(Level.ERROR, FQCN, message, null, null);
+    public void fatal(Object message) {
+        if (mayLog(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, message);
+            try {
+                doLog(Level.FATAL, FQCN, message, null, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message and throwable with a level of ERROR.
+     * Issue a log message and throwable with a level of FATAL.
      *
      * @param message the message
      * @param t       the throwable
      */
-    public void error(Object message, Throwable t) {
-        doLog(Level.ERROR, FQCN, message, null, t);
+    public void fatal(Object message, Throwable t) {
+        if (mayLog(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, message);
+            try {
+                doLog(Level.FATAL, FQCN, message, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message and throwable with a level of ERROR and a specific logger class name.
+     * Issue a log message and throwable with a level of FATAL and a specific logger class name.
      *
      * @param loggerFqcn the logger class name
      * @param message    the message
      * @param t          the throwable
      */
-    public void error(String loggerFqcn, Object message, Throwable t) {
-        doLog(Level.ERROR, loggerFqcn, message, null, t);
+    public void fatal(String loggerFqcn, Object message, Throwable t) {
+        if (mayLog(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, message);
+            try {
+                doLog(Level.FATAL, loggerFqcn, message, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters with a level of ERROR.
+     * Issue a log message with parameters with a level of FATAL.
      *
      * @param message the message
      * @param params  the message parameters
-     * @deprecated To log a message with parameters, using {@link #errorv(String, Object...)} is recommended.
+     * @deprecated To log a message with parameters, using {@link #fatalv(String, Object...)} is recommended.
      */
     @Deprecated
-    public void error(Object message, Object[] params) {
-        doLog(Level.ERROR, FQCN, message, params, null);
+    public void fatal(Object message, Object[] params) {
+        if (mayLog(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, message);
+            try {
+                doLog(Level.FATAL, FQCN, message, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters and a throwable with a level of ERROR.
+     * Issue a log message with parameters and a throwable with a level of FATAL.
      *
      * @param message the message
      * @param params  the message parameters
      * @param t       the throwable
-     * @deprecated To log a message with parameters, using {@link #errorv(Throwable, String, Object...)} is recommended.
+     * @deprecated To log a message with parameters, using {@link #fatalv(Throwable, String, Object...)} is recommended.
      */
     @Deprecated
-    public void error(Object message, Object[] params, Throwable t) {
-        doLog(Level.ERROR, FQCN, message, params, t);
+    public void fatal(Object message, Object[] params, Throwable t) {
+        if (mayLog(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, message);
+            try {
+                doLog(Level.FATAL, FQCN, message, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with parameters and a throwable with a level of FATAL.
+     *
+     * @param loggerFqcn the logger class name
+     * @param message    the message
+     * @param params     the message parameters
+     * @param t          the throwable
+     */
+    public void fatal(String loggerFqcn, Object message, Object[] params, Throwable t) {
+        if (mayLog(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, message);
+            try {
+                doLog(Level.FATAL, loggerFqcn, message, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param params the parameters
+     */
+    public void fatalv(String format, Object... params) {
+        if (mayLog(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog(Level.FATAL, FQCN, format, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the sole parameter
+     */
+    public void fatalv(String format, Object param1) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog1(Level.FATAL, FQCN, format, param1, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    public void fatalv(String format, Object param1, Object param2) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog2(Level.FATAL, FQCN, format, param1, param2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters and a throwable with a level of ERROR.
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param loggerFqcn the logger class name
-     * @param message    the message
-     * @param params     the message parameters
-     * @param t          the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
      */
-    public void error(String loggerFqcn, Object message, Object[] params, Throwable t) {
-        doLog(Level.ERROR, loggerFqcn, message, params, t);
+    public void fatalv(String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog3(Level.FATAL, FQCN, format, param1, param2, param3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
      *
      * @param format the message format string
-     * @param params the parameters
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    public void errorv(String format, Object... params) {
-        doLog(Level.ERROR, FQCN, format, params, null);
+    public void fatalv(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
      *
      * @param format the message format string
-     * @param param1 the sole parameter
-     */
-    public void errorv(String format, Object param1) {
-        if (isEnabled(Level.ERROR)) {
-            doLog(Level.ERROR, FQCN, format, new Object[] { param1 }, null);
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void fatalv(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
      *
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
-     */
-    public void errorv(String format, Object param1, Object param2) {
-        if (isEnabled(Level.ERROR)) {
-            doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2 }, null);
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void fatalv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
      *
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
-     */
-    public void errorv(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.ERROR)) {
-            doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3 }, null);
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void fatalv(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog(Level.FATAL, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
      * @param format the message format string
      * @param params the parameters
      */
-    public void errorv(Throwable t, String format, Object... params) {
-        doLog(Level.ERROR, FQCN, format, params, t);
+    public void fatalv(Throwable t, String format, Object... params) {
+        if (mayLog(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog(Level.FATAL, FQCN, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
      * @param format the message format string
      * @param param1 the sole parameter
      */
-    public void errorv(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.ERROR)) {
-            doLog(Level.ERROR, FQCN, format, new Object[] { param1 }, t);
+    public void fatalv(Throwable t, String format, Object param1) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog1(Level.FATAL, FQCN, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    public void errorv(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.ERROR)) {
-            doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2 }, t);
+    public void fatalv(Throwable t, String format, Object param1, Object param2) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog2(Level.FATAL, FQCN, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of ERROR using {@link java.text.MessageFormat}-style formatting.
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
      * @param format the message format string
@@ -1653,382 +6188,642 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    public void errorv(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.ERROR)) {
-            doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3 }, t);
+    public void fatalv(Throwable t, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog3(Level.FATAL, FQCN, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param params the parameters
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
      */
-    public void errorf(String format, Object... params) {
-        doLogf(Level.ERROR, FQCN, format, params, null);
+    public void fatalv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param param1 the sole parameter
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    public void errorf(String format, Object param1) {
-        if (isEnabled(Level.ERROR)) {
-            doLogf(Level.ERROR, FQCN, format, new Object[] { param1 }, null);
+    public void fatalv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
-     */
-    public void errorf(String format, Object param1, Object param2) {
-        if (isEnabled(Level.ERROR)) {
-            doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2 }, null);
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void fatalv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
-     */
-    public void errorf(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.ERROR)) {
-            doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3 }, null);
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void fatalv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void fatalv(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLog(Level.FATAL, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with a level of FATAL.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param params the parameters
      */
-    public void errorf(Throwable t, String format, Object... params) {
-        doLogf(Level.ERROR, FQCN, format, params, t);
+    public void fatalf(String format, Object... params) {
+        if (mayLog(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf(Level.FATAL, FQCN, format, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a formatted log message with a level of FATAL.
      *
-     * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the sole parameter
      */
-    public void errorf(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.ERROR)) {
-            doLogf(Level.ERROR, FQCN, format, new Object[] { param1 }, t);
+    public void fatalf(String format, Object param1) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf1(Level.FATAL, FQCN, format, param1, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a formatted log message with a level of FATAL.
      *
-     * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    public void errorf(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.ERROR)) {
-            doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2 }, t);
+    public void fatalf(String format, Object param1, Object param2) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf2(Level.FATAL, FQCN, format, param1, param2, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of ERROR.
+     * Issue a formatted log message with a level of FATAL.
      *
-     * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    public void errorf(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.ERROR)) {
-            doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3 }, t);
+    public void fatalf(String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf3(Level.FATAL, FQCN, format, param1, param2, param3, null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of FATAL.
-     *
-     * @param message the message
-     */
-    public void fatal(Object message) {
-        doLog(Level.FATAL, FQCN, message, null, null);
-    }
-
-    /**
-     * Issue a log message and throwable with a level of FATAL.
+     * Issue a formatted log message with a level of FATAL.
      *
-     * @param message the message
-     * @param t       the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    public void fatal(Object message, Throwable t) {
-        doLog(Level.FATAL, FQCN, message, null, t);
+    public void fatalf(String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message and throwable with a level of FATAL and a specific logger class name.
+     * Issue a formatted log message with a level of FATAL.
      *
-     * @param loggerFqcn the logger class name
-     * @param message    the message
-     * @param t          the throwable
-     */
-    public void fatal(String loggerFqcn, Object message, Throwable t) {
-        doLog(Level.FATAL, loggerFqcn, message, null, t);
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void fatalf(String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters with a level of FATAL.
+     * Issue a formatted log message with a level of FATAL.
      *
-     * @param message the message
-     * @param params  the message parameters
-     * @deprecated To log a message with parameters, using {@link #fatalv(String, Object...)} is recommended.
-     */
-    @Deprecated
-    public void fatal(Object message, Object[] params) {
-        doLog(Level.FATAL, FQCN, message, params, null);
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void fatalf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters and a throwable with a level of FATAL.
+     * Issue a formatted log message with a level of FATAL.
      *
-     * @param message the message
-     * @param params  the message parameters
-     * @param t       the throwable
-     * @deprecated To log a message with parameters, using {@link #fatalv(Throwable, String, Object...)} is recommended.
-     */
-    @Deprecated
-    public void fatal(Object message, Object[] params, Throwable t) {
-        doLog(Level.FATAL, FQCN, message, params, t);
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void fatalf(String format, Object param1, Object param2, Object param3, Object param4, Object param5, Object param6,
+            Object param7, Object param8) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf(Level.FATAL, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with parameters and a throwable with a level of FATAL.
+     * Issue a formatted log message with a level of FATAL.
      *
-     * @param loggerFqcn the logger class name
-     * @param message    the message
-     * @param params     the message parameters
-     * @param t          the throwable
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param params the parameters
      */
-    public void fatal(String loggerFqcn, Object message, Object[] params, Throwable t) {
-        doLog(Level.FATAL, loggerFqcn, message, params, t);
+    public void fatalf(Throwable t, String format, Object... params) {
+        if (mayLog(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf(Level.FATAL, FQCN, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of FATAL.
      *
-     * @param format the message format string
-     * @param params the parameters
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the sole parameter
      */
-    public void fatalv(String format, Object... params) {
-        doLog(Level.FATAL, FQCN, format, params, null);
+    public void fatalf(Throwable t, String format, Object param1) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf1(Level.FATAL, FQCN, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of FATAL.
      *
-     * @param format the message format string
-     * @param param1 the sole parameter
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
      */
-    public void fatalv(String format, Object param1) {
-        if (isEnabled(Level.FATAL)) {
-            doLog(Level.FATAL, FQCN, format, new Object[] { param1 }, null);
+    public void fatalf(Throwable t, String format, Object param1, Object param2) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf2(Level.FATAL, FQCN, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of FATAL.
      *
-     * @param format the message format string
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
+     * @param param3 the third parameter
      */
-    public void fatalv(String format, Object param1, Object param2) {
-        if (isEnabled(Level.FATAL)) {
-            doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2 }, null);
+    public void fatalf(Throwable t, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf3(Level.FATAL, FQCN, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of FATAL.
      *
-     * @param format the message format string
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
+     * @param param4 the fourth parameter
      */
-    public void fatalv(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.FATAL)) {
-            doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3 }, null);
+    public void fatalf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of FATAL.
      *
      * @param t      the throwable
-     * @param format the message format string
-     * @param params the parameters
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    public void fatalv(Throwable t, String format, Object... params) {
-        doLog(Level.FATAL, FQCN, format, params, t);
+    public void fatalf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of FATAL.
      *
      * @param t      the throwable
-     * @param format the message format string
-     * @param param1 the sole parameter
-     */
-    public void fatalv(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.FATAL)) {
-            doLog(Level.FATAL, FQCN, format, new Object[] { param1 }, t);
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void fatalf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of FATAL.
      *
      * @param t      the throwable
-     * @param format the message format string
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
-     */
-    public void fatalv(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.FATAL)) {
-            doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2 }, t);
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void fatalf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a log message with a level of FATAL using {@link java.text.MessageFormat}-style formatting.
+     * Issue a formatted log message with a level of FATAL.
      *
      * @param t      the throwable
-     * @param format the message format string
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
-     */
-    public void fatalv(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.FATAL)) {
-            doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3 }, t);
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void fatalf(Throwable t, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf(Level.FATAL, FQCN, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a log message with a level of FATAL. The supplier is only invoked if the level is enabled.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param params the parameters
+     * @param message the supplier of the message
      */
-    public void fatalf(String format, Object... params) {
-        doLogf(Level.FATAL, FQCN, format, params, null);
+    public void fatalLazy(Supplier<?> message) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object supplied = supplied(message);
+            final Object event = LogEvents.begin(this, Level.FATAL, supplied);
+            try {
+                doLog(Level.FATAL, FQCN, supplied, null, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a log message and throwable with a level of FATAL. The supplier is only invoked if the level is enabled.
      *
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param param1 the sole parameter
+     * @param message the supplier of the message
+     * @param t       the throwable
      */
-    public void fatalf(String format, Object param1) {
-        if (isEnabled(Level.FATAL)) {
-            doLogf(Level.FATAL, FQCN, format, new Object[] { param1 }, null);
+    public void fatalLazy(Supplier<?> message, Throwable t) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object supplied = supplied(message);
+            final Object event = LogEvents.begin(this, Level.FATAL, supplied);
+            try {
+                doLog(Level.FATAL, FQCN, supplied, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
      *
      * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param param1 the first parameter
-     * @param param2 the second parameter
+     * @param param1 the supplier of the first parameter
      */
-    public void fatalf(String format, Object param1, Object param2) {
-        if (isEnabled(Level.FATAL)) {
-            doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2 }, null);
+    public void fatalfLazy(String format, Supplier<?> param1) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf1(Level.FATAL, FQCN, format, supplied(param1), null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
      *
      * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
-     * @param param1 the first parameter
-     * @param param2 the second parameter
-     * @param param3 the third parameter
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
      */
-    public void fatalf(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.FATAL)) {
-            doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3 }, null);
+    public void fatalfLazy(String format, Supplier<?> param1, Supplier<?> param2) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf2(Level.FATAL, FQCN, format, supplied(param1), supplied(param2), null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
      *
-     * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param params the parameters
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
      */
-    public void fatalf(Throwable t, String format, Object... params) {
-        doLogf(Level.FATAL, FQCN, format, params, t);
+    public void fatalfLazy(String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (checkEnabled(Level.FATAL)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf3(Level.FATAL, FQCN, format, supplied(param1), supplied(param2), supplied(param3), null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param param1 the sole parameter
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
      */
-    public void fatalf(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.FATAL)) {
-            doLogf(Level.FATAL, FQCN, format, new Object[] { param1 }, t);
+    public void fatalfLazy(Throwable t, String format, Supplier<?> param1) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf1(Level.FATAL, FQCN, format, supplied(param1), t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param param1 the first parameter
-     * @param param2 the second parameter
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
      */
-    public void fatalf(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.FATAL)) {
-            doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2 }, t);
+    public void fatalfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf2(Level.FATAL, FQCN, format, supplied(param1), supplied(param2), t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
     /**
-     * Issue a formatted log message with a level of FATAL.
+     * Issue a formatted log message with a level of FATAL. The suppliers are only invoked if the level is enabled.
      *
      * @param t      the throwable
-     * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param param1 the first parameter
-     * @param param2 the second parameter
-     * @param param3 the third parameter
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
      */
-    public void fatalf(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.FATAL)) {
-            doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3 }, t);
+    public void fatalfLazy(Throwable t, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (checkEnabled(Level.FATAL, t)) {
+            final Object event = LogEvents.begin(this, Level.FATAL, format);
+            try {
+                doLogf3(Level.FATAL, FQCN, format, supplied(param1), supplied(param2), supplied(param3), t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2039,7 +6834,14 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param message the message
      */
     public void log(Level level, Object message) {
-        doLog(level, FQCN, message, null, null);
+        if (mayLog(level)) {
+            final Object event = LogEvents.begin(this, level, message);
+            try {
+                doLog(level, FQCN, message, null, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -2050,7 +6852,14 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t       the throwable
      */
     public void log(Level level, Object message, Throwable t) {
-        doLog(level, FQCN, message, null, t);
+        if (mayLog(level, t)) {
+            final Object event = LogEvents.begin(this, level, message);
+            try {
+                doLog(level, FQCN, message, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -2062,7 +6871,14 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void log(Level level, String loggerFqcn, Object message, Throwable t) {
-        doLog(level, loggerFqcn, message, null, t);
+        if (mayLog(level, t)) {
+            final Object event = LogEvents.begin(this, level, message);
+            try {
+                doLog(level, loggerFqcn, message, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -2075,7 +6891,14 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void log(Level level, Object message, Object[] params) {
-        doLog(level, FQCN, message, params, null);
+        if (mayLog(level)) {
+            final Object event = LogEvents.begin(this, level, message);
+            try {
+                doLog(level, FQCN, message, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -2089,7 +6912,14 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void log(Level level, Object message, Object[] params, Throwable t) {
-        doLog(level, FQCN, message, params, t);
+        if (mayLog(level, t)) {
+            final Object event = LogEvents.begin(this, level, message);
+            try {
+                doLog(level, FQCN, message, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -2102,30 +6932,224 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void log(String loggerFqcn, Level level, Object message, Object[] params, Throwable t) {
-        doLog(level, loggerFqcn, message, params, t);
+        if (mayLog(level, t)) {
+            final Object event = LogEvents.begin(this, level, message);
+            try {
+                doLog(level, loggerFqcn, message, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param format the message format string
+     * @param params the parameters
+     */
+    public void logv(Level level, String format, Object... params) {
+        if (mayLog(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, FQCN, format, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param format the message format string
+     * @param param1 the sole parameter
+     */
+    public void logv(Level level, String format, Object param1) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog1(level, FQCN, format, param1, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    public void logv(Level level, String format, Object param1, Object param2) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog2(level, FQCN, format, param1, param2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    public void logv(Level level, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog3(level, FQCN, format, param1, param2, param3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void logv(Level level, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void logv(Level level, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void logv(Level level, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void logv(Level level, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
      * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
      *
      * @param level  the level
+     * @param t      the throwable
      * @param format the message format string
      * @param params the parameters
      */
-    public void logv(Level level, String format, Object... params) {
-        doLog(level, FQCN, format, params, null);
+    public void logv(Level level, Throwable t, String format, Object... params) {
+        if (mayLog(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, FQCN, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
      * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
      *
      * @param level  the level
+     * @param t      the throwable
      * @param format the message format string
      * @param param1 the sole parameter
      */
-    public void logv(Level level, String format, Object param1) {
-        if (isEnabled(level)) {
-            doLog(level, FQCN, format, new Object[] { param1 }, null);
+    public void logv(Level level, Throwable t, String format, Object param1) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog1(level, FQCN, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2133,13 +7157,19 @@ public abstract class Logger implements Serializable, BasicLogger {
      * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
      *
      * @param level  the level
+     * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    public void logv(Level level, String format, Object param1, Object param2) {
-        if (isEnabled(level)) {
-            doLog(level, FQCN, format, new Object[] { param1, param2 }, null);
+    public void logv(Level level, Throwable t, String format, Object param1, Object param2) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog2(level, FQCN, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2147,14 +7177,20 @@ public abstract class Logger implements Serializable, BasicLogger {
      * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
      *
      * @param level  the level
+     * @param t      the throwable
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    public void logv(Level level, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(level)) {
-            doLog(level, FQCN, format, new Object[] { param1, param2, param3 }, null);
+    public void logv(Level level, Throwable t, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog3(level, FQCN, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2164,10 +7200,20 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param level  the level
      * @param t      the throwable
      * @param format the message format string
-     * @param params the parameters
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
      */
-    public void logv(Level level, Throwable t, String format, Object... params) {
-        doLog(level, FQCN, format, params, t);
+    public void logv(Level level, Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, FQCN, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -2176,11 +7222,21 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param level  the level
      * @param t      the throwable
      * @param format the message format string
-     * @param param1 the sole parameter
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    public void logv(Level level, Throwable t, String format, Object param1) {
-        if (isEnabled(level)) {
-            doLog(level, FQCN, format, new Object[] { param1 }, t);
+    public void logv(Level level, Throwable t, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2192,10 +7248,20 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param format the message format string
      * @param param1 the first parameter
      * @param param2 the second parameter
-     */
-    public void logv(Level level, Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(level)) {
-            doLog(level, FQCN, format, new Object[] { param1, param2 }, t);
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void logv(Level level, Throwable t, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5, Object param6) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2208,10 +7274,47 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
-     */
-    public void logv(Level level, Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(level)) {
-            doLog(level, FQCN, format, new Object[] { param1, param2, param3 }, t);
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void logv(Level level, Throwable t, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5, Object param6, Object param7) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the message format string
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void logv(Level level, Throwable t, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5, Object param6, Object param7, Object param8) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2225,7 +7328,14 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params     the parameters
      */
     public void logv(String loggerFqcn, Level level, Throwable t, String format, Object... params) {
-        doLog(level, loggerFqcn, format, params, t);
+        if (mayLog(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, loggerFqcn, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -2238,8 +7348,13 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1     the sole parameter
      */
     public void logv(String loggerFqcn, Level level, Throwable t, String format, Object param1) {
-        if (isEnabled(level)) {
-            doLog(level, loggerFqcn, format, new Object[] { param1 }, t);
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog1(level, loggerFqcn, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2254,8 +7369,13 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2     the second parameter
      */
     public void logv(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(level)) {
-            doLog(level, loggerFqcn, format, new Object[] { param1, param2 }, t);
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog2(level, loggerFqcn, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2271,8 +7391,318 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3     the third parameter
      */
     public void logv(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(level)) {
-            doLog(level, loggerFqcn, format, new Object[] { param1, param2, param3 }, t);
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog3(level, loggerFqcn, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable
+     * @param format     the message format string
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     */
+    public void logv(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, loggerFqcn, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable
+     * @param format     the message format string
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     */
+    public void logv(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, loggerFqcn, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable
+     * @param format     the message format string
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     * @param param6     the sixth parameter
+     */
+    public void logv(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5, Object param6) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, loggerFqcn, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable
+     * @param format     the message format string
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     * @param param6     the sixth parameter
+     * @param param7     the seventh parameter
+     */
+    public void logv(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5, Object param6, Object param7) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, loggerFqcn, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message at the given log level using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable
+     * @param format     the message format string
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     * @param param6     the sixth parameter
+     * @param param7     the seventh parameter
+     * @param param8     the eighth parameter
+     */
+    public void logv(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5, Object param6, Object param7, Object param8) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLog(level, loggerFqcn, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param params the parameters
+     */
+    public void logf(Level level, String format, Object... params) {
+        if (mayLog(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, FQCN, format, params, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the sole parameter
+     */
+    public void logf(Level level, String format, Object param1) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf1(level, FQCN, format, param1, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     */
+    public void logf(Level level, String format, Object param1, Object param2) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf2(level, FQCN, format, param1, param2, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     */
+    public void logf(Level level, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf3(level, FQCN, format, param1, param2, param3, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     */
+    public void logf(Level level, String format, Object param1, Object param2, Object param3, Object param4, Object param5) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void logf(Level level, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void logf(Level level, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void logf(Level level, String format, Object param1, Object param2, Object param3, Object param4, Object param5,
+            Object param6, Object param7, Object param8) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        null);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2280,23 +7710,37 @@ public abstract class Logger implements Serializable, BasicLogger {
      * Issue a formatted log message at the given log level.
      *
      * @param level  the level
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param params the parameters
      */
-    public void logf(Level level, String format, Object... params) {
-        doLogf(level, FQCN, format, params, null);
+    public void logf(Level level, Throwable t, String format, Object... params) {
+        if (mayLog(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, FQCN, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
      * Issue a formatted log message at the given log level.
      *
      * @param level  the level
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the sole parameter
      */
-    public void logf(Level level, String format, Object param1) {
-        if (isEnabled(level)) {
-            doLogf(level, FQCN, format, new Object[] { param1 }, null);
+    public void logf(Level level, Throwable t, String format, Object param1) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf1(level, FQCN, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2304,13 +7748,19 @@ public abstract class Logger implements Serializable, BasicLogger {
      * Issue a formatted log message at the given log level.
      *
      * @param level  the level
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      */
-    public void logf(Level level, String format, Object param1, Object param2) {
-        if (isEnabled(level)) {
-            doLogf(level, FQCN, format, new Object[] { param1, param2 }, null);
+    public void logf(Level level, Throwable t, String format, Object param1, Object param2) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf2(level, FQCN, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2318,14 +7768,20 @@ public abstract class Logger implements Serializable, BasicLogger {
      * Issue a formatted log message at the given log level.
      *
      * @param level  the level
-     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
      */
-    public void logf(Level level, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(level)) {
-            doLogf(level, FQCN, format, new Object[] { param1, param2, param3 }, null);
+    public void logf(Level level, Throwable t, String format, Object param1, Object param2, Object param3) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf3(level, FQCN, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2335,10 +7791,20 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param level  the level
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param params the parameters
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
      */
-    public void logf(Level level, Throwable t, String format, Object... params) {
-        doLogf(level, FQCN, format, params, t);
+    public void logf(Level level, Throwable t, String format, Object param1, Object param2, Object param3, Object param4) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, FQCN, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -2347,11 +7813,21 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param level  the level
      * @param t      the throwable
      * @param format the format string, as per {@link String#format(String, Object...)}
-     * @param param1 the sole parameter
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
      */
-    public void logf(Level level, Throwable t, String format, Object param1) {
-        if (isEnabled(level)) {
-            doLogf(level, FQCN, format, new Object[] { param1 }, t);
+    public void logf(Level level, Throwable t, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2363,10 +7839,20 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param format the format string, as per {@link String#format(String, Object...)}
      * @param param1 the first parameter
      * @param param2 the second parameter
-     */
-    public void logf(Level level, Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(level)) {
-            doLogf(level, FQCN, format, new Object[] { param1, param2 }, t);
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     */
+    public void logf(Level level, Throwable t, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5, Object param6) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2379,10 +7865,47 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the first parameter
      * @param param2 the second parameter
      * @param param3 the third parameter
-     */
-    public void logf(Level level, Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(level)) {
-            doLogf(level, FQCN, format, new Object[] { param1, param2, param3 }, t);
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     */
+    public void logf(Level level, Throwable t, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5, Object param6, Object param7) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message at the given log level.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string, as per {@link String#format(String, Object...)}
+     * @param param1 the first parameter
+     * @param param2 the second parameter
+     * @param param3 the third parameter
+     * @param param4 the fourth parameter
+     * @param param5 the fifth parameter
+     * @param param6 the sixth parameter
+     * @param param7 the seventh parameter
+     * @param param8 the eighth parameter
+     */
+    public void logf(Level level, Throwable t, String format, Object param1, Object param2, Object param3, Object param4,
+            Object param5, Object param6, Object param7, Object param8) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, FQCN, format, new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2396,8 +7919,13 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1     the sole parameter
      */
     public void logf(String loggerFqcn, Level level, Throwable t, String format, Object param1) {
-        if (isEnabled(level)) {
-            doLogf(level, loggerFqcn, format, new Object[] { param1 }, t);
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf1(level, loggerFqcn, format, param1, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2412,8 +7940,13 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2     the second parameter
      */
     public void logf(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(level)) {
-            doLogf(level, loggerFqcn, format, new Object[] { param1, param2 }, t);
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf2(level, loggerFqcn, format, param1, param2, t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2429,8 +7962,145 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3     the third parameter
      */
     public void logf(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(level)) {
-            doLogf(level, loggerFqcn, format, new Object[] { param1, param2, param3 }, t);
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf3(level, loggerFqcn, format, param1, param2, param3, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Log a message at the given level.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable cause
+     * @param format     the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     */
+    public void logf(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, loggerFqcn, format, new Object[] { param1, param2, param3, param4 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Log a message at the given level.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable cause
+     * @param format     the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     */
+    public void logf(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, loggerFqcn, format, new Object[] { param1, param2, param3, param4, param5 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Log a message at the given level.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable cause
+     * @param format     the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     * @param param6     the sixth parameter
+     */
+    public void logf(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5, Object param6) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, loggerFqcn, format, new Object[] { param1, param2, param3, param4, param5, param6 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Log a message at the given level.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable cause
+     * @param format     the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     * @param param6     the sixth parameter
+     * @param param7     the seventh parameter
+     */
+    public void logf(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5, Object param6, Object param7) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, loggerFqcn, format, new Object[] { param1, param2, param3, param4, param5, param6, param7 }, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Log a message at the given level.
+     *
+     * @param loggerFqcn the logger class name
+     * @param level      the level
+     * @param t          the throwable cause
+     * @param format     the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1     the first parameter
+     * @param param2     the second parameter
+     * @param param3     the third parameter
+     * @param param4     the fourth parameter
+     * @param param5     the fifth parameter
+     * @param param6     the sixth parameter
+     * @param param7     the seventh parameter
+     * @param param8     the eighth parameter
+     */
+    public void logf(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2, Object param3,
+            Object param4, Object param5, Object param6, Object param7, Object param8) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, loggerFqcn, format,
+                        new Object[] { param1, param2, param3, param4, param5, param6, param7, param8 },
+                        t);
+            } finally {
+                LogEvents.end(event);
+            }
         }
     }
 
@@ -2444,7 +8114,168 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params     the message parameters
      */
     public void logf(String loggerFqcn, Level level, Throwable t, String format, Object... params) {
-        doLogf(level, loggerFqcn, format, params, t);
+        if (mayLog(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf(level, loggerFqcn, format, params, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message with the given level. The supplier is only invoked if the level is enabled.
+     *
+     * @param level   the level
+     * @param message the supplier of the message
+     */
+    public void logLazy(Level level, Supplier<?> message) {
+        if (checkEnabled(level)) {
+            final Object supplied = supplied(message);
+            final Object event = LogEvents.begin(this, level, supplied);
+            try {
+                doLog(level, FQCN, supplied, null, null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a log message and throwable with the given level. The supplier is only invoked if the level is enabled.
+     *
+     * @param level   the level
+     * @param message the supplier of the message
+     * @param t       the throwable
+     */
+    public void logLazy(Level level, Supplier<?> message, Throwable t) {
+        if (checkEnabled(level, t)) {
+            final Object supplied = supplied(message);
+            final Object event = LogEvents.begin(this, level, supplied);
+            try {
+                doLog(level, FQCN, supplied, null, t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    public void logfLazy(Level level, String format, Supplier<?> param1) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf1(level, FQCN, format, supplied(param1), null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    public void logfLazy(Level level, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf2(level, FQCN, format, supplied(param1), supplied(param2), null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    public void logfLazy(Level level, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (checkEnabled(level)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf3(level, FQCN, format, supplied(param1), supplied(param2), supplied(param3), null);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     */
+    public void logfLazy(Level level, Throwable t, String format, Supplier<?> param1) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf1(level, FQCN, format, supplied(param1), t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     */
+    public void logfLazy(Level level, Throwable t, String format, Supplier<?> param1, Supplier<?> param2) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf2(level, FQCN, format, supplied(param1), supplied(param2), t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
+    }
+
+    /**
+     * Issue a formatted log message with the given level. The suppliers are only invoked if the level is enabled.
+     *
+     * @param level  the level
+     * @param t      the throwable
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param param1 the supplier of the first parameter
+     * @param param2 the supplier of the second parameter
+     * @param param3 the supplier of the third parameter
+     */
+    public void logfLazy(Level level, Throwable t, String format, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (checkEnabled(level, t)) {
+            final Object event = LogEvents.begin(this, level, format);
+            try {
+                doLogf3(level, FQCN, format, supplied(param1), supplied(param2), supplied(param3), t);
+            } finally {
+                LogEvents.end(event);
+            }
+        }
     }
 
     /**
@@ -2456,6 +8287,20 @@ public abstract class Logger implements Serializable, BasicLogger {
         return new SerializedLogger(name);
     }
 
+    /**
+     * Discards the cached level checks of all loggers. The level checks are only cached when the
+     * {@code org.jboss.logging.cache.levels} system property is set to {@code true}.
+     * <p>
+     * The Log4j 2 provider with log4j-core and the SLF4J provider with Logback invalidate the cache when a level
+     * changes. The JDK provider only does when the configuration is re-read and the log4j provider when appenders
+     * change. The JBoss Log Manager and other SLF4J bindings report no changes. With those this must be invoked after
+     * the levels of the log manager have been changed.
+     * </p>
+     */
+    public static void invalidateLevelCache() {
+        LevelSwitch.invalidate();
+    }
+
     /**
      * Get a Logger instance given the logger name.
      *
@@ -2490,7 +8335,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @return the logger
      */
     public static Logger getLogger(Class<?> clazz) {
-        return getLogger(clazz.getName());
+        return ClassLoggers.getLogger(clazz);
     }
 
     /**
@@ -2505,7 +8350,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @return the logger
      */
     public static Logger getLogger(Class<?> clazz, String suffix) {
-        return getLogger(clazz.getName(), suffix);
+        return ClassLoggers.getLogger(clazz, suffix);
     }
 
     /**
@@ -2587,11 +8432,24 @@ public abstract class Logger implements Serializable, BasicLogger {
         if (!type.isInterface()) {
             throw new IllegalArgumentException("Given type " + type + " is not an interface");
         }
+        final MethodHandle ctorHandle = MESSAGE_LOGGERS.get(lookup, type, locale);
+        if (ctorHandle == null) {
+            throw new IllegalArgumentException("Invalid logger " + type + " (implementation not found)");
+        }
+        try {
+            return type.cast(ctorHandle.invoke(Logger.getLogger(category)));
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(
+                    "Logger implementation " + ctorHandle.type().returnType() + " could not be instantiated", e);
+        }
+    }
+
+    private static MethodHandle findMessageLoggerConstructor(final Lookup lookup, final Class<?> type, final Locale locale) {
         String language = locale.getLanguage();
         String country = locale.getCountry();
         String variant = locale.getVariant();
 
-        Class<? extends T> loggerClass = null;
+        Class<?> loggerClass = null;
         final String typeName = type.getName();
         if (variant != null && !variant.isEmpty()) {
             try {
@@ -2624,24 +8482,18 @@ public abstract class Logger implements Serializable, BasicLogger {
             try {
                 loggerClass = lookup.findClass(join(typeName, "$logger", null, null, null)).asSubclass(type);
             } catch (ClassNotFoundException e) {
-                throw new IllegalArgumentException("Invalid logger " + type + " (implementation not found)");
+                return null;
             } catch (IllegalAccessException e) {
                 throw new IllegalArgumentException("The given lookup does not have access to the implementation class");
             }
         }
-        MethodHandle ctorHandle;
         try {
-            ctorHandle = lookup.findConstructor(loggerClass, MethodType.methodType(void.class, Logger.class));
+            return lookup.findConstructor(loggerClass, MethodType.methodType(void.class, Logger.class));
         } catch (NoSuchMethodException e) {
             throw new IllegalArgumentException("Logger implementation " + loggerClass + " has no matching constructor");
         } catch (IllegalAccessException e) {
             throw new IllegalArgumentException("The given lookup does not have access to the implementation class constructor");
         }
-        try {
-            return type.cast(ctorHandle.invoke(Logger.getLogger(category)));
-        } catch (Throwable e) {
-            throw new IllegalArgumentException("Logger implementation " + loggerClass + " could not be instantiated", e);
-        }
     }
 
     private static String join(String interfaceName, String a, String b, String c, String d) {
@@ -2661,4 +8513,8 @@ public abstract class Logger implements Serializable, BasicLogger {
         }
         return build.toString();
     }
+
+    private static Object supplied(final Supplier<?> supplier) {
+        return supplier == null ? null : supplier.get();
+    }
 }
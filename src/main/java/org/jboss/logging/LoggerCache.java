@@ -0,0 +1,126 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A cache of facade loggers keyed by name.
+ * <p>
+ * By default loggers are held strongly, which mirrors the log managers themselves. If the
+ * {@code org.jboss.logging.cache.weak} system property is set to {@code true} loggers are held weakly and are
+ * released once no longer referenced.
+ * </p>
+ */
+final class LoggerCache<T extends Logger> {
+
+    static final String WEAK_CACHE_KEY = "org.jboss.logging.cache.weak";
+
+    static final boolean WEAK = Boolean.parseBoolean(SecurityActions.getSystemProperty(WEAK_CACHE_KEY, "false"));
+
+    private final Function<String, T> factory;
+    private final ConcurrentMap<String, T> loggers;
+    private final ConcurrentMap<String, Ref<T>> refs;
+    private final ReferenceQueue<T> queue;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param factory the function used to create a logger which is not yet cached
+     */
+    LoggerCache(final Function<String, T> factory) {
+        this.factory = factory;
+        if (WEAK) {
+            loggers = null;
+            refs = new ConcurrentHashMap<>();
+            queue = new ReferenceQueue<>();
+        } else {
+            loggers = new ConcurrentHashMap<>();
+            refs = null;
+            queue = null;
+        }
+    }
+
+    /**
+     * Returns the logger for the name, creating it if required.
+     *
+     * @param name the logger name
+     *
+     * @return the logger
+     */
+    T get(final String name) {
+        if (loggers != null) {
+            T logger = loggers.get(name);
+            if (logger == null) {
+                logger = factory.apply(name);
+                final T appearing = loggers.putIfAbsent(name, logger);
+                if (appearing != null) {
+                    return appearing;
+                }
+            }
+            return logger;
+        }
+        return getWeak(name);
+    }
+
+    private T getWeak(final String name) {
+        expunge();
+        final Ref<T> ref = refs.get(name);
+        T logger = ref == null ? null : ref.get();
+        if (logger != null) {
+            return logger;
+        }
+        logger = factory.apply(name);
+        final Ref<T> newRef = new Ref<>(name, logger, queue);
+        for (;;) {
+            final Ref<T> current = refs.putIfAbsent(name, newRef);
+            if (current == null) {
+                return logger;
+            }
+            final T appearing = current.get();
+            if (appearing != null) {
+                return appearing;
+            }
+            if (refs.replace(name, current, newRef)) {
+                return logger;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expunge() {
+        Ref<T> ref;
+        while ((ref = (Ref<T>) queue.poll()) != null) {
+            refs.remove(ref.name, ref);
+        }
+    }
+
+    private static final class Ref<T> extends WeakReference<T> {
+        private final String name;
+
+        private Ref(final String name, final T referent, final ReferenceQueue<T> queue) {
+            super(referent, queue);
+            this.name = name;
+        }
+    }
+}
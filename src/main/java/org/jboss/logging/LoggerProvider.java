@@ -19,6 +19,7 @@
 package org.jboss.logging;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -53,6 +54,50 @@ public interface LoggerProvider {
      */
     Object putMdc(String key, Object value);
 
+    /**
+     * Puts the value onto the message diagnostics context without returning the previous value, which spares looking
+     * it up.
+     *
+     * @param key   the key for the value
+     * @param value the value
+     */
+    default void putMdcQuiet(String key, Object value) {
+        putMdc(key, value);
+    }
+
+    /**
+     * Puts the value onto the message diagnostics context. Providers whose log manager stores typed values store it
+     * without converting it to a string.
+     *
+     * @param key   the key for the value
+     * @param value the value
+     */
+    default void putMdcInt(String key, int value) {
+        putMdcQuiet(key, value);
+    }
+
+    /**
+     * Puts the value onto the message diagnostics context. Providers whose log manager stores typed values store it
+     * without converting it to a string.
+     *
+     * @param key   the key for the value
+     * @param value the value
+     */
+    default void putMdcLong(String key, long value) {
+        putMdcQuiet(key, value);
+    }
+
+    /**
+     * Puts the value onto the message diagnostics context. Providers whose log manager stores typed values store it
+     * without converting it to a string.
+     *
+     * @param key   the key for the value
+     * @param value the value
+     */
+    default void putMdcBoolean(String key, boolean value) {
+        putMdcQuiet(key, value);
+    }
+
     /**
      * Returns the value for the key on the message diagnostics context or {@code null} if no value was found.
      *
@@ -127,4 +172,46 @@ public interface LoggerProvider {
      * @param maxDepth the maximum depth to set
      */
     void setNdcMaxDepth(int maxDepth);
+
+    /**
+     * Captures the message and nested diagnostics contexts of the current thread, to be
+     * {@linkplain #restoreContext(Object) restored} later, possibly on another thread.
+     * <p>
+     * The returned object is opaque and only passed back to {@link #restoreContext(Object)} of this provider. It must
+     * not change when the contexts of the thread change afterwards. Implementations should use the cheapest mechanism
+     * of the log manager, the default implementation copies the {@linkplain #getMdcMap() MDC map} and keeps the NDC
+     * as a single message.
+     * </p>
+     *
+     * @return the captured contexts, or {@code null} if both are empty
+     */
+    default Object captureContext() {
+        final Map<String, Object> mdc = getMdcMap();
+        final String ndc = getNdc();
+        // The map may be the live MDC of the thread, which restoring clears
+        return ContextSnapshot.of(mdc == null || mdc.isEmpty() ? null : new HashMap<>(mdc),
+                ndc == null || ndc.isEmpty() ? null : ndc);
+    }
+
+    /**
+     * Replaces the message and nested diagnostics contexts of the current thread with ones previously
+     * {@linkplain #captureContext() captured}.
+     *
+     * @param context the captured contexts, {@code null} clears both contexts
+     */
+    default void restoreContext(final Object context) {
+        clearMdc();
+        clearNdc();
+        if (context != null) {
+            final ContextSnapshot snapshot = (ContextSnapshot) context;
+            if (snapshot.mdc != null) {
+                @SuppressWarnings("unchecked")
+                final Map<String, Object> mdc = (Map<String, Object>) snapshot.mdc;
+                mdc.forEach(this::putMdc);
+            }
+            if (snapshot.ndc != null) {
+                pushNdc((String) snapshot.ndc);
+            }
+        }
+    }
 }
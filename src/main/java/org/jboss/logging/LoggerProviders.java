@@ -28,8 +28,20 @@ final class LoggerProviders {
 
     static final LoggerProvider PROVIDER = find();
 
+    // Whether the provider always returns the same logger for a name, regardless of the calling context
+    static final boolean STABLE_LOGGERS = !LoggerCache.WEAK && (PROVIDER instanceof JDKLoggerProvider
+            || PROVIDER instanceof Log4jLoggerProvider || PROVIDER instanceof Slf4jLoggerProvider);
+
     private static LoggerProvider find() {
-        return findProvider();
+        final LoggerProvider provider = findProvider();
+        if (Boolean.parseBoolean(SecurityActions.getSystemProperty(AsyncLoggerProvider.ASYNC_KEY, "false"))) {
+            try {
+                return new AsyncLoggerProvider(provider);
+            } catch (Throwable t) {
+                BackendFailures.configurationProblem("could not start the async provider, logging synchronously", t);
+            }
+        }
+        return provider;
     }
 
     private static LoggerProvider findProvider() {
@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * A snapshot of the {@linkplain MDC message} and {@linkplain NDC nested} diagnostics contexts of a thread, which can be
+ * restored on another thread. The snapshot is opaque and does not change when the contexts of the thread change.
+ * <p>
+ * The log provider captures the contexts with the cheapest mechanism of its log manager. The JDK provider keeps the
+ * contexts in immutable structures, so capturing them copies nothing. Log4j 2 shares its immutable thread context.
+ * Other log managers copy their MDC map once per capture.
+ * </p>
+ * <p>
+ * To pass the contexts along with a task, wrap it:
+ * </p>
+ *
+ * <pre>
+ * executor.execute(LoggingContext.wrap(task));
+ * CompletableFuture.supplyAsync(supplier, LoggingContext.wrap(executor));
+ * </pre>
+ */
+public final class LoggingContext {
+
+    private final LoggerProvider provider;
+    private final Object context;
+
+    private LoggingContext(final LoggerProvider provider, final Object context) {
+        this.provider = provider;
+        this.context = context;
+    }
+
+    /**
+     * Captures the contexts of the current thread.
+     *
+     * @return the snapshot
+     */
+    public static LoggingContext capture() {
+        final LoggerProvider provider = LoggerProviders.PROVIDER;
+        return new LoggingContext(provider, provider.captureContext());
+    }
+
+    /**
+     * Returns a task which runs the task with the contexts of the current thread.
+     *
+     * @param task the task
+     *
+     * @return the wrapped task
+     */
+    public static Runnable wrap(final Runnable task) {
+        Objects.requireNonNull(task, "task");
+        final LoggingContext context = capture();
+        return () -> context.run(task);
+    }
+
+    /**
+     * Returns a task which calls the task with the contexts of the current thread.
+     *
+     * @param task the task
+     * @param <T>  the type of the result
+     *
+     * @return the wrapped task
+     */
+    public static <T> Callable<T> wrap(final Callable<T> task) {
+        Objects.requireNonNull(task, "task");
+        final LoggingContext context = capture();
+        return () -> context.call(task);
+    }
+
+    /**
+     * Returns an executor which runs each task with the contexts of the thread which submitted it.
+     *
+     * @param executor the executor running the tasks
+     *
+     * @return the wrapped executor
+     */
+    public static Executor wrap(final Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        return command -> executor.execute(wrap(command));
+    }
+
+    /**
+     * Replaces the contexts of the current thread with this snapshot.
+     */
+    public void restore() {
+        provider.restoreContext(context);
+    }
+
+    /**
+     * Runs the task with this snapshot as the contexts of the current thread, then restores the contexts the thread
+     * had before.
+     *
+     * @param task the task
+     */
+    public void run(final Runnable task) {
+        final Object previous = provider.captureContext();
+        provider.restoreContext(context);
+        try {
+            task.run();
+        } finally {
+            provider.restoreContext(previous);
+        }
+    }
+
+    /**
+     * Calls the task with this snapshot as the contexts of the current thread, then restores the contexts the thread
+     * had before.
+     *
+     * @param task the task
+     * @param <T>  the type of the result
+     *
+     * @return the result of the task
+     *
+     * @throws Exception the exception the task threw
+     */
+    public <T> T call(final Callable<T> task) throws Exception {
+        final Object previous = provider.captureContext();
+        provider.restoreContext(context);
+        try {
+            return task.call();
+        } finally {
+            provider.restoreContext(previous);
+        }
+    }
+}
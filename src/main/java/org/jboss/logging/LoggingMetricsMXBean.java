@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.Map;
+
+/**
+ * The management interface of the log event counters, registered as {@value #OBJECT_NAME} in the platform MBean server
+ * when the {@code org.jboss.logging.metrics} system property is set to {@code true}.
+ * <p>
+ * For each logger category and level the counters record how many log calls were enabled, how many were made while the
+ * level was disabled and how many enabled calls carried a throwable. Checks made through the {@code isXxxEnabled()}
+ * methods are not counted.
+ * </p>
+ */
+public interface LoggingMetricsMXBean {
+
+    /**
+     * The object name the counters are registered with.
+     */
+    String OBJECT_NAME = "org.jboss.logging:type=LoggingMetrics";
+
+    /**
+     * Returns the names of the logger categories which have been logged to.
+     *
+     * @return the category names
+     */
+    String[] getCategories();
+
+    /**
+     * Returns the number of enabled log calls of each category, for all levels.
+     *
+     * @return the number of enabled log calls keyed by category
+     */
+    Map<String, Long> getEnabledCounts();
+
+    /**
+     * Returns the number of log calls of each category made while the level was disabled, for all levels.
+     *
+     * @return the number of disabled log calls keyed by category
+     */
+    Map<String, Long> getDisabledCounts();
+
+    /**
+     * Returns the number of enabled log calls of each category which carried a throwable, for all levels.
+     *
+     * @return the number of log calls with a throwable keyed by category
+     */
+    Map<String, Long> getThrowableCounts();
+
+    /**
+     * Returns the counters of a category by level, keyed as {@code enabled.INFO}, {@code disabled.DEBUG} or
+     * {@code throwable.ERROR}.
+     *
+     * @param category the logger category
+     *
+     * @return the counters of the category, empty if it has not been logged to
+     */
+    Map<String, Long> getCounts(String category);
+
+    /**
+     * Resets all counters to zero.
+     */
+    void reset();
+}
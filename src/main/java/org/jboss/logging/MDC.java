@@ -41,6 +41,68 @@ public final class MDC {
         return LoggerProviders.PROVIDER.putMdc(key, val);
     }
 
+    /**
+     * Puts the value onto the context without returning the previous value, which spares looking it up.
+     *
+     * @param key the key for the value
+     * @param val the value
+     */
+    public static void putQuiet(String key, Object val) {
+        LoggerProviders.PROVIDER.putMdcQuiet(key, val);
+    }
+
+    /**
+     * Puts the value onto the context. If the log manager supports typed values, such as the JBoss Log Manager or the
+     * JDK provider, the value is stored without converting it to a string. Log4j 2 stores a string, as its
+     * {@code ThreadContext.get()} fails on other values.
+     *
+     * @param key the key for the value
+     * @param val the value
+     */
+    public static void putInt(String key, int val) {
+        LoggerProviders.PROVIDER.putMdcInt(key, val);
+    }
+
+    /**
+     * Puts the value onto the context. If the log manager supports typed values the value is stored without converting
+     * it to a string.
+     *
+     * @param key the key for the value
+     * @param val the value
+     *
+     * @see #putInt(String, int)
+     */
+    public static void putLong(String key, long val) {
+        LoggerProviders.PROVIDER.putMdcLong(key, val);
+    }
+
+    /**
+     * Puts the value onto the context. If the log manager supports typed values the value is stored without converting
+     * it to a string.
+     *
+     * @param key the key for the value
+     * @param val the value
+     *
+     * @see #putInt(String, int)
+     */
+    public static void putBoolean(String key, boolean val) {
+        LoggerProviders.PROVIDER.putMdcBoolean(key, val);
+    }
+
+    /**
+     * Returns a context which puts the value onto the context only while an operation runs.
+     *
+     * @param key   the key for the value
+     * @param value the value
+     *
+     * @return the scoped context
+     *
+     * @see ScopedContext
+     */
+    public static ScopedContext where(String key, Object value) {
+        return ScopedContext.EMPTY.where(key, value);
+    }
+
     /**
      * Returns the value for the key or {@code null} if no value was found.
      *
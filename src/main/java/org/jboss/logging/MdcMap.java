@@ -0,0 +1,193 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable map of MDC entries. {@link #with(String, Object)} and {@link #without(String)} return a new map which
+ * shares nothing mutable with the previous one, so a reference to the map is a snapshot which never changes.
+ * <p>
+ * The entries are kept in insertion order in a pair of arrays and looked up by comparing the cached hash code of the
+ * key before the key itself. A {@code null} key is allowed, as with the {@code HashMap} the MDC used to be kept in. An
+ * MDC usually holds a handful of entries, for which copying the arrays on each change is cheaper than maintaining a
+ * tree.
+ * </p>
+ */
+final class MdcMap extends AbstractMap<String, Object> {
+
+    static final MdcMap EMPTY = new MdcMap(new String[0], new Object[0]);
+
+    private final String[] keys;
+    private final Object[] values;
+
+    private MdcMap(final String[] keys, final Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Returns a map with the entry added or replaced.
+     *
+     * @param key   the key
+     * @param value the value
+     *
+     * @return the new map
+     */
+    MdcMap with(final String key, final Object value) {
+        final int index = indexOf(key);
+        final int length = keys.length;
+        if (index >= 0) {
+            if (values[index] == value) {
+                return this;
+            }
+            final Object[] newValues = values.clone();
+            newValues[index] = value;
+            return new MdcMap(keys, newValues);
+        }
+        final String[] newKeys = new String[length + 1];
+        final Object[] newValues = new Object[length + 1];
+        System.arraycopy(keys, 0, newKeys, 0, length);
+        System.arraycopy(values, 0, newValues, 0, length);
+        newKeys[length] = key;
+        newValues[length] = value;
+        return new MdcMap(newKeys, newValues);
+    }
+
+    /**
+     * Returns a map without the entry.
+     *
+     * @param key the key
+     *
+     * @return the new map, or this map if it has no entry for the key
+     */
+    MdcMap without(final String key) {
+        final int index = indexOf(key);
+        if (index < 0) {
+            return this;
+        }
+        final int length = keys.length;
+        if (length == 1) {
+            return EMPTY;
+        }
+        final String[] newKeys = new String[length - 1];
+        final Object[] newValues = new Object[length - 1];
+        System.arraycopy(keys, 0, newKeys, 0, index);
+        System.arraycopy(values, 0, newValues, 0, index);
+        System.arraycopy(keys, index + 1, newKeys, index, length - index - 1);
+        System.arraycopy(values, index + 1, newValues, index, length - index - 1);
+        return new MdcMap(newKeys, newValues);
+    }
+
+    /**
+     * Returns a map with the entries of the other map added or replaced.
+     *
+     * @param other the entries to add
+     *
+     * @return the new map
+     */
+    MdcMap withAll(final MdcMap other) {
+        if (keys.length == 0) {
+            return other;
+        }
+        MdcMap result = this;
+        for (int i = 0; i < other.keys.length; i++) {
+            result = result.with(other.keys[i], other.values[i]);
+        }
+        return result;
+    }
+
+    String keyAt(final int index) {
+        return keys[index];
+    }
+
+    Object valueAt(final int index) {
+        return values[index];
+    }
+
+    @Override
+    public Object get(final Object key) {
+        final int index = key == null || key instanceof String ? indexOf((String) key) : -1;
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return (key == null || key instanceof String) && indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (index >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        final Entry<String, Object> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    private int indexOf(final String key) {
+        final int hash = Objects.hashCode(key);
+        final String[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            final String k = keys[i];
+            if (Objects.hashCode(k) == hash && Objects.equals(k, key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pre-parsed {@link MessageFormat} pattern.
+ * <p>
+ * Rendering produces the same output as {@link MessageFormat#format(String, Object...)}. A pattern made up of plain
+ * {@code {n}} placeholders without quotes is rendered directly, as long as none of the referenced parameters is a
+ * {@link Number} or a {@link Date}. Anything else is rendered by a copy of a cached {@link MessageFormat}, as a
+ * {@link MessageFormat} is not safe for use by multiple threads.
+ * </p>
+ */
+final class MessageTemplate {
+
+    private static final int MAX_CACHE_SIZE = 1024;
+    // Longer argument indexes are left to MessageFormat so an overflow is reported the same way
+    private static final int MAX_INDEX_DIGITS = 4;
+
+    private static final ConcurrentMap<String, MessageTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private final String pattern;
+    private final String[] literals;
+    private final int[] indexes;
+    private final String slf4jPattern;
+    private volatile Compiled compiled;
+
+    private MessageTemplate(final String pattern, final String[] literals, final int[] indexes) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.indexes = indexes;
+        this.slf4jPattern = literals == null ? null : slf4jPattern(literals, indexes);
+    }
+
+    private static String slf4jPattern(final String[] literals, final int[] indexes) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < indexes.length; i++) {
+            // A backslash would escape the following placeholder
+            if (indexes[i] != i || literals[i].indexOf('\\') != -1) {
+                return null;
+            }
+            sb.append(literals[i]).append("{}");
+        }
+        return sb.append(literals[indexes.length]).toString();
+    }
+
+    /**
+     * Returns the cached template for the pattern, parsing it if required.
+     *
+     * @param pattern the message pattern
+     *
+     * @return the template
+     */
+    static MessageTemplate of(final String pattern) {
+        MessageTemplate template = CACHE.get(pattern);
+        if (template == null) {
+            template = compile(pattern);
+            if (CACHE.size() >= MAX_CACHE_SIZE) {
+                CACHE.clear();
+            }
+            CACHE.put(pattern, template);
+        }
+        return template;
+    }
+
+    /**
+     * Parses the pattern. Patterns which need more than plain placeholders only record the pattern itself.
+     *
+     * @param pattern the message pattern
+     *
+     * @return the template
+     */
+    static MessageTemplate compile(final String pattern) {
+        if (pattern.indexOf('\'') != -1) {
+            return new MessageTemplate(pattern, null, null);
+        }
+        int count = 0;
+        for (int i = pattern.indexOf('{'); i != -1; i = pattern.indexOf('{', i + 1)) {
+            count++;
+        }
+        final String[] literals = new String[count + 1];
+        final int[] indexes = new int[count];
+        int start = 0;
+        for (int n = 0; n < count; n++) {
+            final int open = pattern.indexOf('{', start);
+            int i = open + 1;
+            while (i < pattern.length() && pattern.charAt(i) >= '0' && pattern.charAt(i) <= '9') {
+                i++;
+            }
+            if (i == open + 1 || i - open - 1 > MAX_INDEX_DIGITS || i == pattern.length() || pattern.charAt(i) != '}') {
+                return new MessageTemplate(pattern, null, null);
+            }
+            literals[n] = pattern.substring(start, open);
+            indexes[n] = Integer.parseInt(pattern.substring(open + 1, i));
+            start = i + 1;
+        }
+        literals[count] = pattern.substring(start);
+        return new MessageTemplate(pattern, literals, indexes);
+    }
+
+    String format(final Object[] params) {
+        return render(params == null ? 0 : params.length, null, null, null, params);
+    }
+
+    /**
+     * Renders the first {@code count} parameters of the array into the target.
+     *
+     * @param target the builder to append to
+     * @param params the parameters
+     * @param count  the number of parameters
+     */
+    void formatTo(final StringBuilder target, final Object[] params, final int count) {
+        renderTo(target, count, null, null, null, params);
+    }
+
+    String format(final Object param1) {
+        return render(1, param1, null, null, null);
+    }
+
+    String format(final Object param1, final Object param2) {
+        return render(2, param1, param2, null, null);
+    }
+
+    String format(final Object param1, final Object param2, final Object param3) {
+        return render(3, param1, param2, param3, null);
+    }
+
+    /**
+     * Returns the equivalent SLF4J pattern if this pattern consists of exactly {@code count} plain placeholders which
+     * reference the parameters in order. The parameters must still be checked, as SLF4J does not format numbers and
+     * dates the same way.
+     *
+     * @param count the number of parameters
+     *
+     * @return the SLF4J pattern or {@code null} if there is no equivalent pattern
+     */
+    String toSlf4jPattern(final int count) {
+        return indexes != null && indexes.length == count ? slf4jPattern : null;
+    }
+
+    /**
+     * Renders the parameters. Up to three parameters are passed in the slots, otherwise they are taken from
+     * {@code array}.
+     */
+    private String render(final int count, final Object o1, final Object o2, final Object o3, final Object[] array) {
+        return renderTo(new StringBuilder(pattern.length() + (count << 4)), count, o1, o2, o3, array).toString();
+    }
+
+    private StringBuilder renderTo(final StringBuilder sb, final int count, final Object o1, final Object o2, final Object o3,
+            final Object[] array) {
+        if (literals == null || requiresFormat(count, o1, o2, o3, array)) {
+            final Object[] params;
+            if (array != null) {
+                params = array.length == count ? array : Arrays.copyOf(array, count);
+            } else {
+                params = count == 0 ? null
+                        : count == 1 ? new Object[] { o1 } : count == 2 ? new Object[] { o1, o2 } : new Object[] { o1, o2, o3 };
+            }
+            return sb.append(messageFormat().format(params, new StringBuffer(), null));
+        }
+        for (int i = 0; i < indexes.length; i++) {
+            sb.append(literals[i]);
+            final int index = indexes[i];
+            if (index >= count) {
+                sb.append('{').append(index).append('}');
+            } else {
+                sb.append(param(index, o1, o2, o3, array));
+            }
+        }
+        return sb.append(literals[indexes.length]);
+    }
+
+    /**
+     * Checks whether a referenced parameter would be formatted by a {@link java.text.Format} rather than converted with
+     * {@link String#valueOf(Object)}.
+     */
+    private boolean requiresFormat(final int count, final Object o1, final Object o2, final Object o3,
+            final Object[] array) {
+        for (int index : indexes) {
+            if (index < count) {
+                final Object param = param(index, o1, o2, o3, array);
+                if (param instanceof Number || param instanceof Date) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Object param(final int index, final Object o1, final Object o2, final Object o3, final Object[] array) {
+        if (array != null) {
+            return array[index];
+        }
+        return index == 0 ? o1 : index == 1 ? o2 : o3;
+    }
+
+    /**
+     * Returns a {@link MessageFormat} for the current format locale which is private to the caller.
+     */
+    private MessageFormat messageFormat() {
+        final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        Compiled compiled = this.compiled;
+        if (compiled == null || !compiled.locale.equals(locale)) {
+            compiled = new Compiled(locale, new MessageFormat(pattern, locale));
+            this.compiled = compiled;
+        }
+        return (MessageFormat) compiled.messageFormat.clone();
+    }
+
+    private static final class Compiled {
+        private final Locale locale;
+        private final MessageFormat messageFormat;
+
+        private Compiled(final Locale locale, final MessageFormat messageFormat) {
+            this.locale = locale;
+            this.messageFormat = messageFormat;
+        }
+    }
+}
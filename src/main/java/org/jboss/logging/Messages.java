@@ -33,6 +33,8 @@ import java.util.Locale;
  */
 public final class Messages {
 
+    private static final ImplementationCache BUNDLES = new ImplementationCache(Messages::findBundleGetter);
+
     private Messages() {
     }
 
@@ -109,11 +111,24 @@ public final class Messages {
     }
 
     private static <T> T doGetBundle(final Lookup lookup, final Class<T> type, final Locale locale) {
+        final MethodHandle getter = BUNDLES.get(lookup, type, locale);
+        if (getter == null) {
+            throw new IllegalArgumentException("Invalid bundle " + type + " (implementation not found)");
+        }
+        try {
+            return type.cast(getter.invoke());
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(
+                    "Bundle implementation " + getter.type().returnType() + " could not be instantiated", e);
+        }
+    }
+
+    private static MethodHandle findBundleGetter(final Lookup lookup, final Class<?> type, final Locale locale) {
         String language = locale.getLanguage();
         String country = locale.getCountry();
         String variant = locale.getVariant();
 
-        Class<? extends T> bundleClass = null;
+        Class<?> bundleClass = null;
         if (variant != null && !variant.isEmpty()) {
             try {
                 bundleClass = lookup.findClass(join(type.getName(), "$bundle", language, country, variant)).asSubclass(type);
@@ -145,25 +160,19 @@ public final class Messages {
             try {
                 bundleClass = lookup.findClass(join(type.getName(), "$bundle", null, null, null)).asSubclass(type);
             } catch (ClassNotFoundException e) {
-                throw new IllegalArgumentException("Invalid bundle " + type + " (implementation not found)");
+                return null;
             } catch (IllegalAccessException e) {
                 throw new IllegalArgumentException("The given lookup does not have access to the implementation class");
             }
         }
-        final MethodHandle getter;
         try {
-            getter = lookup.findStaticGetter(bundleClass, "INSTANCE", bundleClass);
+            return lookup.findStaticGetter(bundleClass, "INSTANCE", bundleClass);
         } catch (NoSuchFieldException e) {
             throw new IllegalArgumentException("Bundle implementation " + bundleClass + " has no instance field");
         } catch (IllegalAccessException e) {
             throw new IllegalArgumentException(
                     "The given lookup does not have access to the implementation class instance field");
         }
-        try {
-            return type.cast(getter.invoke());
-        } catch (Throwable e) {
-            throw new IllegalArgumentException("Bundle implementation " + bundleClass + " could not be instantiated", e);
-        }
     }
 
     private static String join(String interfaceName, String a, String b, String c, String d) {
@@ -75,6 +75,19 @@ public final class NDC {
         LoggerProviders.PROVIDER.pushNdc(message);
     }
 
+    /**
+     * Returns a context which pushes the message onto the stack only while an operation runs.
+     *
+     * @param message the message to push
+     *
+     * @return the scoped context
+     *
+     * @see ScopedContext
+     */
+    public static ScopedContext where(String message) {
+        return ScopedContext.EMPTY.push(message);
+    }
+
     /**
      * Sets maximum depth of the stack removing any entries below the maximum depth.
      *
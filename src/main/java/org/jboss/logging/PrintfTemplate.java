@@ -0,0 +1,470 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pre-parsed {@linkplain Formatter printf-style} format string.
+ * <p>
+ * Rendering produces the same output as {@link String#format(String, Object...)}. Plain {@code %s} and {@code %d}
+ * specifiers are appended directly, so primitive parameters are never boxed for them. Any other specifier is handed to
+ * a {@link Formatter} on its own. A format string which cannot be parsed is always rendered with
+ * {@link String#format(String, Object...)} so the caller sees the same exception.
+ * </p>
+ * <p>
+ * Templates are cached by format string in a bounded map which is cleared when it fills up. Rendering uses a
+ * {@link StringBuilder} and {@link Formatter} confined to the current thread and reused between calls.
+ * </p>
+ */
+final class PrintfTemplate {
+
+    private static final int OBJECT = 0;
+    private static final int INT = 1;
+    private static final int LONG = 2;
+
+    private static final String FLAGS = "-#+ 0,(<";
+    private static final String CONVERSIONS = "bBhHsScCdoxXeEfgGaA%n";
+
+    private static final int MAX_CACHE_SIZE = 1024;
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+
+    private static final ConcurrentMap<String, PrintfTemplate> CACHE = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+    private static volatile LocaleDigits localeDigits;
+
+    private final String format;
+    private final Spec[] specs;
+    private final String tail;
+    private final String slf4jPattern;
+
+    private PrintfTemplate(final String format, final Spec[] specs, final String tail) {
+        this.format = format;
+        this.specs = specs;
+        this.tail = tail;
+        this.slf4jPattern = specs == null ? null : slf4jPattern(specs, tail);
+    }
+
+    private static String slf4jPattern(final Spec[] specs, final String tail) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < specs.length; i++) {
+            final Spec spec = specs[i];
+            // Braces could form a placeholder and a backslash would escape one
+            if (spec.index != i || !spec.plain || spec.pattern.charAt(1) != 's' || !isSlf4jLiteral(spec.prefix)) {
+                return null;
+            }
+            sb.append(spec.prefix).append("{}");
+        }
+        return isSlf4jLiteral(tail) ? sb.append(tail).toString() : null;
+    }
+
+    private static boolean isSlf4jLiteral(final String literal) {
+        return literal.indexOf('{') == -1 && literal.indexOf('\\') == -1;
+    }
+
+    /**
+     * Returns the cached template for the format string, parsing it if required.
+     *
+     * @param format the format string
+     *
+     * @return the template
+     */
+    static PrintfTemplate of(final String format) {
+        PrintfTemplate template = CACHE.get(format);
+        if (template == null) {
+            template = compile(format);
+            if (CACHE.size() >= MAX_CACHE_SIZE) {
+                CACHE.clear();
+            }
+            CACHE.put(format, template);
+        }
+        return template;
+    }
+
+    /**
+     * Parses the format string.
+     *
+     * @param format the format string
+     *
+     * @return the template
+     */
+    static PrintfTemplate compile(final String format) {
+        final List<Spec> specs = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        final int len = format.length();
+        int ordinary = -1;
+        int last = -1;
+        int i = 0;
+        while (i < len) {
+            final int percent = format.indexOf('%', i);
+            if (percent == -1) {
+                literal.append(format, i, len);
+                break;
+            }
+            literal.append(format, i, percent);
+            i = percent + 1;
+            // An explicit argument index, otherwise the digits are the width
+            int index = 0;
+            int start = i;
+            while (i < len && isDigit(format.charAt(i))) {
+                i++;
+            }
+            if (i > start && i < len && format.charAt(i) == '$') {
+                index = Integer.parseInt(format.substring(start, i));
+                if (index < 1) {
+                    return new PrintfTemplate(format, null, null);
+                }
+                start = ++i;
+            } else {
+                i = start;
+            }
+            while (i < len && FLAGS.indexOf(format.charAt(i)) != -1) {
+                i++;
+            }
+            final String flags = format.substring(start, i);
+            final int flagsEnd = i;
+            while (i < len && isDigit(format.charAt(i))) {
+                i++;
+            }
+            if (i < len && format.charAt(i) == '.') {
+                start = ++i;
+                while (i < len && isDigit(format.charAt(i))) {
+                    i++;
+                }
+                if (i == start) {
+                    return new PrintfTemplate(format, null, null);
+                }
+            }
+            final boolean dateTime = i < len && (format.charAt(i) == 't' || format.charAt(i) == 'T');
+            if (dateTime) {
+                i++;
+                if (i >= len || !Character.isLetter(format.charAt(i))) {
+                    return new PrintfTemplate(format, null, null);
+                }
+            } else if (i >= len || CONVERSIONS.indexOf(format.charAt(i)) == -1) {
+                return new PrintfTemplate(format, null, null);
+            }
+            final char conversion = format.charAt(i++);
+            // The pattern handed to a Formatter has the argument index resolved here, so it is left out
+            final String pattern = '%' + flags.replace("<", "") + format.substring(flagsEnd, i);
+            final boolean plain = pattern.length() == 2;
+            if (!dateTime && (conversion == '%' || conversion == 'n')) {
+                if (plain) {
+                    literal.append(conversion == '%' ? "%" : System.lineSeparator());
+                } else {
+                    specs.add(new Spec(literal.toString(), -1, pattern, false));
+                    literal.setLength(0);
+                }
+                continue;
+            }
+            if (index > 0) {
+                last = index - 1;
+            } else if (flags.indexOf('<') != -1) {
+                if (last < 0) {
+                    return new PrintfTemplate(format, null, null);
+                }
+            } else {
+                last = ++ordinary;
+            }
+            specs.add(new Spec(literal.toString(), last, pattern,
+                    plain && !dateTime && (conversion == 's' || conversion == 'd')));
+            literal.setLength(0);
+        }
+        return new PrintfTemplate(format, specs.toArray(new Spec[0]), literal.toString());
+    }
+
+    /**
+     * Returns the equivalent SLF4J pattern if this format consists of exactly {@code count} plain {@code %s} specifiers
+     * which reference the parameters in order. The parameters must still be checked, as SLF4J does not handle
+     * {@link Formattable} values.
+     *
+     * @param count the number of parameters
+     *
+     * @return the SLF4J pattern or {@code null} if there is no equivalent pattern
+     */
+    String toSlf4jPattern(final int count) {
+        return specs != null && specs.length == count ? slf4jPattern : null;
+    }
+
+    String format(final Object[] params) {
+        if (params == null) {
+            return render(OBJECT, 0, 0L, 0L, 0L, null, null, null, null);
+        }
+        return render(OBJECT, params.length, 0L, 0L, 0L, null, null, null, params);
+    }
+
+    /**
+     * Renders the first {@code count} parameters of the array into the target.
+     *
+     * @param target the builder to append to
+     * @param params the parameters
+     * @param count  the number of parameters
+     */
+    void formatTo(final StringBuilder target, final Object[] params, final int count) {
+        if (specs == null) {
+            target.append(String.format(format, Arrays.copyOf(params, count)));
+        } else {
+            renderTo(new Buffer(target), OBJECT, count, 0L, 0L, 0L, null, null, null, params);
+        }
+    }
+
+    String format(final Object param1) {
+        return render(OBJECT, 1, 0L, 0L, 0L, param1, null, null, null);
+    }
+
+    String format(final Object param1, final Object param2) {
+        return render(OBJECT, 2, 0L, 0L, 0L, param1, param2, null, null);
+    }
+
+    String format(final Object param1, final Object param2, final Object param3) {
+        return render(OBJECT, 3, 0L, 0L, 0L, param1, param2, param3, null);
+    }
+
+    String format(final int param1) {
+        return render(INT, 1, param1, 0L, 0L, null, null, null, null);
+    }
+
+    String format(final long param1) {
+        return render(LONG, 1, param1, 0L, 0L, null, null, null, null);
+    }
+
+    String format(final int param1, final int param2) {
+        return render(INT | INT << 2, 2, param1, param2, 0L, null, null, null, null);
+    }
+
+    String format(final int param1, final Object param2) {
+        return render(INT, 2, param1, 0L, 0L, null, param2, null, null);
+    }
+
+    String format(final long param1, final long param2) {
+        return render(LONG | LONG << 2, 2, param1, param2, 0L, null, null, null, null);
+    }
+
+    String format(final long param1, final Object param2) {
+        return render(LONG, 2, param1, 0L, 0L, null, param2, null, null);
+    }
+
+    String format(final int param1, final int param2, final int param3) {
+        return render(INT | INT << 2 | INT << 4, 3, param1, param2, param3, null, null, null, null);
+    }
+
+    String format(final int param1, final int param2, final Object param3) {
+        return render(INT | INT << 2, 3, param1, param2, 0L, null, null, param3, null);
+    }
+
+    String format(final int param1, final Object param2, final Object param3) {
+        return render(INT, 3, param1, 0L, 0L, null, param2, param3, null);
+    }
+
+    String format(final long param1, final long param2, final long param3) {
+        return render(LONG | LONG << 2 | LONG << 4, 3, param1, param2, param3, null, null, null, null);
+    }
+
+    String format(final long param1, final long param2, final Object param3) {
+        return render(LONG | LONG << 2, 3, param1, param2, 0L, null, null, param3, null);
+    }
+
+    String format(final long param1, final Object param2, final Object param3) {
+        return render(LONG, 3, param1, 0L, 0L, null, param2, param3, null);
+    }
+
+    /**
+     * Renders the parameters. Up to three parameters are passed in the slots, the kind of each packed into two bits of
+     * {@code kinds}; primitive values are passed in the {@code long} slots and references in the {@code Object} slots.
+     * When {@code array} is not {@code null} every parameter is a reference taken from the array.
+     */
+    private String render(final int kinds, final int count, final long v1, final long v2, final long v3, final Object o1,
+            final Object o2, final Object o3, final Object[] array) {
+        if (specs == null) {
+            return String.format(format, array != null ? array : box(kinds, count, v1, v2, v3, o1, o2, o3));
+        }
+        final Buffer buffer = Buffer.acquire();
+        try {
+            return renderTo(buffer, kinds, count, v1, v2, v3, o1, o2, o3, array).toString();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private StringBuilder renderTo(final Buffer buffer, final int kinds, final int count, final long v1, final long v2,
+            final long v3, final Object o1, final Object o2, final Object o3, final Object[] array) {
+        final StringBuilder sb = buffer.sb;
+        for (Spec spec : specs) {
+            sb.append(spec.prefix);
+            final int index = spec.index;
+            if (index < 0) {
+                buffer.formatter().format(spec.pattern);
+            } else if (index >= count) {
+                throw new MissingFormatArgumentException(spec.pattern);
+            } else if (array != null) {
+                appendObject(buffer, spec, array[index]);
+            } else {
+                final int kind = kinds >>> (index << 1) & 3;
+                if (kind == OBJECT) {
+                    appendObject(buffer, spec, index == 0 ? o1 : index == 1 ? o2 : o3);
+                } else {
+                    final long value = index == 0 ? v1 : index == 1 ? v2 : v3;
+                    if (spec.plain && (spec.pattern.charAt(1) == 's' || isAsciiDecimal())) {
+                        if (kind == INT) {
+                            sb.append((int) value);
+                        } else {
+                            sb.append(value);
+                        }
+                    } else {
+                        buffer.formatter().format(spec.pattern,
+                                kind == INT ? Integer.valueOf((int) value) : Long.valueOf(value));
+                    }
+                }
+            }
+        }
+        return sb.append(tail);
+    }
+
+    private static void appendObject(final Buffer buffer, final Spec spec, final Object value) {
+        if (spec.plain) {
+            if (spec.pattern.charAt(1) == 's') {
+                if (!(value instanceof Formattable)) {
+                    buffer.sb.append(value);
+                    return;
+                }
+            } else if ((value instanceof Integer || value instanceof Long || value instanceof Short
+                    || value instanceof Byte) && isAsciiDecimal()) {
+                buffer.sb.append(((Number) value).longValue());
+                return;
+            }
+        }
+        buffer.formatter().format(spec.pattern, value);
+    }
+
+    private static Object[] box(final int kinds, final int count, final long v1, final long v2, final long v3,
+            final Object o1, final Object o2, final Object o3) {
+        final Object[] result = new Object[count];
+        for (int i = 0; i < count; i++) {
+            final int kind = kinds >>> (i << 1) & 3;
+            final long value = i == 0 ? v1 : i == 1 ? v2 : v3;
+            if (kind == INT) {
+                result[i] = (int) value;
+            } else if (kind == LONG) {
+                result[i] = value;
+            } else {
+                result[i] = i == 0 ? o1 : i == 1 ? o2 : o3;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether {@code %d} renders the same as {@link Long#toString(long)} in the current format locale.
+     */
+    private static boolean isAsciiDecimal() {
+        final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        LocaleDigits digits = localeDigits;
+        if (digits == null || !digits.locale.equals(locale)) {
+            final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+            digits = new LocaleDigits(locale, symbols.getZeroDigit() == '0' && symbols.getMinusSign() == '-');
+            localeDigits = digits;
+        }
+        return digits.ascii;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static final class Spec {
+        private final String prefix;
+        private final int index;
+        private final String pattern;
+        private final boolean plain;
+
+        private Spec(final String prefix, final int index, final String pattern, final boolean plain) {
+            this.prefix = prefix;
+            this.index = index;
+            this.pattern = pattern;
+            this.plain = plain;
+        }
+    }
+
+    /**
+     * A thread confined buffer. A parameter's {@code toString()} may log again on the same thread, in which case the
+     * nested call gets a buffer of its own.
+     */
+    private static final class Buffer {
+        private StringBuilder sb;
+        private Formatter formatter;
+        private boolean inUse;
+
+        private Buffer() {
+            sb = new StringBuilder(256);
+        }
+
+        private Buffer(final StringBuilder target) {
+            sb = target;
+        }
+
+        static Buffer acquire() {
+            final Buffer buffer = BUFFER.get();
+            if (buffer.inUse) {
+                final Buffer nested = new Buffer();
+                nested.inUse = true;
+                return nested;
+            }
+            buffer.inUse = true;
+            return buffer;
+        }
+
+        void release() {
+            if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+                sb = new StringBuilder(256);
+                formatter = null;
+            } else {
+                sb.setLength(0);
+            }
+            inUse = false;
+        }
+
+        Formatter formatter() {
+            final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+            if (formatter == null || !formatter.locale().equals(locale)) {
+                formatter = new Formatter(sb, locale);
+            }
+            return formatter;
+        }
+    }
+
+    private static final class LocaleDigits {
+        private final Locale locale;
+        private final boolean ascii;
+
+        private LocaleDigits(final Locale locale, final boolean ascii) {
+            this.locale = locale;
+            this.ascii = ascii;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * MDC entries and NDC messages which are only in effect while an operation runs. A context is immutable, create one
+ * with {@link MDC#where(String, Object)} or {@link NDC#where(String)}:
+ *
+ * <pre>
+ * MDC.where("requestId", id)
+ *         .push("checkout")
+ *         .run(() -&gt; process(order));
+ * </pre>
+ * <p>
+ * On a runtime which supports {@code java.lang.ScopedValue}, the JDK provider binds the MDC and the NDC of the
+ * operation to scoped values rather than storing them in thread locals. Virtual threads running in a scope then hold
+ * no copy of the context, and threads forked in the scope, for example by a {@code StructuredTaskScope}, inherit it
+ * without copying. The SLF4J provider does the same for the NDC.
+ * </p>
+ * <p>
+ * Otherwise the entries are put on the MDC and the messages pushed on the NDC of the current thread, then removed
+ * when the operation completes, restoring the values the keys had before.
+ * </p>
+ * <p>
+ * Changing the MDC or NDC inside the operation only affects the current thread until the operation completes.
+ * </p>
+ */
+public final class ScopedContext {
+
+    private static final String[] NO_MESSAGES = new String[0];
+
+    static final ScopedContext EMPTY = new ScopedContext(MdcMap.EMPTY, NO_MESSAGES);
+
+    private final MdcMap mdc;
+    private final String[] ndc;
+
+    private ScopedContext(final MdcMap mdc, final String[] ndc) {
+        this.mdc = mdc;
+        this.ndc = ndc;
+    }
+
+    /**
+     * Returns a context which also puts the value onto the MDC.
+     *
+     * @param key   the key for the value
+     * @param value the value
+     *
+     * @return the new context
+     */
+    public ScopedContext where(final String key, final Object value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        return new ScopedContext(mdc.with(key, value), ndc);
+    }
+
+    /**
+     * Returns a context which also pushes the message onto the NDC, above the messages already in this context.
+     *
+     * @param message the message to push
+     *
+     * @return the new context
+     */
+    public ScopedContext push(final String message) {
+        Objects.requireNonNull(message, "message");
+        final String[] messages = Arrays.copyOf(ndc, ndc.length + 1);
+        messages[ndc.length] = message;
+        return new ScopedContext(mdc, messages);
+    }
+
+    /**
+     * Runs the operation with this context.
+     *
+     * @param op the operation to run
+     */
+    public void run(final Runnable op) {
+        Objects.requireNonNull(op, "op");
+        try {
+            call(LoggerProviders.PROVIDER, () -> {
+                op.run();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // Not thrown by a Runnable
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Calls the operation with this context.
+     *
+     * @param op  the operation to call
+     * @param <T> the type of the result
+     *
+     * @return the result of the operation
+     *
+     * @throws Exception the exception the operation threw
+     */
+    public <T> T call(final Callable<T> op) throws Exception {
+        Objects.requireNonNull(op, "op");
+        return call(LoggerProviders.PROVIDER, op);
+    }
+
+    <T> T call(final LoggerProvider provider, final Callable<T> op) throws Exception {
+        if (ScopedValues.AVAILABLE && provider instanceof AbstractLoggerProvider) {
+            return ((AbstractLoggerProvider) provider).callScoped(this, op);
+        }
+        final int depth = provider.getNdcDepth();
+        for (String message : ndc) {
+            provider.pushNdc(message);
+        }
+        try {
+            return callRestoringMdc(provider, op);
+        } finally {
+            if (ndc.length > 0) {
+                provider.setNdcMaxDepth(depth);
+            }
+        }
+    }
+
+    <T> T callRestoringMdc(final LoggerProvider provider, final Callable<T> op) throws Exception {
+        final int size = mdc.size();
+        if (size == 0) {
+            return op.call();
+        }
+        final Object[] previous = new Object[size];
+        for (int i = 0; i < size; i++) {
+            previous[i] = provider.putMdc(mdc.keyAt(i), mdc.valueAt(i));
+        }
+        try {
+            return op.call();
+        } finally {
+            for (int i = size - 1; i >= 0; i--) {
+                if (previous[i] == null) {
+                    provider.removeMdc(mdc.keyAt(i));
+                } else {
+                    provider.putMdc(mdc.keyAt(i), previous[i]);
+                }
+            }
+        }
+    }
+
+    MdcMap mdc() {
+        return mdc;
+    }
+
+    String[] ndc() {
+        return ndc;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.Callable;
+
+/**
+ * Access to {@code java.lang.ScopedValue} through method handles, as the library is compiled for Java 11.
+ * <p>
+ * The scoped values are only used when the runtime provides the API and it can be used without enabling preview
+ * features, which is checked by binding a value once. Setting the {@code org.jboss.logging.scoped-values} system
+ * property to {@code false} disables them.
+ * </p>
+ * <p>
+ * Only the methods which have the same signature in every release of the API are used.
+ * </p>
+ */
+final class ScopedValues {
+
+    private static final MethodHandle NEW_INSTANCE;
+    private static final MethodHandle OR_ELSE;
+    private static final MethodHandle WHERE;
+    private static final MethodHandle RUN;
+
+    static final boolean AVAILABLE;
+
+    static {
+        MethodHandle newInstance = null;
+        MethodHandle orElse = null;
+        MethodHandle where = null;
+        MethodHandle run = null;
+        boolean available = false;
+        if (Boolean.parseBoolean(SecurityActions.getSystemProperty("org.jboss.logging.scoped-values", "true"))) {
+            try {
+                final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                final Class<?> scopedValue = Class.forName("java.lang.ScopedValue");
+                final Class<?> carrier = Class.forName("java.lang.ScopedValue$Carrier");
+                newInstance = lookup.findStatic(scopedValue, "newInstance", MethodType.methodType(scopedValue))
+                        .asType(MethodType.methodType(Object.class));
+                orElse = lookup.findVirtual(scopedValue, "orElse", MethodType.methodType(Object.class, Object.class))
+                        .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+                where = lookup.findStatic(scopedValue, "where", MethodType.methodType(carrier, scopedValue, Object.class))
+                        .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+                run = lookup.findVirtual(carrier, "run", MethodType.methodType(void.class, Runnable.class))
+                        .asType(MethodType.methodType(void.class, Object.class, Runnable.class));
+                available = probe(newInstance, orElse, where, run);
+            } catch (Throwable ignore) {
+                // Not available on this runtime, or a preview feature which is not enabled
+            }
+        }
+        NEW_INSTANCE = newInstance;
+        OR_ELSE = orElse;
+        WHERE = where;
+        RUN = run;
+        AVAILABLE = available;
+    }
+
+    private ScopedValues() {
+    }
+
+    /**
+     * Creates a new scoped value.
+     *
+     * @return the scoped value, or {@code null} if scoped values are not {@linkplain #AVAILABLE available}
+     */
+    static Object newInstance() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        try {
+            return (Object) NEW_INSTANCE.invokeExact();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Returns the value bound to the scoped value on the current thread.
+     *
+     * @param key          the scoped value
+     * @param defaultValue the value to return if none is bound, must not be {@code null}
+     *
+     * @return the bound value or the default value
+     */
+    static Object get(final Object key, final Object defaultValue) {
+        try {
+            return (Object) OR_ELSE.invokeExact(key, defaultValue);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Calls the operation with the value bound to the scoped value.
+     *
+     * @param key   the scoped value
+     * @param value the value to bind
+     * @param op    the operation to call
+     * @param <T>   the type of the result
+     *
+     * @return the result of the operation
+     *
+     * @throws Exception the exception the operation threw
+     */
+    static <T> T call(final Object key, final Object value, final Callable<T> op) throws Exception {
+        final Call<T> call = new Call<>(op);
+        try {
+            RUN.invokeExact((Object) WHERE.invokeExact(key, value), (Runnable) call);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        return call.result();
+    }
+
+    private static boolean probe(final MethodHandle newInstance, final MethodHandle orElse, final MethodHandle where,
+            final MethodHandle run) throws Throwable {
+        final Object key = (Object) newInstance.invokeExact();
+        final Object value = new Object();
+        final boolean[] bound = new boolean[1];
+        final Runnable check = () -> {
+            try {
+                bound[0] = (Object) orElse.invokeExact(key, (Object) Boolean.FALSE) == value;
+            } catch (Throwable ignore) {
+            }
+        };
+        run.invokeExact((Object) where.invokeExact(key, value), check);
+        return bound[0];
+    }
+
+    private static RuntimeException rethrow(final Throwable t) {
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        throw new UndeclaredThrowableException(t);
+    }
+
+    /**
+     * Adapts a {@link Callable} to the {@link Runnable} the scoped value carrier runs, keeping the result or the
+     * exception.
+     */
+    private static final class Call<T> implements Runnable {
+        private final Callable<T> op;
+        private T result;
+        private Exception failure;
+
+        Call(final Callable<T> op) {
+            this.op = op;
+        }
+
+        @Override
+        public void run() {
+            try {
+                result = op.call();
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+
+        T result() throws Exception {
+            if (failure != null) {
+                throw failure;
+            }
+            return result;
+        }
+    }
+}
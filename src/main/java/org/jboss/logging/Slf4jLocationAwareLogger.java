@@ -18,11 +18,12 @@
 
 package org.jboss.logging;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.lang.reflect.UndeclaredThrowableException;
-import java.text.MessageFormat;
 
+import org.slf4j.Marker;
 import org.slf4j.spi.LocationAwareLogger;
 
 final class Slf4jLocationAwareLogger extends Logger {
@@ -31,7 +32,8 @@ final class Slf4jLocationAwareLogger extends Logger {
 
     private static final Object[] EMPTY = new Object[0];
     private static final boolean POST_1_6;
-    private static final Method LOG_METHOD;
+    // The log method of SLF4J versions prior to 1.6, which is not available to compile against
+    private static final MethodHandle LEGACY_LOG;
 
     static {
         Method[] methods = LocationAwareLogger.class.getDeclaredMethods();
@@ -48,14 +50,24 @@ final class Slf4jLocationAwareLogger extends Logger {
             throw new NoSuchMethodError("Cannot find LocationAwareLogger.log() method");
         }
         POST_1_6 = post16;
-        LOG_METHOD = logMethod;
+        if (post16) {
+            LEGACY_LOG = null;
+        } else {
+            try {
+                LEGACY_LOG = MethodHandles.publicLookup().unreflect(logMethod);
+            } catch (IllegalAccessException e) {
+                throw new IllegalAccessError(e.getMessage());
+            }
+        }
     }
 
     private final LocationAwareLogger logger;
+    private transient final BackendFailures.Tracker failures;
 
     Slf4jLocationAwareLogger(final String name, final LocationAwareLogger logger) {
         super(name);
         this.logger = logger;
+        this.failures = new BackendFailures.Tracker("slf4j", name);
     }
 
     public boolean isEnabled(final Level level) {
@@ -79,41 +91,268 @@ final class Slf4jLocationAwareLogger extends Logger {
 
     protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
             final Throwable thrown) {
-        if (isEnabled(level)) {
-            final String text = parameters == null || parameters.length == 0 ? String.valueOf(message)
-                    : MessageFormat.format(String.valueOf(message), parameters);
-            doLog(logger, loggerClassName, translate(level), text, thrown);
+        if (isEnabled(level) && !failures.isOpen()) {
+            if (parameters == null || parameters.length == 0) {
+                logText(loggerClassName, translate(level), String.valueOf(message), thrown);
+                return;
+            }
+            final MessageTemplate template = MessageTemplate.of(String.valueOf(message));
+            final String pattern = POST_1_6 ? template.toSlf4jPattern(parameters.length) : null;
+            if (pattern != null && isPassThrough(parameters)) {
+                logPattern(loggerClassName, translate(level), pattern, parameters, thrown);
+            } else {
+                logText(loggerClassName, translate(level), template.format(parameters), thrown);
+            }
         }
     }
 
     protected void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
             final Throwable thrown) {
-        if (isEnabled(level)) {
-            final String text = parameters == null ? String.format(format) : String.format(format, parameters);
-            doLog(logger, loggerClassName, translate(level), text, thrown);
+        if (isEnabled(level) && !failures.isOpen()) {
+            final PrintfTemplate template = PrintfTemplate.of(format);
+            final String pattern = POST_1_6 && parameters != null ? template.toSlf4jPattern(parameters.length) : null;
+            if (pattern != null && isPassThrough(parameters)) {
+                logPattern(loggerClassName, translate(level), pattern, parameters, thrown);
+            } else {
+                logText(loggerClassName, translate(level), template.format(parameters), thrown);
+            }
         }
     }
 
-    private static void doLog(LocationAwareLogger logger, String className, int level, String text, Throwable thrown) {
+    @Override
+    protected void doLog1(final Level level, final String loggerClassName, final Object message, final Object param1,
+            final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            final MessageTemplate template = MessageTemplate.of(String.valueOf(message));
+            final String pattern = POST_1_6 ? template.toSlf4jPattern(1) : null;
+            if (pattern != null && isPassThrough(param1)) {
+                logPattern(loggerClassName, translate(level), pattern, new Object[] { param1 }, thrown);
+            } else {
+                logText(loggerClassName, translate(level), template.format(param1), thrown);
+            }
+        }
+    }
+
+    @Override
+    protected void doLog2(final Level level, final String loggerClassName, final Object message, final Object param1,
+            final Object param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            final MessageTemplate template = MessageTemplate.of(String.valueOf(message));
+            final String pattern = POST_1_6 ? template.toSlf4jPattern(2) : null;
+            if (pattern != null && isPassThrough(param1) && isPassThrough(param2)) {
+                logPattern(loggerClassName, translate(level), pattern, new Object[] { param1, param2 }, thrown);
+            } else {
+                logText(loggerClassName, translate(level), template.format(param1, param2), thrown);
+            }
+        }
+    }
+
+    @Override
+    protected void doLog3(final Level level, final String loggerClassName, final Object message, final Object param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            final MessageTemplate template = MessageTemplate.of(String.valueOf(message));
+            final String pattern = POST_1_6 ? template.toSlf4jPattern(3) : null;
+            if (pattern != null && isPassThrough(param1) && isPassThrough(param2) && isPassThrough(param3)) {
+                logPattern(loggerClassName, translate(level), pattern, new Object[] { param1, param2, param3 }, thrown);
+            } else {
+                logText(loggerClassName, translate(level), template.format(param1, param2, param3), thrown);
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            final PrintfTemplate template = PrintfTemplate.of(format);
+            final String pattern = POST_1_6 ? template.toSlf4jPattern(1) : null;
+            if (pattern != null && isPassThrough(param1)) {
+                logPattern(loggerClassName, translate(level), pattern, new Object[] { param1 }, thrown);
+            } else {
+                logText(loggerClassName, translate(level), template.format(param1), thrown);
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Object param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            final PrintfTemplate template = PrintfTemplate.of(format);
+            final String pattern = POST_1_6 ? template.toSlf4jPattern(2) : null;
+            if (pattern != null && isPassThrough(param1) && isPassThrough(param2)) {
+                logPattern(loggerClassName, translate(level), pattern, new Object[] { param1, param2 }, thrown);
+            } else {
+                logText(loggerClassName, translate(level), template.format(param1, param2), thrown);
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            final PrintfTemplate template = PrintfTemplate.of(format);
+            final String pattern = POST_1_6 ? template.toSlf4jPattern(3) : null;
+            if (pattern != null && isPassThrough(param1) && isPassThrough(param2) && isPassThrough(param3)) {
+                logPattern(loggerClassName, translate(level), pattern, new Object[] { param1, param2, param3 }, thrown);
+            } else {
+                logText(loggerClassName, translate(level), template.format(param1, param2, param3), thrown);
+            }
+        }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final int param1,
+            final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            logText(loggerClassName, translate(level), PrintfTemplate.of(format).format(param1), thrown);
+        }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final long param1,
+            final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            logText(loggerClassName, translate(level), PrintfTemplate.of(format).format(param1), thrown);
+        }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            logText(loggerClassName, translate(level), PrintfTemplate.of(format).format(param1, param2), thrown);
+        }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final int param1,
+            final Object param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            logText(loggerClassName, translate(level), PrintfTemplate.of(format).format(param1, param2), thrown);
+        }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            logText(loggerClassName, translate(level), PrintfTemplate.of(format).format(param1, param2), thrown);
+        }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final long param1,
+            final Object param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            logText(loggerClassName, translate(level), PrintfTemplate.of(format).format(param1, param2), thrown);
+        }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final int param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            logText(loggerClassName, translate(level), PrintfTemplate.of(format).format(param1, param2, param3),
+                    thrown);
+        }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            logText(loggerClassName, translate(level), PrintfTemplate.of(format).format(param1, param2, param3),
+                    thrown);
+        }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            logText(loggerClassName, translate(level), PrintfTemplate.of(format).format(param1, param2, param3),
+                    thrown);
+        }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final long param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            logText(loggerClassName, translate(level), PrintfTemplate.of(format).format(param1, param2, param3),
+                    thrown);
+        }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            logText(loggerClassName, translate(level), PrintfTemplate.of(format).format(param1, param2, param3),
+                    thrown);
+        }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen()) {
+            logText(loggerClassName, translate(level), PrintfTemplate.of(format).format(param1, param2, param3),
+                    thrown);
+        }
+    }
+
+    /**
+     * Logs the text, accounting for the failures of the log manager. Formatting the text happens before, so a failing
+     * format or parameter is not taken for a failure of the log manager. Unlike the other providers, the failure is
+     * thrown on to the caller, as this logger always did.
+     */
+    private void logText(String className, int level, String text, Throwable thrown) {
         try {
             if (POST_1_6) {
-                LOG_METHOD.invoke(logger, null, className, Integer.valueOf(level), text, EMPTY, thrown);
+                logger.log(null, className, level, text, EMPTY, thrown);
             } else {
-                LOG_METHOD.invoke(logger, null, className, Integer.valueOf(level), text, thrown);
+                LEGACY_LOG.invokeExact(logger, (Marker) null, className, level, text, thrown);
             }
-        } catch (InvocationTargetException e) {
-            try {
-                throw e.getCause();
-            } catch (RuntimeException ex) {
-                throw ex;
-            } catch (Error er) {
-                throw er;
-            } catch (Throwable throwable) {
-                throw new UndeclaredThrowableException(throwable);
+            failures.succeeded();
+        } catch (RuntimeException | Error e) {
+            failures.failed(e);
+            throw e;
+        } catch (Throwable t) {
+            failures.failed(t);
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    private void logPattern(String className, int level, String pattern, Object[] args, Throwable thrown) {
+        try {
+            logger.log(null, className, level, pattern, args, thrown);
+            failures.succeeded();
+        } catch (RuntimeException | Error e) {
+            failures.failed(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether SLF4J renders the parameter the same way as the message templates, so it can be passed through
+     * unformatted. Numbers and dates are localized by {@link java.text.MessageFormat}, SLF4J renders arrays itself and
+     * may treat a trailing {@link Throwable} as the exception.
+     */
+    private static boolean isPassThrough(final Object param) {
+        return param == null || param instanceof String || param instanceof Character || param instanceof Boolean;
+    }
+
+    private static boolean isPassThrough(final Object[] params) {
+        for (Object param : params) {
+            if (!isPassThrough(param)) {
+                return false;
             }
-        } catch (IllegalAccessException e) {
-            throw new IllegalAccessError(e.getMessage());
         }
+        return true;
     }
 
     private static int translate(Level level) {
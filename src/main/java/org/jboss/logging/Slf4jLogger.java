@@ -18,17 +18,17 @@
 
 package org.jboss.logging;
 
-import java.text.MessageFormat;
-
 final class Slf4jLogger extends Logger {
 
     private static final long serialVersionUID = 8685757928087758380L;
 
     private final org.slf4j.Logger logger;
+    private transient final BackendFailures.Tracker failures;
 
     Slf4jLogger(final String name, final org.slf4j.Logger logger) {
         super(name);
         this.logger = logger;
+        this.failures = new BackendFailures.Tracker("slf4j", name);
     }
 
     public boolean isEnabled(final Level level) {
@@ -53,42 +53,225 @@ final class Slf4jLogger extends Logger {
 
     protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
             final Throwable thrown) {
-        if (isEnabled(level))
+        if (isEnabled(level) && !failures.isOpen())
             try {
                 final String text = parameters == null || parameters.length == 0 ? String.valueOf(message)
-                        : MessageFormat.format(String.valueOf(message), parameters);
-                if (level == Level.INFO) {
-                    logger.info(text, thrown);
-                } else if (level == Level.WARN) {
-                    logger.warn(text, thrown);
-                } else if (level == Level.ERROR || level == Level.FATAL) {
-                    logger.error(text, thrown);
-                } else if (level == Level.DEBUG) {
-                    logger.debug(text, thrown);
-                } else if (level == Level.TRACE) {
-                    logger.debug(text, thrown);
-                }
+                        : MessageTemplate.of(String.valueOf(message)).format(parameters);
+                logText(level, text, thrown);
             } catch (Throwable ignored) {
             }
     }
 
     protected void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
             final Throwable thrown) {
-        if (isEnabled(level))
-            try {
-                final String text = parameters == null ? String.format(format) : String.format(format, parameters);
-                if (level == Level.INFO) {
-                    logger.info(text, thrown);
-                } else if (level == Level.WARN) {
-                    logger.warn(text, thrown);
-                } else if (level == Level.ERROR || level == Level.FATAL) {
-                    logger.error(text, thrown);
-                } else if (level == Level.DEBUG) {
-                    logger.debug(text, thrown);
-                } else if (level == Level.TRACE) {
-                    logger.debug(text, thrown);
-                }
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                final String text = PrintfTemplate.of(format).format(parameters);
+                logText(level, text, thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLog1(final Level level, final String loggerClassName, final Object message, final Object param1,
+            final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, MessageTemplate.of(String.valueOf(message)).format(param1), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLog2(final Level level, final String loggerClassName, final Object message, final Object param1,
+            final Object param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, MessageTemplate.of(String.valueOf(message)).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLog3(final Level level, final String loggerClassName, final Object message, final Object param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, MessageTemplate.of(String.valueOf(message)).format(param1, param2, param3), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Object param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final Object param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1, param2, param3), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final int param1,
+            final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf1(final Level level, final String loggerClassName, final String format, final long param1,
+            final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final int param1,
+            final Object param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf2(final Level level, final String loggerClassName, final String format, final long param1,
+            final Object param2, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1, param2), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final int param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1, param2, param3), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final int param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1, param2, param3), thrown);
             } catch (Throwable ignored) {
             }
     }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final int param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1, param2, param3), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final long param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1, param2, param3), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final long param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1, param2, param3), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    protected void doLogf3(final Level level, final String loggerClassName, final String format, final long param1,
+            final Object param2, final Object param3, final Throwable thrown) {
+        if (isEnabled(level) && !failures.isOpen())
+            try {
+                logText(level, PrintfTemplate.of(format).format(param1, param2, param3), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    /**
+     * Logs the text, accounting for the failures of the log manager. Formatting the text happens before, so a failing
+     * format or parameter is not taken for a failure of the log manager.
+     */
+    private void logText(final Level level, final String text, final Throwable thrown) {
+        try {
+            if (level == Level.INFO) {
+                logger.info(text, thrown);
+            } else if (level == Level.WARN) {
+                logger.warn(text, thrown);
+            } else if (level == Level.ERROR || level == Level.FATAL) {
+                logger.error(text, thrown);
+            } else if (level == Level.DEBUG) {
+                logger.debug(text, thrown);
+            } else if (level == Level.TRACE) {
+                logger.debug(text, thrown);
+            }
+            failures.succeeded();
+        } catch (Throwable t) {
+            failures.failed(t);
+        }
+    }
 }
@@ -31,8 +31,21 @@ import org.slf4j.spi.LocationAwareLogger;
  */
 public final class Slf4jLoggerProvider extends AbstractLoggerProvider implements LoggerProvider {
 
+    private final LoggerCache<Logger> loggers = new LoggerCache<>(Slf4jLoggerProvider::createLogger);
+
+    public Slf4jLoggerProvider() {
+        if (LevelSwitch.ENABLED && !LevelSwitch.listen(LoggerFactory.getILoggerFactory(), "addListener",
+                "ch.qos.logback.classic.spi.LoggerContextListener")) {
+            LevelSwitch.warnUnreported("SLF4J binding " + LoggerFactory.getILoggerFactory().getClass().getName());
+        }
+    }
+
     @Override
     public Logger getLogger(final String name) {
+        return loggers.get(name);
+    }
+
+    private static Logger createLogger(final String name) {
         org.slf4j.Logger l = LoggerFactory.getLogger(name);
         if (l instanceof LocationAwareLogger) {
             return new Slf4jLocationAwareLogger(name, (LocationAwareLogger) l);
@@ -58,6 +71,31 @@ public final class Slf4jLoggerProvider extends AbstractLoggerProvider implements
         }
     }
 
+    @Override
+    public void putMdcQuiet(final String key, final Object value) {
+        if (value == null) {
+            MDC.remove(key);
+        } else {
+            MDC.put(key, String.valueOf(value));
+        }
+    }
+
+    @Override
+    public void putMdcInt(final String key, final int value) {
+        // The MDC only holds strings, converting the primitive spares boxing it first
+        MDC.put(key, Integer.toString(value));
+    }
+
+    @Override
+    public void putMdcLong(final String key, final long value) {
+        MDC.put(key, Long.toString(value));
+    }
+
+    @Override
+    public void putMdcBoolean(final String key, final boolean value) {
+        MDC.put(key, Boolean.toString(value));
+    }
+
     @Override
     public Object getMdc(final String key) {
         return MDC.get(key);
@@ -73,4 +111,24 @@ public final class Slf4jLoggerProvider extends AbstractLoggerProvider implements
         final Map<String, String> copy = MDC.getCopyOfContextMap();
         return copy == null ? Collections.emptyMap() : new LinkedHashMap<>(copy);
     }
+
+    @Override
+    public Object captureContext() {
+        final Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return ContextSnapshot.of(mdc == null || mdc.isEmpty() ? null : mdc, captureNdc());
+    }
+
+    @Override
+    public void restoreContext(final Object context) {
+        final ContextSnapshot snapshot = (ContextSnapshot) context;
+        if (snapshot == null || snapshot.mdc == null) {
+            MDC.clear();
+        } else {
+            @SuppressWarnings("unchecked")
+            final Map<String, String> mdc = (Map<String, String>) snapshot.mdc;
+            // The adapter copies the map, so the snapshot is not changed by later puts
+            MDC.setContextMap(mdc);
+        }
+        restoreNdc(snapshot == null ? null : snapshot.ndc);
+    }
 }
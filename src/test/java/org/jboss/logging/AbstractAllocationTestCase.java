@@ -0,0 +1,180 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the bytes the calling thread allocates per log call and fails if a call exceeds its budget.
+ * <p>
+ * The logger is configured at {@code INFO} with a handler or appender which discards the messages. A disabled call
+ * must not allocate at all, apart from the array the caller allocates for a varargs call. An enabled call may allocate
+ * up to the budget of the provider.
+ * </p>
+ *
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+abstract class AbstractAllocationTestCase {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    // A three element array with or without compressed references
+    private static final long VARARGS_BUDGET = 48L;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+    private static final Object P1 = "one";
+    private static final Object P2 = "two";
+    private static final Object P3 = "three";
+    private static final Object P4 = "four";
+    private static final Object P5 = "five";
+    private static final Object P6 = "six";
+    private static final Object P7 = "seven";
+    private static final Object P8 = "eight";
+    private static final RuntimeException THROWN = new RuntimeException("allocation");
+
+    private Logger logger;
+
+    @AfterAll
+    public static void clearProviderProperty() {
+        System.clearProperty("org.jboss.logging.provider");
+    }
+
+    @BeforeEach
+    public void setupLogger() {
+        Assumptions.assumeTrue(THREAD_MX_BEAN != null && THREAD_MX_BEAN.isThreadAllocatedMemorySupported(),
+                "Allocated bytes are not supported by this JVM");
+        THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+        final String name = getClass().getName();
+        configure(name);
+        logger = Logger.getLogger(name);
+        Assertions.assertTrue(logger.isInfoEnabled());
+        Assertions.assertFalse(logger.isDebugEnabled());
+    }
+
+    @Test
+    public void testDisabled() {
+        final Map<String, Consumer<Logger>> calls = new LinkedHashMap<>();
+        calls.put("debug(Object)", l -> l.debug(P1));
+        calls.put("debug(Object, Throwable)", l -> l.debug(P1, THROWN));
+        calls.put("debugLazy(Supplier)", l -> l.debugLazy(() -> P1));
+        calls.put("debugf(String, Object)", l -> l.debugf("%s", P1));
+        calls.put("debugf(String, Object, Object)", l -> l.debugf("%s %s", P1, P2));
+        calls.put("debugf(String, Object, Object, Object)", l -> l.debugf("%s %s %s", P1, P2, P3));
+        calls.put("debugf(String, Object x5)", l -> l.debugf("%s %s %s %s %s", P1, P2, P3, P4, P5));
+        calls.put("debugf(String, Object x8)", l -> l.debugf("%s %s %s %s %s %s %s %s", P1, P2, P3, P4, P5, P6, P7, P8));
+        calls.put("debugf(Throwable, String, Object)", l -> l.debugf(THROWN, "%s", P1));
+        calls.put("debugfLazy(String, Supplier)", l -> l.debugfLazy("%s", () -> P1));
+        calls.put("debugv(String, Object)", l -> l.debugv("{0}", P1));
+        calls.put("debugv(String, Object, Object, Object)", l -> l.debugv("{0} {1} {2}", P1, P2, P3));
+        calls.put("debugv(String, Object x8)",
+                l -> l.debugv("{0} {1} {2} {3} {4} {5} {6} {7}", P1, P2, P3, P4, P5, P6, P7, P8));
+        calls.put("debugv(Throwable, String, Object)", l -> l.debugv(THROWN, "{0}", P1));
+        calls.put("tracef(String, int)", l -> l.tracef("%d", 1000));
+        calls.put("tracef(String, int, int, int)", l -> l.tracef("%d %d %d", 1000, 2000, 3000));
+        calls.put("tracef(String, long)", l -> l.tracef("%d", 1000L));
+        calls.put("tracef(String, long, long, long)", l -> l.tracef("%d %d %d", 1000L, 2000L, 3000L));
+        calls.put("log(Level, Object)", l -> l.log(Logger.Level.DEBUG, P1));
+        calls.put("logf(Level, String, Object)", l -> l.logf(Logger.Level.DEBUG, "%s", P1));
+        calls.put("logf(Level, String, Object x8)",
+                l -> l.logf(Logger.Level.DEBUG, "%s %s %s %s %s %s %s %s", P1, P2, P3, P4, P5, P6, P7, P8));
+        calls.put("logv(Level, String, Object)", l -> l.logv(Logger.Level.DEBUG, "{0}", P1));
+        calls.put("isDebugEnabled()", Logger::isDebugEnabled);
+        for (Map.Entry<String, Consumer<Logger>> entry : calls.entrySet()) {
+            assertBudget(entry.getKey(), 0L, entry.getValue());
+        }
+
+        // The caller allocates the array, which only escape analysis can remove
+        assertBudget("debugf(String, Object...)", VARARGS_BUDGET, l -> l.debugf("%s %s %s", new Object[] { P1, P2, P3 }));
+        assertBudget("debugv(String, Object...)", VARARGS_BUDGET, l -> l.debugv("{0} {1} {2}", new Object[] { P1, P2, P3 }));
+    }
+
+    @Test
+    public void testEnabled() {
+        final Map<String, Consumer<Logger>> calls = new LinkedHashMap<>();
+        calls.put("info(Object)", l -> l.info(P1));
+        calls.put("infof(String, Object)", l -> l.infof("%s", P1));
+        calls.put("infof(String, Object, Object, Object)", l -> l.infof("%s %s %s", P1, P2, P3));
+        calls.put("infof(String, Object x8)", l -> l.infof("%s %s %s %s %s %s %s %s", P1, P2, P3, P4, P5, P6, P7, P8));
+        calls.put("infov(String, Object)", l -> l.infov("{0}", P1));
+        calls.put("infov(String, Object, Object, Object)", l -> l.infov("{0} {1} {2}", P1, P2, P3));
+        calls.put("logf(Level, String, Object)", l -> l.logf(Logger.Level.INFO, "%s", P1));
+        for (Map.Entry<String, Consumer<Logger>> entry : calls.entrySet()) {
+            assertBudget(entry.getKey(), enabledBudget(), entry.getValue());
+        }
+        assertBudget("info(Object, Throwable)", enabledThrowableBudget(), l -> l.info(P1, THROWN));
+        assertBudget("infof(Throwable, String, Object)", enabledThrowableBudget(), l -> l.infof(THROWN, "%s", P1));
+    }
+
+    /**
+     * Configures the log manager logger with the name at {@code INFO} and a handler or appender which discards the
+     * messages, without passing them to the parent loggers.
+     *
+     * @param name the logger name
+     */
+    abstract void configure(String name);
+
+    /**
+     * The maximum number of bytes an enabled call may allocate on the calling thread.
+     *
+     * @return the budget in bytes
+     */
+    abstract long enabledBudget();
+
+    /**
+     * The maximum number of bytes an enabled call with a throwable may allocate on the calling thread.
+     *
+     * @return the budget in bytes
+     */
+    abstract long enabledThrowableBudget();
+
+    private void assertBudget(final String description, final long budget, final Consumer<Logger> call) {
+        final Logger logger = this.logger;
+        for (int i = 0; i < WARMUP; i++) {
+            call.accept(logger);
+        }
+        final long start = allocatedBytes();
+        final long overhead = allocatedBytes() - start;
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.accept(logger);
+        }
+        final long allocated = allocatedBytes() - start - (2 * overhead);
+        final double perCall = (double) allocated / ITERATIONS;
+        // Any allocation is at least 16 bytes, less than a byte per call are allocations which happen only once
+        Assertions.assertTrue(perCall < budget + 1, () -> String.format(
+                "%s allocated %.1f bytes per call, the budget is %d bytes", description, perCall, budget));
+    }
+
+    private static long allocatedBytes() {
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) bean : null;
+    }
+}
@@ -44,6 +44,30 @@ abstract class AbstractLoggerTestCase {
         Assertions.assertEquals(getLoggerClass(), getLogger().getClass());
     }
 
+    @Test
+    public void testLoggerCached() {
+        Assertions.assertSame(getLogger(), Logger.getLogger(getLogger().getName()));
+        Assertions.assertSame(getLogger(), Logger.getLogger(getClass()));
+        final Logger suffixed = Logger.getLogger(getClass(), "suffix");
+        Assertions.assertEquals(getClass().getName() + ".suffix", suffixed.getName());
+        Assertions.assertSame(suffixed, Logger.getLogger(getClass(), "suffix"));
+    }
+
+    @Test
+    public void testTypedMdc() {
+        MDC.putInt("int", 42);
+        MDC.putLong("long", Long.MAX_VALUE);
+        MDC.putBoolean("boolean", true);
+        MDC.putQuiet("quiet", "value");
+        assertTypedMdc();
+
+        // The typed values survive a captured context
+        final LoggingContext context = LoggingContext.capture();
+        MDC.clear();
+        context.restore();
+        assertTypedMdc();
+    }
+
     @Test
     public void testLog() {
         for (Logger.Level level : Logger.Level.values()) {
@@ -87,6 +111,51 @@ abstract class AbstractLoggerTestCase {
         testLog("Test log level FATAL", Logger.Level.FATAL);
     }
 
+    @Test
+    public void testSupplier() {
+        getLogger().infoLazy(() -> "Supplied message");
+        testLog("Supplied message", Logger.Level.INFO);
+        getLogger().warnfLazy("Supplied %s and %s", () -> "first", () -> 2);
+        testLog("Supplied first and 2", Logger.Level.WARN);
+        new DelegatingBasicLogger(getLogger()).errorfLazy(new RuntimeException(), "Supplied %s", () -> "delegated");
+        testLog("Supplied delegated", Logger.Level.ERROR);
+    }
+
+    @Test
+    public void testManyParameters() {
+        getLogger().infof("Parameters %s %s %s %s %s", 1, 2, 3, 4, 5);
+        testLog("Parameters 1 2 3 4 5", Logger.Level.INFO);
+        getLogger().warnf("Parameters %s %s %s %s %s %s %s %s", "a", "b", "c", "d", "e", "f", "g", "h");
+        testLog("Parameters a b c d e f g h", Logger.Level.WARN);
+        new DelegatingBasicLogger(getLogger()).errorf("Parameters %s %s %s %s", "a", "b", "c", "d");
+        testLog("Parameters a b c d", Logger.Level.ERROR);
+    }
+
+    @Test
+    public void testNullThrowable() {
+        // Compiles only if a null throwable with three parameters resolves to a single overload
+        getLogger().logf(Logger.Level.INFO, null, "Parameters %s %s %s", "a", "b", "c");
+        testLog("Parameters a b c", Logger.Level.INFO);
+        // Some log managers leave message format patterns to their handlers
+        getLogger().logv(Logger.Level.WARN, null, "Parameters", "a", "b", "c");
+        testLog("Parameters", Logger.Level.WARN);
+        getLogger().errorf(null, "Parameters %s %s %s", "a", "b", "c");
+        testLog("Parameters a b c", Logger.Level.ERROR);
+        new DelegatingBasicLogger(getLogger()).fatalv(null, "Parameters", "a", "b", "c");
+        testLog("Parameters", Logger.Level.FATAL);
+    }
+
+    /**
+     * Checks the values {@link #testTypedMdc()} put. Providers whose log manager stores typed values check the type
+     * as well.
+     */
+    void assertTypedMdc() {
+        Assertions.assertEquals("42", String.valueOf(MDC.get("int")));
+        Assertions.assertEquals(String.valueOf(Long.MAX_VALUE), String.valueOf(MDC.get("long")));
+        Assertions.assertEquals("true", String.valueOf(MDC.get("boolean")));
+        Assertions.assertEquals("value", MDC.get("quiet"));
+    }
+
     abstract void testLog(Logger.Level level);
 
     abstract void testLog(String msg, Logger.Level level);
@@ -0,0 +1,256 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.text.MessageFormat;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class AsyncLoggerProviderTestCase {
+
+    @Test
+    public void testReplay() {
+        final RecordingProvider delegate = new RecordingProvider();
+        final AsyncLoggerProvider provider = new AsyncLoggerProvider(delegate, 16, AsyncLoggerProvider.OverflowPolicy.BLOCK,
+                Logger.Level.INFO);
+        final Logger logger = provider.getLogger(AsyncLoggerProviderTestCase.class.getName());
+        provider.putMdc("key", "first");
+        provider.pushNdc("ndc");
+        logger.infof("Message %d", 1);
+        provider.putMdc("key", "second");
+        provider.clearNdc();
+        logger.infov("Message {0}", 2);
+        logger.debug("Not logged");
+        provider.close();
+
+        Assertions.assertEquals(
+                List.of(record("Message 1", "first", "ndc"), record("Message 2", "second", null)),
+                delegate.records);
+        // Only the calling thread has an MDC, the background thread had it restored per message
+        Assertions.assertEquals("second", provider.getMdc("key"));
+        Assertions.assertEquals(0, provider.getDroppedCount());
+        Assertions.assertSame(logger, provider.getLogger(AsyncLoggerProviderTestCase.class.getName()));
+    }
+
+    @Test
+    public void testSnapshot() {
+        final RecordingProvider delegate = new RecordingProvider();
+        final AsyncLoggerProvider provider = new AsyncLoggerProvider(delegate, 16, AsyncLoggerProvider.OverflowPolicy.BLOCK,
+                Logger.Level.INFO);
+        final Logger logger = provider.getLogger(AsyncLoggerProviderTestCase.class.getName());
+        final StringBuilder value = new StringBuilder("logged");
+        logger.info("blocking");
+        logger.infof("Message %s %d", value, 1);
+        logger.info(value);
+        value.setLength(0);
+        value.append("changed");
+        delegate.release.countDown();
+        provider.close();
+        Assertions.assertEquals(List.of(record("blocking"), record("Message logged 1"), record("logged")),
+                delegate.records);
+    }
+
+    @Test
+    public void testFormattedSnapshot() {
+        final RecordingProvider delegate = new RecordingProvider();
+        final AsyncLoggerProvider provider = new AsyncLoggerProvider(delegate, 16, AsyncLoggerProvider.OverflowPolicy.BLOCK,
+                Logger.Level.INFO);
+        final Logger logger = provider.getLogger(AsyncLoggerProviderTestCase.class.getName());
+        final Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.YEAR, 2020);
+        final AtomicInteger count = new AtomicInteger(3);
+        logger.info("blocking");
+        logger.infof("Year %tY", calendar);
+        logger.infov("n={0,number,#.0}", count);
+        calendar.set(Calendar.YEAR, 2021);
+        count.set(4);
+        delegate.release.countDown();
+        provider.close();
+        Assertions.assertEquals(List.of(record("blocking"), record("Year 2020"),
+                record(MessageFormat.format("n={0,number,#.0}", 3))), delegate.records);
+    }
+
+    @Test
+    public void testFailure() {
+        final RecordingProvider delegate = new RecordingProvider();
+        final AsyncLoggerProvider provider = new AsyncLoggerProvider(delegate, 16, AsyncLoggerProvider.OverflowPolicy.BLOCK,
+                Logger.Level.INFO);
+        final Logger logger = provider.getLogger(AsyncLoggerProviderTestCase.class.getName());
+        final List<String> reports = new CopyOnWriteArrayList<>();
+        BackendFailures.setListener(new BackendFailures.Listener() {
+            @Override
+            public void asyncFailed(final String category, final Throwable cause) {
+                reports.add(category + " " + cause.getMessage());
+            }
+        });
+        try {
+            provider.putMdc("key", "value");
+            logger.info("fail");
+            logger.info("Message");
+            provider.close();
+        } finally {
+            BackendFailures.setListener(null);
+        }
+        Assertions.assertEquals(1, provider.getFailedCount());
+        Assertions.assertEquals(List.of(record("Message", "value", null)), delegate.records);
+        Assertions.assertEquals(List.of(AsyncLoggerProviderTestCase.class.getName() + " Expected failure"), reports);
+    }
+
+    @Test
+    public void testInvalidProperties() {
+        System.setProperty(AsyncLoggerProvider.CAPACITY_KEY, "many");
+        System.setProperty(AsyncLoggerProvider.OVERFLOW_KEY, "discard");
+        System.setProperty(AsyncLoggerProvider.OVERFLOW_LEVEL_KEY, "LOUD");
+        final List<String> reports = new CopyOnWriteArrayList<>();
+        BackendFailures.setListener(new BackendFailures.Listener() {
+            @Override
+            public void configurationProblem(final String message, final Throwable cause) {
+                reports.add(message);
+            }
+        });
+        try {
+            final RecordingProvider delegate = new RecordingProvider();
+            final AsyncLoggerProvider provider = new AsyncLoggerProvider(delegate);
+            provider.getLogger(AsyncLoggerProviderTestCase.class.getName()).info("Message");
+            provider.close();
+            Assertions.assertEquals(List.of(record("Message")), delegate.records);
+            Assertions.assertEquals(3, reports.size(), reports::toString);
+            Assertions.assertTrue(reports.get(0).contains(AsyncLoggerProvider.CAPACITY_KEY), reports::toString);
+        } finally {
+            BackendFailures.setListener(null);
+            System.clearProperty(AsyncLoggerProvider.CAPACITY_KEY);
+            System.clearProperty(AsyncLoggerProvider.OVERFLOW_KEY);
+            System.clearProperty(AsyncLoggerProvider.OVERFLOW_LEVEL_KEY);
+        }
+    }
+
+    @Test
+    public void testDropNewest() throws Exception {
+        final RecordingProvider delegate = new RecordingProvider();
+        final AsyncLoggerProvider provider = new AsyncLoggerProvider(delegate, 2,
+                AsyncLoggerProvider.OverflowPolicy.DROP_NEWEST, Logger.Level.INFO);
+        final Logger logger = provider.getLogger(AsyncLoggerProviderTestCase.class.getName());
+        logger.info("blocking");
+        Assertions.assertTrue(delegate.blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            logger.infof("Message %d", i);
+        }
+        Assertions.assertEquals(3, provider.getDroppedCount());
+        delegate.release.countDown();
+        provider.close();
+        Assertions.assertEquals(List.of(record("blocking"), record("Message 0"), record("Message 1")), delegate.records);
+    }
+
+    @Test
+    public void testDropBelowLevel() throws Exception {
+        final RecordingProvider delegate = new RecordingProvider();
+        final AsyncLoggerProvider provider = new AsyncLoggerProvider(delegate, 2,
+                AsyncLoggerProvider.OverflowPolicy.DROP_BELOW_LEVEL, Logger.Level.WARN);
+        final Logger logger = provider.getLogger(AsyncLoggerProviderTestCase.class.getName());
+        logger.info("blocking");
+        Assertions.assertTrue(delegate.blocked.await(5, TimeUnit.SECONDS));
+        logger.info("Message 0");
+        logger.info("Message 1");
+        logger.info("Dropped");
+        Assertions.assertEquals(1, provider.getDroppedCount());
+
+        // An error waits for room in the buffer
+        final Thread thread = new Thread(() -> logger.error("Error"), Thread.currentThread().getName());
+        thread.start();
+        final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (provider.getBlockedCount() == 0 && System.nanoTime() < end) {
+            Thread.sleep(10L);
+        }
+        Assertions.assertEquals(1, provider.getBlockedCount());
+        delegate.release.countDown();
+        thread.join(5000L);
+        provider.close();
+        Assertions.assertEquals(List.of(record("blocking"), record("Message 0"), record("Message 1"), record("Error")),
+                delegate.records);
+    }
+
+    private static String record(final String message) {
+        return record(message, null, null);
+    }
+
+    private static String record(final String message, final String mdc, final String ndc) {
+        return message + "|" + Thread.currentThread().getName() + "|" + mdc + "|" + ndc;
+    }
+
+    static class RecordingProvider extends AbstractMdcLoggerProvider implements LoggerProvider {
+        final List<String> records = new CopyOnWriteArrayList<>();
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public Logger getLogger(final String name) {
+            return new RecordingLogger(name);
+        }
+
+        class RecordingLogger extends Logger {
+
+            RecordingLogger(final String name) {
+                super(name);
+            }
+
+            @Override
+            protected void doLog(final Level level, final String loggerClassName, final Object message,
+                    final Object[] parameters, final Throwable thrown) {
+                record(parameters == null ? String.valueOf(message)
+                        : MessageFormat.format(String.valueOf(message), parameters));
+            }
+
+            @Override
+            protected void doLogf(final Level level, final String loggerClassName, final String format,
+                    final Object[] parameters, final Throwable thrown) {
+                record(String.format(format, parameters));
+            }
+
+            @Override
+            public boolean isEnabled(final Level level) {
+                return level.compareTo(Level.INFO) <= 0;
+            }
+
+            private void record(final String message) {
+                if ("fail".equals(message)) {
+                    throw new IllegalStateException("Expected failure");
+                }
+                if ("blocking".equals(message)) {
+                    blocked.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                records.add(message + "|" + getMdc(AsyncLoggerProvider.THREAD_NAME_KEY) + "|" + getMdc("key") + "|" + getNdc());
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.logging;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class BackendFailuresTestCase {
+
+    @BeforeAll
+    public static void enableCircuitBreaker() {
+        AssumeUtil.assumeNotJavaEa();
+        System.setProperty(BackendFailures.THRESHOLD_KEY, "3");
+        System.setProperty(BackendFailures.BACKOFF_KEY, "500");
+        Assertions.assertEquals(3, BackendFailures.THRESHOLD,
+                "The circuit breaker was initialized before the property was set");
+    }
+
+    @AfterAll
+    public static void resetListener() {
+        BackendFailures.setListener(null);
+    }
+
+    @Test
+    public void testCircuitBreaker() throws Exception {
+        final List<String> reports = new CopyOnWriteArrayList<>();
+        BackendFailures.setListener(new BackendFailures.Listener() {
+            @Override
+            public void failed(final String provider, final String category, final Throwable cause) {
+                reports.add("failed " + provider + " " + cause.getMessage());
+            }
+
+            @Override
+            public void circuitOpened(final String provider, final String category, final int failures,
+                    final Throwable cause) {
+                reports.add("opened " + provider + " " + failures);
+            }
+
+            @Override
+            public void circuitClosed(final String provider, final String category) {
+                reports.add("closed " + provider);
+            }
+        });
+        final String category = BackendFailuresTestCase.class.getName();
+        final org.apache.log4j.Logger log4jLogger = org.apache.log4j.Logger.getLogger(category);
+        log4jLogger.setLevel(org.apache.log4j.Level.INFO);
+        log4jLogger.setAdditivity(false);
+        final FailingAppender appender = new FailingAppender();
+        log4jLogger.addAppender(appender);
+        final Logger logger = new Log4jLogger(category);
+        final long failures = BackendFailures.getFailureCount("log4j");
+
+        for (int i = 0; i < 5; i++) {
+            logger.infof("Message %d", i);
+        }
+        // The appender is not called once the circuit is open
+        Assertions.assertEquals(3, appender.calls);
+        Assertions.assertEquals(failures + 3, BackendFailures.getFailureCount("log4j"));
+        Assertions.assertEquals(List.of("failed log4j broken", "failed log4j broken", "failed log4j broken", "opened log4j 3"),
+                reports);
+
+        // After the back-off a single call probes the log manager, which still fails, so the circuit opens again
+        Thread.sleep(600L);
+        logger.info("Probe");
+        logger.info("Skipped");
+        Assertions.assertEquals(4, appender.calls);
+        Assertions.assertEquals("failed log4j broken", reports.get(reports.size() - 1));
+
+        // After the next back-off the probe succeeds and closes the circuit
+        Thread.sleep(600L);
+        appender.fail = false;
+        logger.info("Recovered");
+        logger.info("Logged");
+        Assertions.assertEquals(List.of("Recovered", "Logged"), appender.messages);
+        Assertions.assertEquals("closed log4j", reports.get(reports.size() - 1));
+    }
+
+    @Test
+    public void testFormattingFailure() {
+        final String category = BackendFailuresTestCase.class.getName() + ".format";
+        final org.apache.log4j.Logger log4jLogger = org.apache.log4j.Logger.getLogger(category);
+        log4jLogger.setLevel(org.apache.log4j.Level.INFO);
+        log4jLogger.setAdditivity(false);
+        final FailingAppender appender = new FailingAppender();
+        appender.fail = false;
+        log4jLogger.addAppender(appender);
+        final Logger logger = new Log4jLogger(category);
+        final long failures = BackendFailures.getFailureCount("log4j");
+        final Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("broken parameter");
+            }
+        };
+
+        // Neither the format nor the parameter is a failure of the log manager
+        for (int i = 0; i < 5; i++) {
+            logger.infof("Message %d", "not a number");
+            logger.infov("Message {0}", broken);
+        }
+        logger.info("Logged");
+        Assertions.assertEquals(failures, BackendFailures.getFailureCount("log4j"));
+        Assertions.assertEquals(List.of("Logged"), appender.messages);
+    }
+
+    @Test
+    public void testInvalidProperty() {
+        final List<String> reports = new CopyOnWriteArrayList<>();
+        BackendFailures.setListener(new BackendFailures.Listener() {
+            @Override
+            public void configurationProblem(final String message, final Throwable cause) {
+                reports.add(message);
+            }
+        });
+        final String key = BackendFailures.THRESHOLD_KEY + ".test";
+        System.setProperty(key, "three");
+        try {
+            Assertions.assertEquals(7L, BackendFailures.longProperty(key, 7L));
+            System.setProperty(key, "-1");
+            Assertions.assertEquals(7L, BackendFailures.longProperty(key, 7L));
+            System.setProperty(key, " 3 ");
+            Assertions.assertEquals(3L, BackendFailures.longProperty(key, 7L));
+            Assertions.assertEquals(List.of("invalid value \"three\" for the " + key + " system property, using 7",
+                    "invalid value \"-1\" for the " + key + " system property, using 7"), reports);
+        } finally {
+            BackendFailures.setListener(null);
+            System.clearProperty(key);
+        }
+    }
+
+    static class FailingAppender extends AppenderSkeleton {
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        volatile boolean fail = true;
+        int calls;
+
+        @Override
+        protected void append(final LoggingEvent event) {
+            calls++;
+            if (fail) {
+                throw new IllegalStateException("broken");
+            }
+            messages.add(event.getRenderedMessage());
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean requiresLayout() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.logging;
+
+import org.junit.jupiter.api.BeforeAll;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class JBossLogManagerAllocationTestCase extends AbstractAllocationTestCase {
+    // Loggers are only weakly referenced by the log manager
+    private static java.util.logging.Logger julLogger;
+
+    @BeforeAll
+    public static void setup() {
+        if (System.getProperty("java.util.logging.manager") == null) {
+            System.setProperty("java.util.logging.manager", "org.jboss.logmanager.LogManager");
+        }
+        System.setProperty("org.jboss.logging.provider", "jboss");
+    }
+
+    @Override
+    void configure(final String name) {
+        julLogger = JulAllocationTestCase.configureJul(name);
+    }
+
+    @Override
+    long enabledBudget() {
+        return 2048L;
+    }
+
+    @Override
+    long enabledThrowableBudget() {
+        return 2048L;
+    }
+}
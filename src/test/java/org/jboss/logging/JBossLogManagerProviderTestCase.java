@@ -25,6 +25,7 @@ import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
+import org.jboss.logmanager.ExtLogRecord;
 import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.LogContextSelector;
 import org.junit.jupiter.api.AfterAll;
@@ -82,6 +83,14 @@ public class JBossLogManagerProviderTestCase extends AbstractLoggerTestCase {
         Assertions.assertEquals("value", org.jboss.logmanager.MDC.get("test.key"));
     }
 
+    @Override
+    void assertTypedMdc() {
+        super.assertTypedMdc();
+        Assertions.assertEquals(42, MDC.get("int"));
+        Assertions.assertEquals(Long.MAX_VALUE, MDC.get("long"));
+        Assertions.assertEquals(Boolean.TRUE, MDC.get("boolean"));
+    }
+
     @Test
     public void testNdc() {
         NDC.push("value1");
@@ -103,6 +112,27 @@ public class JBossLogManagerProviderTestCase extends AbstractLoggerTestCase {
         Assertions.assertEquals(1, org.jboss.logmanager.NDC.getDepth());
     }
 
+    @Test
+    public void testPrimitivePrintf() {
+        // The primitive overloads must produce the same record as the boxed parameters
+        logger.tracef("%d-%d", 1L, 2L);
+        final ExtLogRecord primitive = (ExtLogRecord) handler.queue.poll();
+        logger.tracef("%d-%d", new Object[] { 1L, 2L });
+        final ExtLogRecord boxed = (ExtLogRecord) handler.queue.poll();
+        Assertions.assertNotNull(primitive);
+        Assertions.assertNotNull(boxed);
+        Assertions.assertEquals(boxed.getFormatStyle(), primitive.getFormatStyle());
+        Assertions.assertArrayEquals(boxed.getParameters(), primitive.getParameters());
+        Assertions.assertEquals(boxed.getMessage(), primitive.getMessage());
+        Assertions.assertEquals("1-2", String.format(primitive.getMessage(), primitive.getParameters()));
+
+        // A missing argument is reported by the log manager rather than thrown to the caller
+        Assertions.assertDoesNotThrow(() -> logger.debugf("%d %s %s", 1, "a"));
+        final LogRecord missing = handler.queue.poll();
+        Assertions.assertDoesNotThrow(() -> logger.debugf("%d %s %s", new Object[] { 1, "a" }));
+        Assertions.assertEquals(handler.queue.poll() == null, missing == null);
+    }
+
     @Override
     void testLog(final Logger.Level level) {
         final String msg = String.format("Test log message at %s", level);
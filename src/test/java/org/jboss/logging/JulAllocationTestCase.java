@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.logging;
+
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.BeforeAll;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class JulAllocationTestCase extends AbstractAllocationTestCase {
+    // Loggers are only weakly referenced by the log manager
+    private static java.util.logging.Logger julLogger;
+
+    @BeforeAll
+    public static void setup() {
+        System.setProperty("org.jboss.logging.provider", "jdk");
+    }
+
+    @Override
+    void configure(final String name) {
+        julLogger = configureJul(name);
+    }
+
+    @Override
+    long enabledBudget() {
+        return 1024L;
+    }
+
+    @Override
+    long enabledThrowableBudget() {
+        return 1024L;
+    }
+
+    static java.util.logging.Logger configureJul(final String name) {
+        final java.util.logging.Logger julLogger = java.util.logging.Logger.getLogger(name);
+        julLogger.setLevel(Level.INFO);
+        julLogger.setUseParentHandlers(false);
+        for (Handler handler : julLogger.getHandlers()) {
+            julLogger.removeHandler(handler);
+        }
+        julLogger.addHandler(new DiscardingHandler());
+        return julLogger;
+    }
+
+    private static class DiscardingHandler extends Handler {
+
+        @Override
+        public void publish(final LogRecord record) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws SecurityException {
+        }
+    }
+}
@@ -60,6 +60,14 @@ public class JulProviderTestCase extends AbstractLoggerTestCase {
         Assertions.assertEquals("value", MDC.get("test.key"));
     }
 
+    @Override
+    void assertTypedMdc() {
+        super.assertTypedMdc();
+        Assertions.assertEquals(42, MDC.get("int"));
+        Assertions.assertEquals(Long.MAX_VALUE, MDC.get("long"));
+        Assertions.assertEquals(Boolean.TRUE, MDC.get("boolean"));
+    }
+
     @Test
     public void testNdc() {
         NDC.push("value1");
@@ -74,6 +82,15 @@ public class JulProviderTestCase extends AbstractLoggerTestCase {
         Assertions.assertEquals("value1", NDC.get());
     }
 
+    @Test
+    public void testCaller() {
+        logger.infof("Caller %s", "test");
+        final LogRecord logRecord = handler.queue.poll();
+        Assertions.assertNotNull(logRecord, "No record found");
+        Assertions.assertEquals(JulProviderTestCase.class.getName(), logRecord.getSourceClassName());
+        Assertions.assertEquals("testCaller", logRecord.getSourceMethodName());
+    }
+
     @Override
     void testLog(final Logger.Level level) {
         final String msg = String.format("Test log message at %s", level);
@@ -114,6 +131,8 @@ public class JulProviderTestCase extends AbstractLoggerTestCase {
 
         @Override
         public void publish(final LogRecord record) {
+            // The caller must be resolved on the logging thread
+            record.getSourceClassName();
             queue.add(record);
         }
 
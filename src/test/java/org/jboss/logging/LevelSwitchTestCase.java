@@ -0,0 +1,143 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class LevelSwitchTestCase {
+
+    @BeforeAll
+    public static void enableCache() {
+        System.setProperty(LevelSwitch.LEVEL_CACHE_KEY, "true");
+        Assertions.assertTrue(LevelSwitch.ENABLED, "The level cache was initialized before the property was set");
+    }
+
+    @Test
+    public void testCachedUntilInvalidated() {
+        final TestLogger logger = new TestLogger(Logger.Level.INFO);
+        Assertions.assertFalse(logger.isTraceEnabled());
+        Assertions.assertTrue(logger.isInfoEnabled());
+        logger.trace("dropped");
+        logger.info("logged");
+        Assertions.assertEquals(2, logger.checks);
+        Assertions.assertEquals(List.of("logged"), logger.messages);
+
+        // The log manager level change is not seen until the cache is invalidated
+        logger.threshold = Logger.Level.TRACE;
+        Assertions.assertFalse(logger.isTraceEnabled());
+        Logger.invalidateLevelCache();
+        Assertions.assertTrue(logger.isTraceEnabled());
+        logger.trace("logged");
+        Assertions.assertEquals(3, logger.checks);
+        Assertions.assertEquals(List.of("logged", "logged"), logger.messages);
+    }
+
+    @Test
+    public void testJdkThreshold() {
+        final java.util.logging.Logger julLogger = java.util.logging.Logger.getLogger("levelswitch.jul");
+        julLogger.setLevel(java.util.logging.Level.INFO);
+        final JDKLogger logger = new JDKLogger("levelswitch.jul");
+        Assertions.assertTrue(logger.isEnabled(Logger.Level.INFO));
+        Assertions.assertFalse(logger.isEnabled(Logger.Level.DEBUG));
+
+        julLogger.setLevel(java.util.logging.Level.ALL);
+        Assertions.assertFalse(logger.isEnabled(Logger.Level.DEBUG));
+        Logger.invalidateLevelCache();
+        Assertions.assertTrue(logger.isEnabled(Logger.Level.DEBUG));
+    }
+
+    @Test
+    public void testLog4jThreshold() {
+        new Log4jLoggerProvider();
+        final org.apache.log4j.Logger log4jLogger = org.apache.log4j.Logger.getLogger("levelswitch.log4j");
+        log4jLogger.setLevel(org.apache.log4j.Level.INFO);
+        final Log4jLogger logger = new Log4jLogger("levelswitch.log4j");
+        Assertions.assertTrue(logger.isEnabled(Logger.Level.INFO));
+        Assertions.assertFalse(logger.isEnabled(Logger.Level.DEBUG));
+
+        // Adding an appender is reported by the hierarchy and invalidates the cache
+        log4jLogger.setLevel(org.apache.log4j.Level.DEBUG);
+        Assertions.assertFalse(logger.isEnabled(Logger.Level.DEBUG));
+        log4jLogger.addAppender(new org.apache.log4j.varia.NullAppender());
+        Assertions.assertTrue(logger.isEnabled(Logger.Level.DEBUG));
+    }
+
+    @Test
+    public void testLog4j2LevelChange() {
+        final Logger logger = new Log4j2LoggerProvider().getLogger("levelswitch.log4j2");
+        org.apache.logging.log4j.core.config.Configurator.setLevel("levelswitch.log4j2",
+                org.apache.logging.log4j.Level.INFO);
+        Assertions.assertFalse(logger.isDebugEnabled());
+
+        // The logger context reports the level change
+        org.apache.logging.log4j.core.config.Configurator.setLevel("levelswitch.log4j2",
+                org.apache.logging.log4j.Level.DEBUG);
+        Assertions.assertTrue(logger.isDebugEnabled());
+    }
+
+    @Test
+    public void testLogbackLevelChange() {
+        final Logger logger = new Slf4jLoggerProvider().getLogger("levelswitch.logback");
+        final ch.qos.logback.classic.Logger logbackLogger = (ch.qos.logback.classic.Logger) org.slf4j.LoggerFactory
+                .getLogger("levelswitch.logback");
+        logbackLogger.setLevel(ch.qos.logback.classic.Level.INFO);
+        Assertions.assertFalse(logger.isDebugEnabled());
+
+        // The logger context reports the level change
+        logbackLogger.setLevel(ch.qos.logback.classic.Level.DEBUG);
+        Assertions.assertTrue(logger.isDebugEnabled());
+    }
+
+    static class TestLogger extends Logger {
+        final List<String> messages = new ArrayList<>();
+        Level threshold;
+        int checks;
+
+        TestLogger(final Level threshold) {
+            super(LevelSwitchTestCase.class.getName());
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
+                final Throwable thrown) {
+            messages.add(String.valueOf(message));
+        }
+
+        @Override
+        protected void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
+                final Throwable thrown) {
+            messages.add(String.format(format, parameters));
+        }
+
+        @Override
+        public boolean isEnabled(final Level level) {
+            checks++;
+            return level.compareTo(threshold) <= 0;
+        }
+    }
+}
@@ -67,6 +67,15 @@ public class Log4j2ProviderTestCase extends AbstractLoggerTestCase {
         Assertions.assertEquals("value", ThreadContext.get("test.key"));
     }
 
+    @Override
+    void assertTypedMdc() {
+        super.assertTypedMdc();
+        // Code reading the thread context directly expects strings
+        Assertions.assertEquals("42", ThreadContext.get("int"));
+        Assertions.assertEquals(String.valueOf(Long.MAX_VALUE), ThreadContext.get("long"));
+        Assertions.assertEquals("true", ThreadContext.get("boolean"));
+    }
+
     @Test
     public void testNdc() {
         NDC.push("value1");
@@ -90,6 +99,31 @@ public class Log4j2ProviderTestCase extends AbstractLoggerTestCase {
         Assertions.assertEquals(1, ThreadContext.getDepth());
     }
 
+    @Test
+    public void testParameters() {
+        logger.infov("Parameters {0} and {1}", "first", 'c');
+        LogEvent event = appender.queue.poll();
+        Assertions.assertNotNull(event, "No record found");
+        Assertions.assertEquals("Parameters first and c", event.getMessage().getFormattedMessage());
+        Assertions.assertArrayEquals(new Object[] { "first", 'c' }, event.getMessage().getParameters());
+
+        logger.infof("Parameters %s and %d", "first", 2);
+        event = appender.queue.poll();
+        Assertions.assertNotNull(event, "No record found");
+        Assertions.assertEquals("Parameters first and 2", event.getMessage().getFormattedMessage());
+
+        logger.infof("Parameters %s, %s, %s and %s", "first", "second", "third", "fourth");
+        event = appender.queue.poll();
+        Assertions.assertNotNull(event, "No record found");
+        Assertions.assertEquals("Parameters first, second, third and fourth", event.getMessage().getFormattedMessage());
+
+        // An invalid format is logged as is
+        logger.infof("Invalid %d", "first");
+        event = appender.queue.poll();
+        Assertions.assertNotNull(event, "No record found");
+        Assertions.assertEquals("Invalid %d", event.getMessage().getFormattedMessage());
+    }
+
     @Override
     void testLog(final Logger.Level level) {
         final String msg = String.format("Test log message at %s", level);
@@ -0,0 +1,53 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.logging;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.varia.NullAppender;
+import org.junit.jupiter.api.BeforeAll;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class Log4jAllocationTestCase extends AbstractAllocationTestCase {
+
+    @BeforeAll
+    public static void setup() {
+        AssumeUtil.assumeNotJavaEa();
+        System.setProperty("org.jboss.logging.provider", "log4j");
+    }
+
+    @Override
+    void configure(final String name) {
+        final org.apache.log4j.Logger log4jLogger = org.apache.log4j.Logger.getLogger(name);
+        log4jLogger.setLevel(Level.INFO);
+        log4jLogger.setAdditivity(false);
+        log4jLogger.removeAllAppenders();
+        log4jLogger.addAppender(new NullAppender());
+    }
+
+    @Override
+    long enabledBudget() {
+        return 512L;
+    }
+
+    @Override
+    long enabledThrowableBudget() {
+        return 512L;
+    }
+}
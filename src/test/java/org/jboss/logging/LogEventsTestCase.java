@@ -0,0 +1,104 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.logging;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class LogEventsTestCase {
+
+    @Test
+    public void testEvents() throws Exception {
+        Assumptions.assumeTrue(LogEvents.AVAILABLE, "Flight Recorder is not available");
+        final String category = LogEventsTestCase.class.getName();
+        final Logger logger = new TestLogger(category);
+        final Path file = Files.createTempFile("jboss-logging", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable("org.jboss.logging.LogCall");
+                recording.enable("org.jboss.logging.LogDispatch").withThreshold(Duration.ZERO);
+                recording.start();
+                logger.infof("Message %s", "one");
+                logger.debug("Not logged");
+                logger.warnLazy(() -> "Supplied");
+                // The dispatch event ends even if the provider throws
+                Assertions.assertThrows(IllegalStateException.class, () -> logger.error("fail"));
+                recording.stop();
+                recording.dump(file);
+            }
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> category.equals(e.getString("category")))
+                    .collect(Collectors.toList());
+            final List<String> calls = events.stream()
+                    .filter(e -> e.getEventType().getName().equals("org.jboss.logging.LogCall"))
+                    .map(e -> e.getString("level") + " " + e.getString("format") + " "
+                            + e.getThread().getJavaName())
+                    .collect(Collectors.toList());
+            final String thread = Thread.currentThread().getName();
+            Assertions.assertEquals(List.of("INFO Message %s " + thread, "WARN Supplied " + thread, "ERROR fail " + thread),
+                    calls);
+            final List<String> dispatches = events.stream()
+                    .filter(e -> e.getEventType().getName().equals("org.jboss.logging.LogDispatch"))
+                    .map(e -> e.getString("level") + " " + e.getString("provider"))
+                    .collect(Collectors.toList());
+            Assertions.assertEquals(List.of("INFO " + TestLogger.class.getName(), "WARN " + TestLogger.class.getName(),
+                    "ERROR " + TestLogger.class.getName()), dispatches);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    static class TestLogger extends Logger {
+
+        TestLogger(final String name) {
+            super(name);
+        }
+
+        @Override
+        protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
+                final Throwable thrown) {
+            if ("fail".equals(message)) {
+                throw new IllegalStateException("Expected failure");
+            }
+        }
+
+        @Override
+        protected void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
+                final Throwable thrown) {
+        }
+
+        @Override
+        public boolean isEnabled(final Level level) {
+            return level.compareTo(Level.INFO) <= 0;
+        }
+    }
+}
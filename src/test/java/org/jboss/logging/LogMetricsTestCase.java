@@ -0,0 +1,128 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.logging;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.JMX;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class LogMetricsTestCase {
+
+    @BeforeAll
+    public static void enableMetrics() {
+        System.setProperty(LogMetrics.METRICS_KEY, "true");
+        Assertions.assertTrue(LogMetrics.ENABLED, "The metrics were initialized before the property was set");
+    }
+
+    @Test
+    public void testCounts() throws Exception {
+        final LoggingMetricsMXBean metrics = JMX.newMXBeanProxy(ManagementFactory.getPlatformMBeanServer(),
+                new ObjectName(LoggingMetricsMXBean.OBJECT_NAME), LoggingMetricsMXBean.class);
+        final String category = LogMetricsTestCase.class.getName() + ".counts";
+        final Logger logger = new TestLogger(category);
+        logger.info("logged");
+        logger.infof("logged %s", "again");
+        logger.error("failed", new RuntimeException());
+        logger.log(Logger.Level.ERROR, "failed", new RuntimeException());
+        logger.debug("dropped");
+        logger.tracef("dropped %d", 1);
+        logger.debugf(new RuntimeException(), "dropped %s", "throwable");
+
+        final Map<String, Long> counts = metrics.getCounts(category);
+        Assertions.assertEquals(2L, counts.get("enabled.INFO"));
+        Assertions.assertEquals(2L, counts.get("enabled.ERROR"));
+        Assertions.assertEquals(2L, counts.get("throwable.ERROR"));
+        Assertions.assertEquals(2L, counts.get("disabled.DEBUG"));
+        Assertions.assertEquals(1L, counts.get("disabled.TRACE"));
+        Assertions.assertEquals(0L, counts.get("throwable.DEBUG"));
+        Assertions.assertEquals(4L, metrics.getEnabledCounts().get(category));
+        Assertions.assertEquals(3L, metrics.getDisabledCounts().get(category));
+        Assertions.assertEquals(2L, metrics.getThrowableCounts().get(category));
+        Assertions.assertTrue(List.of(metrics.getCategories()).contains(category));
+
+        // Loggers of the same category share the counters
+        new TestLogger(category).info("logged");
+        Assertions.assertEquals(3L, metrics.getCounts(category).get("enabled.INFO"));
+
+        metrics.reset();
+        Assertions.assertEquals(0L, metrics.getEnabledCounts().get(category));
+        Assertions.assertTrue(metrics.getCounts("unknown").isEmpty());
+    }
+
+    @Test
+    public void testWithoutManagementModule() throws Exception {
+        // Metrics are disabled in the child JVM, so loggers must work without the java.management module
+        final String classPath = Path.of(Logger.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                + File.pathSeparator
+                + Path.of(LogMetricsTestCase.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        final Process process = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "--limit-modules", "java.base,java.logging",
+                "-Dorg.jboss.logging.provider=jdk",
+                "-cp", classPath,
+                NoManagement.class.getName())
+                .redirectErrorStream(true)
+                .start();
+        final String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(process.waitFor(30, TimeUnit.SECONDS), "The child JVM did not exit");
+        Assertions.assertEquals(0, process.exitValue(), output);
+        Assertions.assertTrue(output.contains("logged without management"), output);
+    }
+
+    public static class NoManagement {
+
+        public static void main(final String[] args) {
+            Logger.getLogger(NoManagement.class).info("logged without management");
+        }
+    }
+
+    static class TestLogger extends Logger {
+
+        TestLogger(final String name) {
+            super(name);
+        }
+
+        @Override
+        protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
+                final Throwable thrown) {
+        }
+
+        @Override
+        protected void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
+                final Throwable thrown) {
+        }
+
+        @Override
+        public boolean isEnabled(final Level level) {
+            return level.compareTo(Level.INFO) <= 0;
+        }
+    }
+}
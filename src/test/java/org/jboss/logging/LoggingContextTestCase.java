@@ -0,0 +1,206 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class LoggingContextTestCase {
+
+    @AfterEach
+    public void clear() {
+        MDC.clear();
+        NDC.clear();
+    }
+
+    @Test
+    public void testProviders() throws Exception {
+        check(new JBossLogManagerProvider());
+        check(new JDKLoggerProvider());
+        check(new Log4j2LoggerProvider());
+        check(new Log4jLoggerProvider());
+        check(new Slf4jLoggerProvider());
+    }
+
+    @Test
+    public void testDefaultMethods() throws Exception {
+        check(new LiveMapProvider());
+    }
+
+    @Test
+    public void testWrap() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            MDC.put("key", "submitted");
+            NDC.push("submitter");
+            final CompletableFuture<String> future = CompletableFuture
+                    .supplyAsync(() -> MDC.get("key") + ":" + NDC.get(), LoggingContext.wrap(executor))
+                    .thenApplyAsync(value -> value + ":" + MDC.get("key"), LoggingContext.wrap(executor));
+            Assertions.assertEquals("submitted:submitter:submitted", future.get(5, TimeUnit.SECONDS));
+
+            // The wrapped tasks restore the context the pooled thread had before
+            Assertions.assertNull(executor.submit(() -> MDC.get("key")).get(5, TimeUnit.SECONDS));
+
+            final LoggingContext context = LoggingContext.capture();
+            MDC.put("key", "changed");
+            Assertions.assertEquals("changed", executor.submit(LoggingContext.wrap(() -> MDC.get("key")))
+                    .get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals("submitted", executor.submit(() -> context.call(() -> MDC.get("key")))
+                    .get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals("submitted", context.call(() -> MDC.get("key")));
+            Assertions.assertEquals("changed", MDC.get("key"));
+            context.restore();
+            Assertions.assertEquals("submitted", MDC.get("key"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A provider which relies on the default context methods and returns the live MDC map of the thread.
+     */
+    static class LiveMapProvider implements LoggerProvider {
+        private final ThreadLocal<Map<String, Object>> mdc = ThreadLocal.withInitial(HashMap::new);
+        private final ThreadLocal<Deque<String>> ndc = ThreadLocal.withInitial(ArrayDeque::new);
+
+        @Override
+        public Logger getLogger(final String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clearMdc() {
+            mdc.get().clear();
+        }
+
+        @Override
+        public Object putMdc(final String key, final Object value) {
+            return mdc.get().put(key, value);
+        }
+
+        @Override
+        public Object getMdc(final String key) {
+            return mdc.get().get(key);
+        }
+
+        @Override
+        public void removeMdc(final String key) {
+            mdc.get().remove(key);
+        }
+
+        @Override
+        public Map<String, Object> getMdcMap() {
+            return mdc.get();
+        }
+
+        @Override
+        public void clearNdc() {
+            ndc.get().clear();
+        }
+
+        @Override
+        public String getNdc() {
+            return ndc.get().isEmpty() ? null : String.join(" ", ndc.get());
+        }
+
+        @Override
+        public int getNdcDepth() {
+            return ndc.get().size();
+        }
+
+        @Override
+        public String popNdc() {
+            return ndc.get().isEmpty() ? "" : ndc.get().removeLast();
+        }
+
+        @Override
+        public String peekNdc() {
+            return ndc.get().isEmpty() ? "" : ndc.get().peekLast();
+        }
+
+        @Override
+        public void pushNdc(final String message) {
+            ndc.get().addLast(message);
+        }
+
+        @Override
+        public void setNdcMaxDepth(final int maxDepth) {
+            while (ndc.get().size() > maxDepth) {
+                ndc.get().removeLast();
+            }
+        }
+    }
+
+    private static void check(final LoggerProvider provider) throws Exception {
+        final String name = provider.getClass().getSimpleName();
+        provider.clearMdc();
+        provider.clearNdc();
+        Assertions.assertNull(provider.captureContext(), name);
+
+        provider.putMdc("key1", "value1");
+        provider.pushNdc("first");
+        provider.pushNdc("second");
+        final String ndc = provider.getNdc();
+        final Object context = provider.captureContext();
+
+        provider.putMdc("key1", "changed");
+        provider.putMdc("key2", "value2");
+        provider.popNdc();
+        provider.pushNdc("other");
+
+        final FutureTask<String> task = new FutureTask<>(() -> {
+            provider.restoreContext(context);
+            try {
+                return provider.getMdc("key1") + "|" + provider.getMdc("key2") + "|" + provider.getNdc();
+            } finally {
+                provider.restoreContext(null);
+            }
+        });
+        final Thread thread = new Thread(task);
+        thread.start();
+        Assertions.assertEquals("value1|null|" + ndc, task.get(5, TimeUnit.SECONDS), name);
+
+        // Restoring on the same thread replaces the changed values, the snapshot was not changed by them
+        provider.restoreContext(context);
+        Assertions.assertEquals("value1", provider.getMdc("key1"), name);
+        Assertions.assertNull(provider.getMdc("key2"), name);
+        Assertions.assertEquals(ndc, provider.getNdc(), name);
+        provider.pushNdc("third");
+        provider.restoreContext(context);
+        Assertions.assertEquals(ndc, provider.getNdc(), name);
+
+        provider.restoreContext(null);
+        Assertions.assertNull(provider.getMdc("key1"), name);
+        Assertions.assertEquals(0, provider.getNdcDepth(), name);
+    }
+}
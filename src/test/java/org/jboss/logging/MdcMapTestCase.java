@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.logging;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class MdcMapTestCase {
+
+    @Test
+    public void testWithWithout() {
+        final Map<String, Object> expected = new HashMap<>();
+        MdcMap map = MdcMap.EMPTY;
+        for (int i = 0; i < 20; i++) {
+            map = map.with("key" + i, i);
+            expected.put("key" + i, i);
+        }
+        map = map.with("key5", "replaced").with("nullValue", null);
+        expected.put("key5", "replaced");
+        expected.put("nullValue", null);
+        Assertions.assertEquals(expected, map);
+        Assertions.assertEquals(expected.hashCode(), map.hashCode());
+        Assertions.assertTrue(map.containsKey("nullValue"));
+        Assertions.assertNull(map.get(5));
+
+        for (int i = 0; i < 20; i += 2) {
+            map = map.without("key" + i);
+            expected.remove("key" + i);
+        }
+        Assertions.assertSame(map, map.without("unknown"));
+        Assertions.assertEquals(expected, map);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> MdcMap.EMPTY.with("key", "value").put("a", "b"));
+        Assertions.assertSame(MdcMap.EMPTY, MdcMap.EMPTY.with("key", "value").without("key"));
+    }
+
+    @Test
+    public void testNullKey() {
+        MdcMap map = MdcMap.EMPTY.with("key", "value").with(null, "null key");
+        Assertions.assertEquals("null key", map.get(null));
+        Assertions.assertTrue(map.containsKey(null));
+        Assertions.assertEquals("value", map.get("key"));
+        map = map.with(null, "replaced");
+        Assertions.assertEquals(2, map.size());
+        Assertions.assertEquals("replaced", map.get(null));
+        map = map.without(null);
+        Assertions.assertFalse(map.containsKey(null));
+        Assertions.assertEquals(Map.of("key", "value"), map);
+
+        final JDKLoggerProvider provider = new JDKLoggerProvider();
+        provider.putMdc(null, "value");
+        try {
+            Assertions.assertEquals("value", provider.getMdc(null));
+            Assertions.assertTrue(provider.getMdcMap().containsKey(null));
+        } finally {
+            provider.clearMdc();
+        }
+    }
+
+    @Test
+    public void testSnapshot() {
+        final JDKLoggerProvider provider = new JDKLoggerProvider();
+        provider.putMdc("key1", "value1");
+        final Map<String, Object> snapshot = provider.getMdcMap();
+        Assertions.assertNull(provider.putMdc("key2", "value2"));
+        Assertions.assertEquals("value1", provider.putMdc("key1", "changed"));
+        provider.removeMdc("key2");
+        Assertions.assertEquals(Map.of("key1", "value1"), snapshot);
+        Assertions.assertEquals(Map.of("key1", "changed"), provider.getMdcMap());
+        provider.clearMdc();
+        Assertions.assertTrue(provider.getMdcMap().isEmpty());
+        Assertions.assertEquals(Map.of("key1", "value1"), snapshot);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.text.MessageFormat;
+import java.util.Date;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class MessageTemplateTestCase {
+
+    @Test
+    public void testPlain() {
+        compare("No parameters");
+        compare("{0}", "value");
+        compare("{0} and {1}", "first", null);
+        compare("{1} before {0}, {1} again", "first", "second");
+        compare("Missing {0} {3}", "first");
+        compare("Leading zeros {00}", "first");
+        compare("Lone } brace {0}", "first");
+        compare("{0}", new Object[] { new StringBuilder("builder") });
+        Assertions.assertEquals(MessageFormat.format("Null {0}", (Object[]) null),
+                MessageTemplate.of("Null {0}").format((Object[]) null));
+    }
+
+    @Test
+    public void testFormatted() {
+        compare("{0} items", 1234567);
+        compare("{0,number,#.##} {1}", 3.14159, "pi");
+        compare("{0,choice,0#none|1#one|1<many}", 2);
+        compare("'{0}' is quoted, {0} is not", "value");
+        compare("It''s {0}", "here");
+        compare("{0,date,yyyy}", new Date(0L));
+    }
+
+    @Test
+    public void testFixedArity() {
+        Assertions.assertEquals(MessageFormat.format("{0}", "a"), MessageTemplate.of("{0}").format("a"));
+        Assertions.assertEquals(MessageFormat.format("{0} {1}", "a", 2), MessageTemplate.of("{0} {1}").format("a", 2));
+        Assertions.assertEquals(MessageFormat.format("{2} {1} {0} {3}", "a", "b", "c"),
+                MessageTemplate.of("{2} {1} {0} {3}").format("a", "b", "c"));
+    }
+
+    @Test
+    public void testLocale() {
+        final Locale current = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+            compare("{0} {1,number,#.##}", 1234567, 1.5);
+            Locale.setDefault(Locale.Category.FORMAT, Locale.US);
+            compare("{0} {1,number,#.##}", 1234567, 1.5);
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, current);
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MessageTemplate.of("Unmatched {0").format("value"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MessageTemplate.of("{ 0 }").format("value"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MessageTemplate.of("{0,unknown}").format("value"));
+    }
+
+    private static void compare(final String pattern, final Object... params) {
+        Assertions.assertEquals(MessageFormat.format(pattern, params), MessageTemplate.of(pattern).format(params),
+                () -> "Unexpected output for " + pattern);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class MessagesTestCase {
+
+    @Test
+    public void testBundle() {
+        final TestBundle bundle = Messages.getBundle(MethodHandles.lookup(), TestBundle.class, Locale.ROOT);
+        Assertions.assertSame(TestBundle_$bundle.INSTANCE, bundle);
+        Assertions.assertSame(bundle, Messages.getBundle(MethodHandles.lookup(), TestBundle.class, Locale.ROOT));
+        Assertions.assertSame(TestBundle_$bundle_fr.INSTANCE,
+                Messages.getBundle(MethodHandles.lookup(), TestBundle.class, Locale.CANADA_FRENCH));
+        // Falls back to the default implementation
+        Assertions.assertSame(bundle, Messages.getBundle(MethodHandles.lookup(), TestBundle.class, Locale.GERMANY));
+    }
+
+    @Test
+    public void testBundleNotFound() {
+        for (int i = 0; i < 2; i++) {
+            final IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> Messages.getBundle(MethodHandles.lookup(), MissingBundle.class, Locale.ROOT));
+            Assertions.assertTrue(e.getMessage().contains("implementation not found"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testMessageLogger() {
+        final TestLogger first = Logger.getMessageLogger(MethodHandles.lookup(), TestLogger.class, "test.category");
+        final TestLogger second = Logger.getMessageLogger(MethodHandles.lookup(), TestLogger.class, "test.category");
+        Assertions.assertEquals(TestLogger_$logger.class, first.getClass());
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals("test.category", ((TestLogger_$logger) first).log.getName());
+    }
+
+    @Test
+    public void testMessageLoggerNotFound() {
+        for (int i = 0; i < 2; i++) {
+            final IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> Logger.getMessageLogger(MethodHandles.lookup(), MissingBundle.class, "test.category"));
+            Assertions.assertTrue(e.getMessage().contains("implementation not found"), e.getMessage());
+        }
+    }
+
+    public interface TestBundle {
+        String message();
+    }
+
+    public interface MissingBundle {
+    }
+
+    public interface TestLogger extends BasicLogger {
+    }
+
+    public static class TestBundle_$bundle implements TestBundle {
+        public static final TestBundle_$bundle INSTANCE = new TestBundle_$bundle();
+
+        @Override
+        public String message() {
+            return "message";
+        }
+    }
+
+    public static class TestBundle_$bundle_fr extends TestBundle_$bundle {
+        public static final TestBundle_$bundle_fr INSTANCE = new TestBundle_$bundle_fr();
+
+        @Override
+        public String message() {
+            return "le message";
+        }
+    }
+
+    public static class TestLogger_$logger extends DelegatingBasicLogger implements TestLogger {
+        public TestLogger_$logger(final Logger logger) {
+            super(logger);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.StringJoiner;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class NdcStackTestCase {
+
+    @Test
+    public void testMerged() {
+        final JDKLoggerProvider provider = new JDKLoggerProvider();
+        Assertions.assertNull(provider.getNdc());
+        Assertions.assertEquals("", provider.peekNdc());
+        Assertions.assertEquals("", provider.popNdc());
+
+        final StringJoiner expected = new StringJoiner(" ");
+        for (int i = 0; i < 1000; i++) {
+            provider.pushNdc("level" + i);
+            expected.add("level" + i);
+            // Reads at some depths only, so rendering continues from partly rendered stacks
+            if (i % 97 == 0) {
+                Assertions.assertEquals(expected.toString(), provider.getNdc());
+            }
+        }
+        Assertions.assertEquals(1000, provider.getNdcDepth());
+        Assertions.assertEquals(expected.toString(), provider.getNdc());
+        Assertions.assertSame(provider.getNdc(), provider.getNdc());
+
+        provider.setNdcMaxDepth(2);
+        Assertions.assertEquals("level0 level1", provider.getNdc());
+        Assertions.assertEquals("level1", provider.popNdc());
+        provider.pushNdc("");
+        provider.pushNdc("top");
+        Assertions.assertEquals("level0  top", provider.getNdc());
+        Assertions.assertEquals("top", provider.peekNdc());
+        provider.clearNdc();
+        Assertions.assertEquals(0, provider.getNdcDepth());
+        Assertions.assertNull(provider.getNdc());
+    }
+
+    @Test
+    public void testNullMessages() {
+        final JDKLoggerProvider provider = new JDKLoggerProvider();
+        provider.pushNdc(null);
+        Assertions.assertNull(provider.getNdc());
+        Assertions.assertNull(provider.peekNdc());
+        provider.pushNdc("b");
+        Assertions.assertEquals("null b", provider.getNdc());
+        provider.clearNdc();
+
+        provider.pushNdc("a");
+        provider.pushNdc(null);
+        provider.pushNdc("b");
+        Assertions.assertEquals("a null b", provider.getNdc());
+        Assertions.assertEquals("b", provider.popNdc());
+        Assertions.assertEquals("a null", provider.getNdc());
+        Assertions.assertNull(provider.popNdc());
+        Assertions.assertEquals("a", provider.getNdc());
+        provider.clearNdc();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.Calendar;
+import java.util.IllegalFormatException;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class PrintfTemplateTestCase {
+
+    @Test
+    public void testPlain() {
+        compare("No parameters");
+        compare("%s", "value");
+        compare("%d", 42);
+        compare("%d", -42L);
+        compare("%s and %s", "first", null);
+        compare("%s, %d and %s", "first", 2, 3L);
+        compare("100%% %n done");
+        compare("%d", (short) 7);
+        compare("%d", (byte) -7);
+    }
+
+    @Test
+    public void testSpecifiers() {
+        compare("%5s|%-5s|%.2s", "a", "b", "three");
+        compare("%08.3f", 3.14159);
+        compare("%x %X %o", 255, 255L, 8);
+        compare("%,d", 1234567);
+        compare("%+d %(d", 5, -5);
+        compare("%S %b %c", "upper", null, 'c');
+        compare("%2$s %1$s %<s", "first", "second");
+        compare("%s %<s %s", "first", "second");
+        compare("%-4%|%n");
+        assertSameException("%3n");
+        compare("%tY-%<tm-%<td", new Calendar.Builder().setDate(2023, Calendar.MARCH, 7).build());
+        compare("%h", "hash");
+        compare("%e %g %a", 1.5, 2.5, 3.5);
+    }
+
+    @Test
+    public void testPrimitives() {
+        Assertions.assertEquals(String.format("%d", 1), PrintfTemplate.of("%d").format(1));
+        Assertions.assertEquals(String.format("%s", Long.MIN_VALUE), PrintfTemplate.of("%s").format(Long.MIN_VALUE));
+        Assertions.assertEquals(String.format("%d %d", 1, 2), PrintfTemplate.of("%d %d").format(1, 2));
+        Assertions.assertEquals(String.format("%5d %s", 1L, "x"), PrintfTemplate.of("%5d %s").format(1L, "x"));
+        Assertions.assertEquals(String.format("%x-%x-%x", 10, 11, 12), PrintfTemplate.of("%x-%x-%x").format(10, 11, 12));
+        Assertions.assertEquals(String.format("%d %s %s", 1L, "a", null), PrintfTemplate.of("%d %s %s").format(1L, "a", null));
+    }
+
+    @Test
+    public void testLocale() {
+        final Locale current = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.forLanguageTag("ar-EG-u-nu-arab"));
+            compare("%d and %d", 1234, -5L);
+            Assertions.assertEquals(String.format("%d", 1234), PrintfTemplate.of("%d").format(1234));
+            Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+            compare("%,d %.2f", 1234567, 1.5);
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, current);
+        }
+    }
+
+    @Test
+    public void testNested() {
+        final Object nested = new Object() {
+            @Override
+            public String toString() {
+                return PrintfTemplate.of("[%s]").format("inner");
+            }
+        };
+        Assertions.assertEquals("outer [inner] end", PrintfTemplate.of("outer %s end").format(nested));
+    }
+
+    @Test
+    public void testInvalid() {
+        assertSameException("%q", "value");
+        assertSameException("%s %s", "value");
+        assertSameException("%<s", "value");
+        assertSameException("%d", "value");
+        assertSameException("%.f", 1.0);
+        assertSameException("trailing %", "value");
+    }
+
+    private static void compare(final String format, final Object... params) {
+        Assertions.assertEquals(String.format(format, params), PrintfTemplate.of(format).format(params),
+                () -> "Unexpected output for " + format);
+    }
+
+    private static void assertSameException(final String format, final Object... params) {
+        final IllegalFormatException expected = Assertions.assertThrows(IllegalFormatException.class,
+                () -> String.format(format, params));
+        final IllegalFormatException actual = Assertions.assertThrows(IllegalFormatException.class,
+                () -> PrintfTemplate.of(format).format(params));
+        Assertions.assertEquals(expected.getClass(), actual.getClass(), () -> "Unexpected exception for " + format);
+    }
+}
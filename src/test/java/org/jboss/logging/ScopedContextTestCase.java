@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class ScopedContextTestCase {
+
+    @AfterEach
+    public void clear() {
+        MDC.clear();
+        NDC.clear();
+    }
+
+    @Test
+    public void testRun() {
+        MDC.put("existing", "before");
+        NDC.push("outer");
+        MDC.where("existing", "scoped").where("added", 1).push("inner").run(() -> {
+            Assertions.assertEquals("scoped", MDC.get("existing"));
+            Assertions.assertEquals(1, MDC.get("added"));
+            Assertions.assertEquals("outer inner", NDC.get());
+            Assertions.assertEquals(2, NDC.getDepth());
+            MDC.put("changed", "inside");
+            NDC.push("unbalanced");
+        });
+        Assertions.assertEquals("before", MDC.get("existing"));
+        Assertions.assertNull(MDC.get("added"));
+        Assertions.assertEquals("outer", NDC.get());
+        Assertions.assertEquals(1, NDC.getDepth());
+    }
+
+    @Test
+    public void testCall() throws Exception {
+        final String result = NDC.where("first").push("second").call(() -> NDC.peek() + '/' + NDC.get());
+        Assertions.assertEquals("second/first second", result);
+        Assertions.assertEquals(0, NDC.getDepth());
+
+        final IOException expected = new IOException("expected");
+        final IOException thrown = Assertions.assertThrows(IOException.class, () -> MDC.where("key", "value").call(() -> {
+            throw expected;
+        }));
+        Assertions.assertSame(expected, thrown);
+        Assertions.assertNull(MDC.get("key"));
+    }
+
+    @Test
+    public void testNested() {
+        final ScopedContext context = MDC.where("key", "outer");
+        context.run(() -> {
+            context.where("key", "inner").push("nested").run(() -> {
+                Assertions.assertEquals("inner", MDC.get("key"));
+                Assertions.assertEquals("nested", NDC.get());
+            });
+            Assertions.assertEquals("outer", MDC.get("key"));
+            Assertions.assertNull(NDC.get());
+        });
+        Assertions.assertNull(MDC.get("key"));
+        Assertions.assertThrows(NullPointerException.class, () -> MDC.where("key", null));
+    }
+
+    @Test
+    public void testAbstractProviders() throws Exception {
+        final JDKLoggerProvider provider = new JDKLoggerProvider();
+        provider.putMdc("existing", "before");
+        provider.pushNdc("outer");
+        final Map<String, Object> mdc = MDC.where("added", "value").push("inner").call(provider, () -> {
+            Assertions.assertEquals("outer inner", provider.getNdc());
+            Assertions.assertEquals("inner", provider.popNdc());
+            Assertions.assertEquals("outer", provider.peekNdc());
+            provider.pushNdc("replaced");
+            provider.pushNdc("top");
+            provider.setNdcMaxDepth(2);
+            Assertions.assertEquals("outer replaced", provider.getNdc());
+            return provider.getMdcMap();
+        });
+        Assertions.assertEquals(Map.of("existing", "before", "added", "value"), mdc);
+        Assertions.assertEquals(Map.of("existing", "before"), provider.getMdcMap());
+        Assertions.assertEquals("outer", provider.getNdc());
+        Assertions.assertEquals(1, provider.getNdcDepth());
+        Assertions.assertEquals("outer", provider.popNdc());
+        Assertions.assertEquals("", provider.popNdc());
+        Assertions.assertNull(provider.getNdc());
+    }
+}
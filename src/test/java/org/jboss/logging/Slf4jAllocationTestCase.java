@@ -0,0 +1,58 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.logging;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class Slf4jAllocationTestCase extends AbstractAllocationTestCase {
+
+    @BeforeAll
+    public static void setup() {
+        System.setProperty("org.jboss.logging.provider", "slf4j");
+    }
+
+    @Override
+    void configure(final String name) {
+        final ch.qos.logback.classic.Logger lbLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(name);
+        lbLogger.setLevel(Level.INFO);
+        lbLogger.setAdditive(false);
+        lbLogger.detachAndStopAllAppenders();
+        final NOPAppender<ILoggingEvent> appender = new NOPAppender<>();
+        appender.setContext(lbLogger.getLoggerContext());
+        appender.start();
+        lbLogger.addAppender(appender);
+    }
+
+    @Override
+    long enabledBudget() {
+        return 512L;
+    }
+
+    @Override
+    long enabledThrowableBudget() {
+        return 8192L;
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.jboss.logging;
 
+import java.text.MessageFormat;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
@@ -79,6 +80,35 @@ public class Slf4jProviderTestCase extends AbstractLoggerTestCase {
         Assertions.assertEquals("value1", NDC.get());
     }
 
+    @Test
+    public void testParameters() {
+        logger.infov("Parameters {0} and {1}", "first", 'c');
+        ILoggingEvent event = appender.queue.poll();
+        Assertions.assertNotNull(event, "No record found");
+        Assertions.assertEquals("Parameters {} and {}", event.getMessage());
+        Assertions.assertArrayEquals(new Object[] { "first", 'c' }, event.getArgumentArray());
+        Assertions.assertEquals("Parameters first and c", event.getFormattedMessage());
+
+        logger.infof("Parameters %s and %s", "first", true);
+        event = appender.queue.poll();
+        Assertions.assertNotNull(event, "No record found");
+        Assertions.assertEquals("Parameters {} and {}", event.getMessage());
+        Assertions.assertEquals("Parameters first and true", event.getFormattedMessage());
+
+        // Numbers are formatted by MessageFormat
+        logger.infov("Number {0}", 1234567);
+        event = appender.queue.poll();
+        Assertions.assertNotNull(event, "No record found");
+        Assertions.assertEquals(MessageFormat.format("Number {0}", 1234567), event.getMessage());
+        Assertions.assertEquals(event.getMessage(), event.getFormattedMessage());
+
+        // Placeholders out of order are formatted before being passed on
+        logger.infov("{1} {0}", "first", "second");
+        event = appender.queue.poll();
+        Assertions.assertNotNull(event, "No record found");
+        Assertions.assertEquals("second first", event.getFormattedMessage());
+    }
+
     @Override
     void testLog(final Logger.Level level) {
         final String msg = String.format("Test log message at %s", level);
@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
+ */
+public class SupplierTestCase {
+
+    @Test
+    public void testSuppliedOnlyWhenEnabled() {
+        final InfoLogger logger = new InfoLogger();
+        final BasicLogger delegating = new DelegatingBasicLogger(logger);
+        final Supplier<Object> failing = () -> Assertions.fail("Supplier invoked for a disabled level");
+
+        logger.debugLazy(failing);
+        logger.tracefLazy("Disabled %s", failing);
+        logger.logLazy(Logger.Level.DEBUG, failing, new RuntimeException());
+        delegating.debugfLazy(new RuntimeException(), "Disabled %s %s %s", failing, failing, failing);
+        Assertions.assertTrue(logger.messages.isEmpty());
+
+        logger.infoLazy(() -> "message");
+        logger.warnfLazy("Parameters %s and %s", () -> "first", () -> 2);
+        delegating.logfLazy(Logger.Level.ERROR, "Delegated %s", () -> "parameter");
+        logger.fatalLazy(null);
+        Assertions.assertEquals(List.of("message", "Parameters first and 2", "Delegated parameter", "null"),
+                logger.messages);
+    }
+
+    @Test
+    public void testSupplierObjectsAreParameters() {
+        final InfoLogger logger = new InfoLogger();
+        final Supplier<String> value = new Supplier<>() {
+            @Override
+            public String get() {
+                return "supplied";
+            }
+
+            @Override
+            public String toString() {
+                return "value";
+            }
+        };
+        // Only the Lazy methods invoke a supplier, other methods log it as any other object
+        logger.info(value);
+        logger.infof("Parameter %s", value);
+        logger.infof("Parameter %s", (Object) null);
+        Assertions.assertEquals(List.of("value", "Parameter value", "Parameter null"), logger.messages);
+    }
+
+    static class InfoLogger extends Logger {
+        final List<String> messages = new ArrayList<>();
+
+        InfoLogger() {
+            super(SupplierTestCase.class.getName());
+        }
+
+        @Override
+        protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
+                final Throwable thrown) {
+            if (isEnabled(level)) {
+                messages.add(String.valueOf(message));
+            }
+        }
+
+        @Override
+        protected void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
+                final Throwable thrown) {
+            if (isEnabled(level)) {
+                messages.add(String.format(format, parameters));
+            }
+        }
+
+        @Override
+        public boolean isEnabled(final Level level) {
+            return level.compareTo(Level.INFO) <= 0;
+        }
+    }
+}